@@ -15,11 +15,16 @@
  */
 package net.automatalib.automaton;
 
+import java.util.List;
 import java.util.function.IntFunction;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.abstraction.UniversalDeterministicAbstractions;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.ts.UniversalDTS;
+import net.automatalib.word.IntWord;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -140,6 +145,70 @@ public interface UniversalDeterministicAutomaton<S, I, T, SP, TP>
             return null;
         }
 
+        /**
+         * Reads the given sequence of (abstracted) inputs, starting from the given (abstracted) state, and collects the
+         * properties of the traversed transitions (e.g., the outputs of a Mealy machine). The traversal stops at the
+         * first undefined transition.
+         *
+         * @param state
+         *         the integer representing the source state
+         * @param input
+         *         the integers representing the input symbols, e.g., an {@link IntWord}
+         * @param output
+         *         the list to which the transition properties are added
+         *
+         * @return {@code true} if all transitions were defined, {@code false} otherwise
+         */
+        default boolean traceOutputs(int state, IntSeq input, List<? super TP> output) {
+            final int len = input.size();
+            int curr = state;
+
+            for (int i = 0; i < len; i++) {
+                final T trans = curr < 0 ? null : getTransition(curr, input.get(i));
+                if (trans == null) {
+                    return false;
+                }
+                output.add(getTransitionProperty(trans));
+                curr = getIntSuccessor(trans);
+            }
+
+            return true;
+        }
+
+        /**
+         * Computes the word of transition properties (e.g., the output of a Mealy machine) for the given sequence of
+         * (abstracted) inputs, starting from the given (abstracted) state. If an undefined transition is encountered,
+         * the properties up to this point are returned.
+         *
+         * @param state
+         *         the integer representing the source state
+         * @param input
+         *         the integers representing the input symbols, e.g., an {@link IntWord}
+         *
+         * @return the word of transition properties
+         */
+        default Word<TP> computeOutputs(int state, IntSeq input) {
+            final WordBuilder<TP> result = new WordBuilder<>(input.size());
+            traceOutputs(state, input, result);
+            return result.toWord();
+        }
+
+        /**
+         * Computes the word of transition properties (e.g., the output of a Mealy machine) for the given sequence of
+         * (abstracted) inputs, starting from the initial state.
+         *
+         * @param input
+         *         the integers representing the input symbols, e.g., an {@link IntWord}
+         *
+         * @return the word of transition properties
+         *
+         * @see #computeOutputs(int, IntSeq)
+         */
+        default Word<TP> computeOutputs(IntSeq input) {
+            final int init = getIntInitialState();
+            return init < 0 ? Word.epsilon() : computeOutputs(init, input);
+        }
+
     }
 }
 
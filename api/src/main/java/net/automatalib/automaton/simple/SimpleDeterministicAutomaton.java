@@ -20,7 +20,9 @@ import java.util.function.IntFunction;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.abstraction.SimpleDeterministicAbstractions;
 import net.automatalib.automaton.concept.FiniteRepresentation;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.ts.simple.SimpleDTS;
+import net.automatalib.word.IntWord;
 
 /**
  * A simple deterministic automaton.
@@ -150,6 +152,44 @@ public interface SimpleDeterministicAutomaton<S, I> extends SimpleAutomaton<S, I
          */
         int numInputs();
 
+        /**
+         * Retrieves the (abstracted) state reached by reading the given sequence of (abstracted) inputs, starting from
+         * the given (abstracted) state.
+         *
+         * @param state
+         *         the integer representing the source state
+         * @param input
+         *         the integers representing the input symbols, e.g., an {@link IntWord}
+         *
+         * @return the integer representing the reached state, or {@link IntAbstraction#INVALID_STATE} if an undefined
+         * transition was encountered.
+         */
+        default int getIntSuccessor(int state, IntSeq input) {
+            final int len = input.size();
+            int curr = state;
+
+            for (int i = 0; i < len && curr >= 0; i++) {
+                curr = getSuccessor(curr, input.get(i));
+            }
+
+            return curr < 0 ? INVALID_STATE : curr;
+        }
+
+        /**
+         * Retrieves the (abstracted) state reached by reading the given sequence of (abstracted) inputs, starting from
+         * the initial state.
+         *
+         * @param input
+         *         the integers representing the input symbols, e.g., an {@link IntWord}
+         *
+         * @return the integer representing the reached state, or {@link IntAbstraction#INVALID_STATE} if there is no
+         * initial state or an undefined transition was encountered.
+         */
+        default int getIntState(IntSeq input) {
+            final int init = getIntInitialState();
+            return init < 0 ? INVALID_STATE : getIntSuccessor(init, input);
+        }
+
     }
 
 }
@@ -0,0 +1,283 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A rope-like word that represents the concatenation of two other words without copying their symbols. This allows
+ * for constant-time concatenations (e.g., when repeatedly combining prefixes, middle parts, and suffixes of test
+ * words).
+ * <p>
+ * All operations directly operate on the two parts: random access (e.g., {@link #getSymbol(int)}) descends the
+ * (depth-bounded) tree of concatenations, sequential access (e.g., iteration, {@link #writeToArray(int, Object[], int,
+ * int)} or {@link #equals(Object)}) traverses its leaves, and the hash code is combined from the hash codes of the
+ * parts. No flat copy of the symbols is retained, so that a concatenation (e.g., used as a key of a hash map) never
+ * requires more memory than its parts. In order to bound the depth of nested concatenations, concatenations that would
+ * exceed {@link #MAX_DEPTH} are flattened eagerly.
+ *
+ * @param <I>
+ *         symbol type
+ */
+final class ConcatWord<I> extends Word<I> {
+
+    /**
+     * The minimum length of a concatenation for which a rope node is created. Shorter words are copied directly, since
+     * this is cheaper than maintaining the tree structure.
+     */
+    static final int MIN_LENGTH = 32;
+
+    /**
+     * The maximum depth of nested concatenations.
+     */
+    static final int MAX_DEPTH = 48;
+
+    private final Word<I> left;
+    private final Word<I> right;
+    private final int length;
+    private final int depth;
+
+    // lazily computed value (benign data race)
+    private int hash;
+
+    private ConcatWord(Word<I> left, Word<I> right, int depth) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.depth = depth;
+    }
+
+    /**
+     * Concatenates the two given words. Depending on the length of the result and the depth of the given words, the
+     * result is either a (constant-time) {@link ConcatWord} or a flat, array-based word.
+     *
+     * @param left
+     *         the first word
+     * @param right
+     *         the second word
+     * @param <I>
+     *         symbol type
+     *
+     * @return the concatenation of the two words
+     */
+    static <I> Word<I> of(Word<? extends I> left, Word<? extends I> right) {
+        final int leftLen = left.length();
+        final int rightLen = right.length();
+
+        if (rightLen == 0) {
+            return Word.upcast(left);
+        } else if (leftLen == 0) {
+            return Word.upcast(right);
+        }
+
+        final int depth = Math.max(depthOf(left), depthOf(right)) + 1;
+
+        if (leftLen + rightLen < MIN_LENGTH || depth > MAX_DEPTH) {
+            final Object[] array = new Object[leftLen + rightLen];
+            left.writeToArray(0, array, 0, leftLen);
+            right.writeToArray(0, array, leftLen, rightLen);
+            return new SharedWord<>(array);
+        }
+
+        return new ConcatWord<>(Word.upcast(left), Word.upcast(right), depth);
+    }
+
+    private static int depthOf(Word<?> word) {
+        return word instanceof ConcatWord ? ((ConcatWord<?>) word).depth : 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public I getSymbol(int index) {
+        Word<I> word = this;
+        int idx = index;
+
+        while (word instanceof ConcatWord) {
+            final ConcatWord<I> cw = (ConcatWord<I>) word;
+            final int leftLen = cw.left.length();
+            if (idx < leftLen) {
+                word = cw.left;
+            } else {
+                idx -= leftLen;
+                word = cw.right;
+            }
+        }
+
+        return word.getSymbol(idx);
+    }
+
+    @Override
+    public I firstSymbol() {
+        return left.firstSymbol();
+    }
+
+    @Override
+    public I lastSymbol() {
+        return right.lastSymbol();
+    }
+
+    @Override
+    public java.util.Iterator<I> iterator() {
+        return new Iterator<>(this);
+    }
+
+    @Override
+    public void writeToArray(int offset, @Nullable Object[] array, int tgtOffset, int num) {
+        final int leftLen = left.length();
+        final int end = offset + num;
+
+        if (offset < leftLen) {
+            final int leftNum = Math.min(end, leftLen) - offset;
+            left.writeToArray(offset, array, tgtOffset, leftNum);
+        }
+        if (end > leftLen) {
+            final int rightOfs = Math.max(offset - leftLen, 0);
+            right.writeToArray(rightOfs, array, tgtOffset + Math.max(leftLen - offset, 0), end - leftLen - rightOfs);
+        }
+    }
+
+    @Override
+    protected Word<I> subWordInternal(int fromIndex, int toIndex) {
+        final int leftLen = left.length();
+
+        if (toIndex <= leftLen) {
+            return left.subWord(fromIndex, toIndex);
+        } else if (fromIndex >= leftLen) {
+            return right.subWord(fromIndex - leftLen, toIndex - leftLen);
+        }
+
+        return ConcatWord.of(left.subWord(fromIndex), right.prefix(toIndex - leftLen));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            // Word#hashCode is a polynomial hash: hash(uv) = (hash(u) - 5) * 89^|v| + hash(v)
+            h = (left.hashCode() - 5) * pow89(right.length()) + right.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Word)) {
+            return false;
+        }
+
+        final Word<?> that = (Word<?>) other;
+        if (length != that.length()) {
+            return false;
+        }
+        // both types cache their hash codes, so this check is cheap for repeated comparisons (e.g., in hash maps)
+        if ((that instanceof ConcatWord || that instanceof SharedWord) && hashCode() != that.hashCode()) {
+            return false;
+        }
+
+        // element-wise comparison via iterators
+        return super.equals(that);
+    }
+
+    @Override
+    public Word<I> flatten() {
+        final Object[] array = new Object[length];
+        writeToArray(0, array, 0, length);
+        return new SharedWord<>(array);
+    }
+
+    @Override
+    public Word<I> trimmed() {
+        return flatten();
+    }
+
+    private static int pow89(int exp) {
+        int result = 1;
+        int base = 89;
+        int e = exp;
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            e >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Iterator that traverses the (non-rope) leaves of a {@link ConcatWord} from left to right.
+     *
+     * @param <I>
+     *         symbol type
+     */
+    private static final class Iterator<I> implements java.util.Iterator<I> {
+
+        private final Deque<Word<I>> pending;
+        private java.util.Iterator<I> current;
+
+        Iterator(ConcatWord<I> word) {
+            this.pending = new ArrayDeque<>(word.depth + 1);
+            this.pending.push(word);
+            this.current = advance();
+        }
+
+        private java.util.Iterator<I> advance() {
+            while (!pending.isEmpty()) {
+                Word<I> next = pending.pop();
+                while (next instanceof ConcatWord) {
+                    final ConcatWord<I> cw = (ConcatWord<I>) next;
+                    pending.push(cw.right);
+                    next = cw.left;
+                }
+                final java.util.Iterator<I> it = next.iterator();
+                if (it.hasNext()) {
+                    return it;
+                }
+            }
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current.hasNext()) {
+                return true;
+            }
+            current = advance();
+            return current.hasNext();
+        }
+
+        @Override
+        public I next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
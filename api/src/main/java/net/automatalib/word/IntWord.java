@@ -0,0 +1,397 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable word over integer-encoded symbols, e.g., the {@link Alphabet#getSymbolIndex(Object) indices} of the
+ * symbols of an alphabet. In contrast to a {@link Word} of {@link Integer}s, this class stores its symbols as primitive
+ * values and therefore allows algorithms that operate on integer abstractions of automata (e.g., {@link
+ * net.automatalib.automaton.simple.SimpleDeterministicAutomaton.FullIntAbstraction}) to process words without boxing
+ * and without repeated symbol-to-index lookups.
+ * <p>
+ * Depending on the largest symbol, the symbols are stored in a {@code byte[]} (for symbols up to {@code 255}), a
+ * {@code short[]} (for symbols up to {@code 65535}), or an {@code int[]}. Similar to {@link Word}s, sub-words share the
+ * storage of their original word. Note that only non-negative symbols are supported.
+ */
+public abstract class IntWord implements IntSeq {
+
+    private static final IntWord EMPTY = new ByteIntWord(new byte[0], 0, 0);
+
+    // lazily computed hash code, 0 if not computed yet (benign data race, see String#hashCode)
+    private int hash;
+
+    IntWord() {
+        // only allow package-private subclasses
+    }
+
+    /**
+     * Returns the empty integer word.
+     *
+     * @return the empty integer word
+     */
+    public static IntWord epsilon() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an integer word from the given symbols. The symbols are copied into a storage that is as compact as
+     * possible.
+     *
+     * @param symbols
+     *         the (non-negative) symbols
+     *
+     * @return the integer word containing the given symbols
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given symbols is negative
+     */
+    public static IntWord of(int... symbols) {
+        return fromIntSeq(IntSeq.of(symbols));
+    }
+
+    /**
+     * Creates an integer word from the given sequence of symbols. The symbols are copied into a storage that is as
+     * compact as possible.
+     *
+     * @param symbols
+     *         the (non-negative) symbols
+     *
+     * @return the integer word containing the given symbols
+     *
+     * @throws IllegalArgumentException
+     *         if any of the given symbols is negative
+     */
+    public static IntWord fromIntSeq(IntSeq symbols) {
+        if (symbols instanceof IntWord) {
+            return (IntWord) symbols;
+        }
+
+        final int len = symbols.size();
+        if (len == 0) {
+            return EMPTY;
+        }
+
+        int max = 0;
+        for (int i = 0; i < len; i++) {
+            final int sym = symbols.get(i);
+            if (sym < 0) {
+                throw new IllegalArgumentException("Negative symbol at index " + i + ": " + sym);
+            }
+            max = Math.max(max, sym);
+        }
+
+        if (max <= ByteIntWord.MAX_SYMBOL) {
+            final byte[] storage = new byte[len];
+            for (int i = 0; i < len; i++) {
+                storage[i] = (byte) symbols.get(i);
+            }
+            return new ByteIntWord(storage, 0, len);
+        } else if (max <= ShortIntWord.MAX_SYMBOL) {
+            final short[] storage = new short[len];
+            for (int i = 0; i < len; i++) {
+                storage[i] = (short) symbols.get(i);
+            }
+            return new ShortIntWord(storage, 0, len);
+        } else {
+            final int[] storage = new int[len];
+            for (int i = 0; i < len; i++) {
+                storage[i] = symbols.get(i);
+            }
+            return new ArrayIntWord(storage, 0, len);
+        }
+    }
+
+    /**
+     * Creates an integer word from the given word by translating each symbol via the given function.
+     *
+     * @param word
+     *         the word
+     * @param toInt
+     *         the function for translating a symbol to a (non-negative) integer, e.g., an {@link Alphabet}
+     * @param <I>
+     *         symbol type
+     *
+     * @return the integer word representing the given word
+     *
+     * @throws IllegalArgumentException
+     *         if any of the translated symbols is negative
+     */
+    public static <I> IntWord fromWord(Word<? extends I> word, ToIntFunction<? super I> toInt) {
+        return fromIntSeq(IntSeq.of(word.toIntArray(toInt)));
+    }
+
+    /**
+     * Returns the length of this word.
+     *
+     * @return the length of this word
+     */
+    public final int length() {
+        return size();
+    }
+
+    /**
+     * Checks whether this word is empty.
+     *
+     * @return {@code true} if this word is empty, {@code false} otherwise
+     */
+    public final boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the sub-word in the given range. The returned word shares the storage of this word.
+     *
+     * @param fromIndex
+     *         the first index, inclusive
+     * @param toIndex
+     *         the last index, exclusive
+     *
+     * @return the sub-word in the given range
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the given range is invalid
+     */
+    public final IntWord subWord(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException("Invalid subword range [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return EMPTY;
+        }
+        return subWordInternal(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the prefix of the given length.
+     *
+     * @param length
+     *         the length of the prefix
+     *
+     * @return the prefix of the given length
+     *
+     * @see #subWord(int, int)
+     */
+    public final IntWord prefix(int length) {
+        return subWord(0, length);
+    }
+
+    /**
+     * Returns the suffix starting at the given index.
+     *
+     * @param fromIndex
+     *         the first index of the suffix, inclusive
+     *
+     * @return the suffix starting at the given index
+     *
+     * @see #subWord(int, int)
+     */
+    public final IntWord suffix(int fromIndex) {
+        return subWord(fromIndex, size());
+    }
+
+    abstract IntWord subWordInternal(int fromIndex, int toIndex);
+
+    /**
+     * Returns the symbols of this word as a (newly allocated) array.
+     *
+     * @return the symbols of this word
+     */
+    public int[] toIntArray() {
+        final int len = size();
+        final int[] result = new int[len];
+        for (int i = 0; i < len; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Translates this word to a {@link Word} by translating each symbol via the given function.
+     *
+     * @param toSymbol
+     *         the function for translating an integer to a symbol, e.g., an {@link Alphabet}
+     * @param <I>
+     *         symbol type
+     *
+     * @return the translated word
+     */
+    public <I> Word<I> toWord(IntFunction<? extends I> toSymbol) {
+        final int len = size();
+        final WordBuilder<I> wb = new WordBuilder<>(len);
+        for (int i = 0; i < len; i++) {
+            wb.append(toSymbol.apply(get(i)));
+        }
+        return wb.toWord();
+    }
+
+    @Override
+    public final int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 5;
+            final int len = size();
+            for (int i = 0; i < len; i++) {
+                h = 89 * h + get(i);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public final boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntWord)) {
+            return false;
+        }
+
+        final IntWord that = (IntWord) obj;
+        final int len = size();
+        if (len != that.size()) {
+            return false;
+        }
+
+        final int thisHash = hash, thatHash = that.hash;
+        if (thisHash != 0 && thatHash != 0 && thisHash != thatHash) {
+            return false;
+        }
+
+        for (int i = 0; i < len; i++) {
+            if (get(i) != that.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        final int len = size();
+        for (int i = 0; i < len; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class ByteIntWord extends IntWord {
+
+        static final int MAX_SYMBOL = 0xFF;
+
+        private final byte[] storage;
+        private final int offset;
+        private final int length;
+
+        ByteIntWord(byte[] storage, int offset, int length) {
+            this.storage = storage;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public int get(int index) {
+            return storage[offset + index] & MAX_SYMBOL;
+        }
+
+        @Override
+        IntWord subWordInternal(int fromIndex, int toIndex) {
+            return new ByteIntWord(storage, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    private static final class ShortIntWord extends IntWord {
+
+        static final int MAX_SYMBOL = 0xFFFF;
+
+        private final short[] storage;
+        private final int offset;
+        private final int length;
+
+        ShortIntWord(short[] storage, int offset, int length) {
+            this.storage = storage;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public int get(int index) {
+            return storage[offset + index] & MAX_SYMBOL;
+        }
+
+        @Override
+        IntWord subWordInternal(int fromIndex, int toIndex) {
+            return new ShortIntWord(storage, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    private static final class ArrayIntWord extends IntWord {
+
+        private final int[] storage;
+        private final int offset;
+        private final int length;
+
+        ArrayIntWord(int[] storage, int offset, int length) {
+            this.storage = storage;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public int get(int index) {
+            return storage[offset + index];
+        }
+
+        @Override
+        IntWord subWordInternal(int fromIndex, int toIndex) {
+            return new ArrayIntWord(storage, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public int[] toIntArray() {
+            final int[] result = new int[length];
+            System.arraycopy(storage, offset, result, 0, length);
+            return result;
+        }
+    }
+}
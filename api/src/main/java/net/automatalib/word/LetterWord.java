@@ -51,6 +51,24 @@ final class LetterWord<I> extends Word<I> {
         return 1;
     }
 
+    @Override
+    public int hashCode() {
+        // equivalent to Word#hashCode but without instantiating an iterator
+        return 5 * 89 + ((letter != null) ? letter.hashCode() : 0);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Word)) {
+            return false;
+        }
+        final Word<?> that = (Word<?>) other;
+        return that.length() == 1 && Objects.equals(letter, that.firstSymbol());
+    }
+
     @Override
     public java.util.Iterator<I> iterator() {
         return new Iterator<>(letter);
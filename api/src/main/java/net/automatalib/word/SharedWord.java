@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Spliterator;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -35,6 +36,8 @@ final class SharedWord<I> extends Word<I> {
     private final I[] storage;
     private final int offset;
     private final int length;
+    // lazily computed hash code, 0 if not computed yet (benign data race, see String#hashCode)
+    private int hash;
 
     /**
      * Constructor.
@@ -68,6 +71,54 @@ final class SharedWord<I> extends Word<I> {
         return this.length;
     }
 
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 5;
+            for (int i = offset; i < offset + length; i++) {
+                final I sym = storage[i];
+                h *= 89;
+                h += (sym != null) ? sym.hashCode() : 0;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (other instanceof ConcatWord) {
+            // compare element-wise without materializing the concatenation
+            return other.equals(this);
+        }
+        if (!(other instanceof SharedWord)) {
+            return super.equals(other);
+        }
+        if (this == other) {
+            return true;
+        }
+
+        final SharedWord<?> that = (SharedWord<?>) other;
+        if (length != that.length) {
+            return false;
+        }
+
+        final int thisHash = hash, thatHash = that.hash;
+        if (thisHash != 0 && thatHash != 0 && thisHash != thatHash) {
+            return false;
+        }
+
+        final Object[] thatStorage = that.storage;
+        final int delta = that.offset - offset;
+        for (int i = offset; i < offset + length; i++) {
+            if (!Objects.equals(storage[i], thatStorage[i + delta])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public java.util.Iterator<I> iterator() {
         return new Iterator<>(this);
@@ -537,6 +537,9 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
      */
     public Word<I> append(I symbol) {
         int len = length();
+        if (len + 1 >= ConcatWord.MIN_LENGTH) {
+            return ConcatWord.of(this, new LetterWord<>(symbol));
+        }
         @Nullable Object[] array = new Object[len + 1];
         writeToArray(0, array, 0, len);
         array[len] = symbol;
@@ -553,6 +556,9 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
      */
     public Word<I> prepend(I symbol) {
         int len = length();
+        if (len + 1 >= ConcatWord.MIN_LENGTH) {
+            return ConcatWord.of(new LetterWord<>(symbol), this);
+        }
         @Nullable Object[] array = new Object[len + 1];
         array[0] = symbol;
         writeToArray(0, array, 1, len);
@@ -599,6 +605,15 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
             totalSize += word.length();
         }
 
+        if (totalSize >= ConcatWord.MIN_LENGTH) {
+            // concatenate lazily, see ConcatWord
+            Word<I> result = this;
+            for (Word<? extends I> w : words) {
+                result = ConcatWord.of(result, w);
+            }
+            return result;
+        }
+
         Object[] array = new Object[totalSize];
         writeToArray(0, array, 0, len);
         int currOfs = len;
@@ -786,6 +801,21 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
         return result;
     }
 
+    /**
+     * Transforms this word into an {@link IntWord}, using the specified function for translating an individual symbol
+     * to a (non-negative) integer.
+     *
+     * @param toInt
+     *         the function for translating symbols to integers, e.g., an {@link Alphabet}
+     *
+     * @return an {@link IntWord} representation of this word, according to the specified translation function
+     *
+     * @see IntWord#fromWord(Word, ToIntFunction)
+     */
+    public IntWord toIntWord(ToIntFunction<? super I> toInt) {
+        return IntWord.fromWord(this, toInt);
+    }
+
     /**
      * Transforms a word symbol-by-symbol, using the specified transformation function.
      *
@@ -128,6 +128,37 @@ public abstract class AbstractWordTest {
         }
     }
 
+    @Test
+    public void testEqualsAndHashCode() {
+        final int expectedHash = referenceHashCode(testWord);
+        Assert.assertEquals(testWord.hashCode(), expectedHash);
+        // repeated calls should yield the same (potentially cached) value
+        Assert.assertEquals(testWord.hashCode(), expectedHash);
+
+        for (Word<Object> eq : equalWords) {
+            Assert.assertEquals(testWord, eq);
+            Assert.assertEquals(eq, testWord);
+            Assert.assertEquals(eq.hashCode(), expectedHash);
+        }
+
+        for (Word<Object> neq : unequalWords) {
+            // compute hashes first to exercise the cached comparison
+            Assert.assertEquals(neq.hashCode(), referenceHashCode(neq));
+            Assert.assertNotEquals(testWord, neq);
+            Assert.assertNotEquals(neq, testWord);
+        }
+    }
+
+    private static int referenceHashCode(Word<?> word) {
+        int hash = 5;
+        for (int i = 0; i < word.length(); i++) {
+            final Object sym = word.getSymbol(i);
+            hash *= 89;
+            hash += (sym != null) ? sym.hashCode() : 0;
+        }
+        return hash;
+    }
+
     @Test
     public void testSize() {
         Assert.assertEquals(testWord.length(), testWord.size());
@@ -0,0 +1,151 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ConcatWordTest extends AbstractNonemptyWordTest {
+
+    private static final int LENGTH = 40;
+
+    private static Object[] data(int from, int to) {
+        final Object[] result = new Object[to - from];
+        for (int i = from; i < to; i++) {
+            result[i - from] = i;
+        }
+        return result;
+    }
+
+    @Override
+    protected Word<Object> testWord() {
+        return ConcatWord.of(new SharedWord<>(data(0, 15)),
+                             ConcatWord.of(new SharedWord<>(data(15, 30)), new SharedWord<>(data(30, LENGTH))));
+    }
+
+    @Override
+    protected List<Word<Object>> equalWords() {
+        return Arrays.asList(new SharedWord<>(data(0, LENGTH)),
+                             ConcatWord.of(new SharedWord<>(data(0, 20)), new SharedWord<>(data(20, LENGTH))));
+    }
+
+    @Override
+    protected List<Word<Object>> unequalWords() {
+        return Arrays.asList(new SharedWord<>(data(0, LENGTH - 1)),
+                             ConcatWord.of(new SharedWord<>(data(1, 20)), new SharedWord<>(data(20, LENGTH + 1))),
+                             ConcatWord.of(new SharedWord<>(data(0, 20)), new SharedWord<>(data(20, LENGTH + 1))),
+                             Word.epsilon());
+    }
+
+    @Override
+    protected List<Word<Object>> realPrefixes() {
+        return Arrays.asList(Word.epsilon(),
+                             new LetterWord<>(0),
+                             new SharedWord<>(data(0, 10)),
+                             new SharedWord<>(data(0, 35)));
+    }
+
+    @Override
+    protected List<Word<Object>> realSuffixes() {
+        return Arrays.asList(Word.epsilon(),
+                             new LetterWord<>(LENGTH - 1),
+                             new SharedWord<>(data(25, LENGTH)),
+                             new SharedWord<>(data(5, LENGTH)));
+    }
+
+    @Test
+    public void testLazyConcatenation() {
+        Assert.assertTrue(testWord instanceof ConcatWord);
+
+        // short concatenations are copied
+        Assert.assertTrue(ConcatWord.of(new LetterWord<>(1), new LetterWord<>(2)) instanceof SharedWord);
+
+        // concatenations via the public API
+        final Word<Object> prefix = new SharedWord<>(data(0, 20));
+        final Word<Object> suffix = new SharedWord<>(data(20, LENGTH));
+        final Word<Object> concat = prefix.concat(suffix);
+        Assert.assertTrue(concat instanceof ConcatWord);
+        Assert.assertEquals(concat, testWord);
+        Assert.assertEquals(concat.hashCode(), testWord.hashCode());
+        Assert.assertEquals(concat.append(LENGTH).lastSymbol(), LENGTH);
+        Assert.assertEquals(concat.prepend(-1).firstSymbol(), -1);
+    }
+
+    @Test
+    public void testSubWords() {
+        final Word<Object> flat = new SharedWord<>(data(0, LENGTH));
+
+        for (int i = 0; i <= LENGTH; i++) {
+            for (int j = i; j <= LENGTH; j++) {
+                Assert.assertEquals(testWord.subWord(i, j), flat.subWord(i, j));
+                final Object[] array = new Object[j - i];
+                testWord.writeToArray(i, array, 0, j - i);
+                Assert.assertEquals(array, data(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        final List<Object> symbols = new ArrayList<>();
+        final Iterator<Object> it = testWord.iterator();
+        while (it.hasNext()) {
+            symbols.add(it.next());
+        }
+        Assert.assertEquals(symbols, Arrays.asList(data(0, LENGTH)));
+    }
+
+    @Test
+    public void testRandomAccessAndEquality() {
+        final Word<Object> flat = new SharedWord<>(data(0, LENGTH));
+
+        for (int i = 0; i < LENGTH; i++) {
+            Assert.assertEquals(testWord.getSymbol(i), i);
+        }
+
+        // equality in both directions, e.g., when looking up keys in a hash map
+        Assert.assertTrue(testWord.equals(flat));
+        Assert.assertTrue(flat.equals(testWord));
+        Assert.assertEquals(testWord.hashCode(), flat.hashCode());
+
+        final Map<Word<Object>, Integer> map = new HashMap<>();
+        map.put(testWord, 1);
+        Assert.assertEquals(map.get(flat), Integer.valueOf(1));
+        map.put(flat, 2);
+        Assert.assertEquals(map.size(), 1);
+        Assert.assertEquals(map.get(testWord), Integer.valueOf(2));
+    }
+
+    @Test
+    public void testDepthIsBounded() {
+        Word<Object> word = new SharedWord<>(data(0, LENGTH));
+        for (int i = 0; i < 10 * ConcatWord.MAX_DEPTH; i++) {
+            word = word.append(i);
+        }
+
+        Assert.assertEquals(word.length(), LENGTH + 10 * ConcatWord.MAX_DEPTH);
+        Assert.assertEquals(word.getSymbol(LENGTH), 0);
+        Assert.assertEquals(word.lastSymbol(), 10 * ConcatWord.MAX_DEPTH - 1);
+    }
+}
@@ -0,0 +1,81 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import net.automatalib.common.smartcollection.IntSeq;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IntWordTest {
+
+    @Test
+    public void testStorageRanges() {
+        final int[][] inputs = {{}, {0, 1, 255}, {0, 256, 65535}, {0, 65536, Integer.MAX_VALUE}};
+
+        for (int[] input : inputs) {
+            final IntWord word = IntWord.of(input);
+            Assert.assertEquals(word.length(), input.length);
+            Assert.assertEquals(word.toIntArray(), input);
+            for (int i = 0; i < input.length; i++) {
+                Assert.assertEquals(word.get(i), input[i]);
+            }
+        }
+
+        Assert.assertSame(IntWord.of(), IntWord.epsilon());
+        Assert.assertThrows(IllegalArgumentException.class, () -> IntWord.of(1, -1));
+    }
+
+    @Test
+    public void testSubWords() {
+        final IntWord word = IntWord.of(3, 1, 4, 1, 5, 9, 2, 6);
+
+        Assert.assertEquals(word.subWord(2, 5), IntWord.of(4, 1, 5));
+        Assert.assertEquals(word.prefix(3), IntWord.of(3, 1, 4));
+        Assert.assertEquals(word.suffix(6), IntWord.of(2, 6));
+        Assert.assertEquals(word.subWord(2, 5).subWord(1, 3), IntWord.of(1, 5));
+        Assert.assertTrue(word.subWord(4, 4).isEmpty());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> word.subWord(5, 4));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> word.prefix(9));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        final IntWord small = IntWord.of(1, 2, 3);
+        final IntWord large = IntWord.of(1, 2, 3, 70000).prefix(3);
+
+        // equality does not depend on the storage type
+        Assert.assertEquals(small, large);
+        Assert.assertEquals(small.hashCode(), large.hashCode());
+        Assert.assertNotEquals(small, IntWord.of(1, 2, 4));
+        Assert.assertNotEquals(small, IntWord.of(1, 2));
+        Assert.assertEquals(small.toString(), "[1, 2, 3]");
+    }
+
+    @Test
+    public void testWordConversion() {
+        final ToIntFunction<Character> toInt = c -> c - 'a';
+        final IntFunction<Character> toSymbol = i -> (char) ('a' + i);
+        final Word<Character> word = Word.fromString("automata");
+
+        final IntWord intWord = word.toIntWord(toInt);
+        Assert.assertEquals(intWord, IntWord.fromIntSeq(word.asIntSeq(toInt)));
+        Assert.assertEquals(intWord.toWord(toSymbol), word);
+        Assert.assertEquals(IntWord.fromIntSeq(IntSeq.of(intWord.toIntArray())), intWord);
+    }
+}
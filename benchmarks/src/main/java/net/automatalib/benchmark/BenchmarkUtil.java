@@ -0,0 +1,64 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+
+/**
+ * Utility methods shared among the different benchmarks.
+ */
+final class BenchmarkUtil {
+
+    /**
+     * The seed used for all randomly generated benchmark data so that different runs (and different revisions of the
+     * code) operate on the same inputs.
+     */
+    static final long SEED = 42;
+
+    private BenchmarkUtil() {
+        // prevent instantiation
+    }
+
+    static <I> Word<I> randomWord(Random random, Alphabet<I> alphabet, int length) {
+        final WordBuilder<I> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
+    }
+
+    static <I> List<Word<I>> randomWords(Random random, Alphabet<I> alphabet, int minLength, int maxLength, int num) {
+        final List<Word<I>> result = new ArrayList<>(num);
+        for (int i = 0; i < num; i++) {
+            result.add(randomWord(random, alphabet, minLength + random.nextInt(maxLength - minLength + 1)));
+        }
+        return result;
+    }
+
+    static int[] randomIntWord(Random random, int numInputs, int length) {
+        final int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = random.nextInt(numInputs);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for transition lookups on {@link CompactDFA}s and {@link CompactMealy}s, both via the object-based API
+ * and via the {@link net.automatalib.automaton.MutableDeterministic.FullIntAbstraction integer abstraction}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompactAutomatonBenchmark {
+
+    private static final int NUM_WORDS = 1000;
+    private static final int WORD_LENGTH = 50;
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    @Param({"10"})
+    private int alphabetSize;
+
+    private CompactDFA<Integer> dfa;
+    private CompactMealy<Integer, Integer> mealy;
+
+    private List<Word<Integer>> words;
+    private int[][] intWords;
+    private IntSeq[] intSeqs;
+
+    private boolean[] acceptance;
+    private Integer[][] outputs;
+    private int[] tracedLengths;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, alphabetSize - 1);
+
+        this.dfa = RandomAutomata.randomDFA(random, size, alphabet, false);
+        this.mealy = RandomAutomata.randomMealy(random, size, alphabet, Arrays.asList(0, 1, 2, 3), false);
+        this.words = BenchmarkUtil.randomWords(random, alphabet, WORD_LENGTH, WORD_LENGTH, NUM_WORDS);
+        this.intWords = new int[NUM_WORDS][];
+        this.intSeqs = new IntSeq[NUM_WORDS];
+
+        for (int i = 0; i < NUM_WORDS; i++) {
+            this.intWords[i] = words.get(i).toIntArray(alphabet);
+            this.intSeqs[i] = words.get(i).toIntWord(alphabet);
+        }
+
+        this.acceptance = new boolean[NUM_WORDS];
+        this.outputs = new Integer[NUM_WORDS][WORD_LENGTH];
+        this.tracedLengths = new int[NUM_WORDS];
+    }
+
+    @Benchmark
+    public void dfaAccepts(Blackhole bh) {
+        for (Word<Integer> w : words) {
+            bh.consume(dfa.accepts(w));
+        }
+    }
+
+    @Benchmark
+    public void dfaIntSuccessor(Blackhole bh) {
+        final int init = dfa.getIntInitialState();
+        for (int[] w : intWords) {
+            int state = init;
+            for (int sym : w) {
+                state = dfa.getSuccessor(state, sym);
+            }
+            bh.consume(state);
+        }
+    }
+
+    @Benchmark
+    public void dfaAcceptsBatch(Blackhole bh) {
+        dfa.accepts(intSeqs, acceptance);
+        bh.consume(acceptance);
+    }
+
+    @Benchmark
+    public void mealyComputeOutput(Blackhole bh) {
+        for (Word<Integer> w : words) {
+            bh.consume(mealy.computeOutput(w));
+        }
+    }
+
+    @Benchmark
+    public void mealyIntTransition(Blackhole bh) {
+        final int init = mealy.getIntInitialState();
+        for (int[] w : intWords) {
+            int state = init;
+            for (int sym : w) {
+                bh.consume(mealy.getTransitionProperty(state, sym));
+                state = mealy.getSuccessor(state, sym);
+            }
+            bh.consume(state);
+        }
+    }
+
+    @Benchmark
+    public void mealyTraceBatch(Blackhole bh) {
+        mealy.traceBatch(intSeqs, outputs, tracedLengths);
+        bh.consume(outputs);
+        bh.consume(tracedLengths);
+    }
+}
@@ -0,0 +1,85 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.util.automaton.fsa.NFAs;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the subset construction of {@link NFAs#determinize(net.automatalib.automaton.fsa.NFA, Alphabet,
+ * boolean, boolean)} on random Tabakov-Vardi NFAs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeterminizationBenchmark {
+
+    @Param({"20", "50", "100"})
+    private int size;
+
+    /**
+     * The transition density of the generated NFAs. Lower densities usually yield larger determinized automata.
+     */
+    @Param({"1.25", "2.0"})
+    private float transitionDensity;
+
+    private Alphabet<Integer> alphabet;
+    private CompactNFA<Integer> nfa;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+
+        this.alphabet = Alphabets.integers(0, 1);
+        this.nfa = TabakovVardiRandomAutomata.generateNFA(random, size, transitionDensity, 0.5f, alphabet);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> determinize() {
+        return NFAs.determinize(nfa, alphabet, false, false);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> determinizeAndMinimize() {
+        return NFAs.determinize(nfa, alphabet, false, true);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> determinizeParallel() {
+        return NFAs.determinizeParallel(nfa, alphabet, false, false, Runtime.getRuntime().availableProcessors());
+    }
+}
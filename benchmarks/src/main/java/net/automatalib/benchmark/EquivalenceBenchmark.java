@@ -0,0 +1,83 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.util.automaton.equivalence.DeterministicEquivalenceTest;
+import net.automatalib.util.automaton.equivalence.NearLinearEquivalenceTest;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing {@link DeterministicEquivalenceTest} and {@link NearLinearEquivalenceTest}. In order to
+ * benchmark the worst case (i.e., a full exploration), a random DFA is compared against its (structurally different)
+ * minimized version.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EquivalenceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"10"})
+    private int alphabetSize;
+
+    private Alphabet<Integer> alphabet;
+    private CompactDFA<Integer> reference;
+    private CompactDFA<Integer> other;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+
+        this.alphabet = Alphabets.integers(0, alphabetSize - 1);
+        this.reference = RandomAutomata.randomDFA(random, size, alphabet, false);
+        this.other = HopcroftMinimization.minimizeDFA(reference, alphabet);
+    }
+
+    @Benchmark
+    public @Nullable Word<Integer> deterministic() {
+        return DeterministicEquivalenceTest.findSeparatingWord(reference, other, alphabet);
+    }
+
+    @Benchmark
+    public @Nullable Word<Integer> nearLinear() {
+        return NearLinearEquivalenceTest.findSeparatingWord(reference, other, alphabet);
+    }
+}
@@ -0,0 +1,153 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.incremental.dfa.dag.IncrementalDFADAGBuilder;
+import net.automatalib.incremental.dfa.tree.IncrementalDFATreeBuilder;
+import net.automatalib.incremental.mealy.dag.IncrementalMealyDAGBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for inserting into and looking up from the incremental tree- and DAG-based builders. The inserted
+ * information is taken from a random target system so that no conflicts occur.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncrementalBenchmark {
+
+    private static final int TARGET_SIZE = 100;
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 30;
+
+    @Param({"1000", "10000"})
+    private int numQueries;
+
+    @Param({"tree", "dag"})
+    private String builder;
+
+    private Alphabet<Integer> alphabet;
+    private List<Word<Integer>> inputs;
+    private List<Word<Integer>> mealyOutputs;
+    private List<Boolean> dfaOutputs;
+
+    private IncrementalConstruction.MealyBuilder<Integer, Integer> filledMealyBuilder;
+    private IncrementalConstruction.DFABuilder<Integer> filledDFABuilder;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+
+        this.alphabet = Alphabets.integers(0, 9);
+
+        final CompactMealy<Integer, Integer> mealy =
+                RandomAutomata.randomMealy(random, TARGET_SIZE, alphabet, alphabet, false);
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(random, TARGET_SIZE, alphabet, false);
+
+        this.inputs = BenchmarkUtil.randomWords(random, alphabet, MIN_LENGTH, MAX_LENGTH, numQueries);
+        this.mealyOutputs = new ArrayList<>(numQueries);
+        this.dfaOutputs = new ArrayList<>(numQueries);
+
+        for (Word<Integer> i : inputs) {
+            mealyOutputs.add(mealy.computeOutput(i));
+            dfaOutputs.add(dfa.accepts(i));
+        }
+
+        this.filledMealyBuilder = insertMealy();
+        this.filledDFABuilder = insertDFA();
+    }
+
+    @Benchmark
+    public IncrementalConstruction.MealyBuilder<Integer, Integer> insertMealy() {
+        final IncrementalConstruction.MealyBuilder<Integer, Integer> result = createMealyBuilder();
+        for (int i = 0; i < numQueries; i++) {
+            result.insert(inputs.get(i), mealyOutputs.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void lookupMealy(Blackhole bh) {
+        for (Word<Integer> i : inputs) {
+            bh.consume(filledMealyBuilder.lookup(i));
+        }
+    }
+
+    @Benchmark
+    public IncrementalConstruction.DFABuilder<Integer> insertDFA() {
+        final IncrementalConstruction.DFABuilder<Integer> result = createDFABuilder();
+        for (int i = 0; i < numQueries; i++) {
+            result.insert(inputs.get(i), dfaOutputs.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void lookupDFA(Blackhole bh) {
+        for (Word<Integer> i : inputs) {
+            bh.consume(filledDFABuilder.lookup(i));
+        }
+    }
+
+    private IncrementalConstruction.MealyBuilder<Integer, Integer> createMealyBuilder() {
+        switch (builder) {
+            case "tree":
+                return new IncrementalMealyTreeBuilder<>(alphabet);
+            case "dag":
+                return new IncrementalMealyDAGBuilder<>(alphabet);
+            default:
+                throw new IllegalStateException("Unknown builder type: " + builder);
+        }
+    }
+
+    private IncrementalConstruction.DFABuilder<Integer> createDFABuilder() {
+        switch (builder) {
+            case "tree":
+                return new IncrementalDFATreeBuilder<>(alphabet);
+            case "dag":
+                return new IncrementalDFADAGBuilder<>(alphabet);
+            default:
+                throw new IllegalStateException("Unknown builder type: " + builder);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization.PruningMode;
+import net.automatalib.util.automaton.minimizer.paigetarjan.PaigeTarjanMinimization;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import net.automatalib.util.partitionrefinement.RefinementOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing {@link HopcroftMinimization} and {@link PaigeTarjanMinimization} on random (non-minimal) DFAs
+ * and Mealy machines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MinimizationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"10"})
+    private int alphabetSize;
+
+    @Param({"4"})
+    private int parallelism;
+
+    private Alphabet<Integer> alphabet;
+    private CompactDFA<Integer> dfa;
+    private CompactMealy<Integer, Integer> mealy;
+    private RefinementOptions options;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+
+        this.alphabet = Alphabets.integers(0, alphabetSize - 1);
+        this.dfa = RandomAutomata.randomDFA(random, size, alphabet, false);
+        this.mealy = RandomAutomata.randomMealy(random, size, alphabet, Arrays.asList(0, 1), false);
+        this.options = RefinementOptions.parallel(parallelism);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> hopcroftDFA() {
+        return HopcroftMinimization.minimizeDFA(dfa, alphabet);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> paigeTarjanDFA() {
+        return PaigeTarjanMinimization.minimizeDFA(dfa, alphabet);
+    }
+
+    @Benchmark
+    public CompactMealy<Integer, Integer> hopcroftMealy() {
+        return HopcroftMinimization.minimizeMealy(mealy, alphabet);
+    }
+
+    @Benchmark
+    public CompactMealy<Integer, Integer> paigeTarjanMealy() {
+        return PaigeTarjanMinimization.minimizeMealy(mealy, alphabet);
+    }
+
+    @Benchmark
+    public CompactMealy<Integer, Integer> signatureRefinementMealy() {
+        return HopcroftMinimization.minimizeUniversal(mealy,
+                                                      alphabet,
+                                                      new CompactMealy.Creator<>(),
+                                                      AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                      PruningMode.PRUNE_AFTER,
+                                                      options);
+    }
+}
@@ -0,0 +1,135 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the basic operations of {@link Word}s, i.e., concatenation, hashing, and equality checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordBenchmark {
+
+    private static final int NUM_WORDS = 1000;
+
+    @Param({"10", "100", "1000"})
+    private int length;
+
+    private List<Word<Integer>> prefixes;
+    private List<Word<Integer>> suffixes;
+    private List<Word<Integer>> words;
+    private List<Word<Integer>> copies;
+    private Map<Word<Integer>, Integer> cache;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkUtil.SEED);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 9);
+
+        this.prefixes = BenchmarkUtil.randomWords(random, alphabet, length, length, NUM_WORDS);
+        this.suffixes = BenchmarkUtil.randomWords(random, alphabet, length, length, NUM_WORDS);
+        this.words = new ArrayList<>(NUM_WORDS);
+        this.copies = new ArrayList<>(NUM_WORDS);
+        this.cache = new HashMap<>();
+
+        for (int i = 0; i < NUM_WORDS; i++) {
+            final Word<Integer> w = prefixes.get(i).concat(suffixes.get(i));
+            this.words.add(w);
+            // create a structurally equal but distinct instance
+            this.copies.add(Word.fromList(w.asList()));
+            this.cache.put(w, i);
+        }
+    }
+
+    @Benchmark
+    public void concat(Blackhole bh) {
+        for (int i = 0; i < NUM_WORDS; i++) {
+            bh.consume(prefixes.get(i).concat(suffixes.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void append(Blackhole bh) {
+        for (Word<Integer> p : prefixes) {
+            bh.consume(p.append(0));
+        }
+    }
+
+    @Benchmark
+    public void hash(Blackhole bh) {
+        for (Word<Integer> w : words) {
+            bh.consume(w.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void equality(Blackhole bh) {
+        for (int i = 0; i < NUM_WORDS; i++) {
+            bh.consume(words.get(i).equals(copies.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void mapLookup(Blackhole bh) {
+        for (Word<Integer> w : copies) {
+            bh.consume(cache.get(w));
+        }
+    }
+
+    /**
+     * Builds a query-cache-like map and repeatedly queries it with equal (but not identical) keys, which exercises
+     * both the hash code computation and the equality checks of colliding entries.
+     */
+    @Benchmark
+    public Map<Word<Integer>, Integer> mapBuildAndLookup() {
+        final Map<Word<Integer>, Integer> map = new HashMap<>();
+        for (int i = 0; i < NUM_WORDS; i++) {
+            map.put(words.get(i), i);
+        }
+        for (int r = 0; r < 10; r++) {
+            for (Word<Integer> w : copies) {
+                map.merge(w, 1, Integer::sum);
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,274 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.collection;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An open-addressing hash table that maps non-negative {@code long} keys to a predecessor key and an (object) value.
+ * This is a specialized data structure for (breadth-first) searches over very large, implicitly given state spaces
+ * (such as product automata) in which one needs to record for each discovered state its predecessor and the symbol
+ * that led to it. Compared to a {@code Map<Long, Pred>}, no boxing or per-entry objects are required as the data is
+ * stored in parallel arrays which are addressed via linear probing.
+ * <p>
+ * Entries can only be added, but not removed.
+ *
+ * @param <V>
+ *         value type
+ */
+public final class LongPredecessorTable<V> {
+
+    /**
+     * The predecessor key used for entries that do not have a predecessor, e.g., the root of a search.
+     */
+    public static final long NO_PREDECESSOR = -1L;
+
+    private static final long EMPTY = -1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long[] keys;
+    private long[] predecessors;
+    private @Nullable Object[] values;
+
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public LongPredecessorTable() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize
+     *         the number of expected entries, which is used to pre-allocate the internal storage
+     */
+    public LongPredecessorTable(int expectedSize) {
+        final int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, (long) (expectedSize / LOAD_FACTOR) + 1));
+
+        this.keys = new long[capacity];
+        this.predecessors = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.threshold = thresholdFor(capacity);
+
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * Returns the number of entries in this table.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this table contains no entries.
+     *
+     * @return {@code true} if this table contains no entries, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether an entry for the given key exists.
+     *
+     * @param key
+     *         the key
+     *
+     * @return {@code true} if an entry for the given key exists, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Stores the given predecessor and value for the given key, unless an entry for the key already exists.
+     *
+     * @param key
+     *         the (non-negative) key
+     * @param predecessor
+     *         the (non-negative) key of the predecessor or {@link #NO_PREDECESSOR}
+     * @param value
+     *         the value to associate with the key
+     *
+     * @return {@code true} if a new entry has been added, {@code false} if an entry for {@code key} already existed (in
+     * which case the table is not modified)
+     */
+    public boolean putIfAbsent(long key, long predecessor, @Nullable V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+
+        int idx = indexFor(key);
+        long k;
+        while ((k = keys[idx]) != EMPTY) {
+            if (k == key) {
+                return false;
+            }
+            idx = (idx + 1) & mask;
+        }
+
+        keys[idx] = key;
+        predecessors[idx] = predecessor;
+        values[idx] = value;
+
+        if (++size > threshold) {
+            resize();
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the predecessor key of the given key.
+     *
+     * @param key
+     *         the key
+     *
+     * @return the predecessor key of the given key, or {@link #NO_PREDECESSOR} if the entry has no predecessor
+     *
+     * @throws IllegalArgumentException
+     *         if no entry for the given key exists
+     */
+    public long getPredecessor(long key) {
+        return predecessors[findOrThrow(key)];
+    }
+
+    /**
+     * Returns the value associated with the given key.
+     *
+     * @param key
+     *         the key
+     *
+     * @return the value associated with the given key
+     *
+     * @throws IllegalArgumentException
+     *         if no entry for the given key exists
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V getValue(long key) {
+        return (V) values[findOrThrow(key)];
+    }
+
+    /**
+     * Removes all entries from this table. The allocated storage is retained.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int find(long key) {
+        if (key < 0) {
+            return -1;
+        }
+
+        int idx = indexFor(key);
+        long k;
+        while ((k = keys[idx]) != EMPTY) {
+            if (k == key) {
+                return idx;
+            }
+            idx = (idx + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private int findOrThrow(long key) {
+        final int idx = find(key);
+
+        if (idx < 0) {
+            throw new IllegalArgumentException("No entry for key " + key);
+        }
+
+        return idx;
+    }
+
+    private int indexFor(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    private void resize() {
+        final int oldCapacity = keys.length;
+
+        if (oldCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity exceeded");
+        }
+
+        final long[] oldKeys = keys;
+        final long[] oldPredecessors = predecessors;
+        final @Nullable Object[] oldValues = values;
+
+        final int newCapacity = oldCapacity << 1;
+
+        this.keys = new long[newCapacity];
+        this.predecessors = new long[newCapacity];
+        this.values = new Object[newCapacity];
+        this.mask = newCapacity - 1;
+        this.threshold = thresholdFor(newCapacity);
+
+        Arrays.fill(this.keys, EMPTY);
+
+        for (int i = 0; i < oldCapacity; i++) {
+            final long key = oldKeys[i];
+            if (key != EMPTY) {
+                int idx = indexFor(key);
+                while (keys[idx] != EMPTY) {
+                    idx = (idx + 1) & mask;
+                }
+                keys[idx] = key;
+                predecessors[idx] = oldPredecessors[i];
+                values[idx] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * The finalization step of the MurmurHash3 algorithm, which spreads (sequential) keys across the table.
+     */
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int thresholdFor(int capacity) {
+        return capacity == MAXIMUM_CAPACITY ? capacity - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        final int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(1, capacity - 1));
+        return Math.max(2, Math.min(MAXIMUM_CAPACITY, n + 1));
+    }
+}
@@ -0,0 +1,75 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.collection;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LongPredecessorTableTest {
+
+    @Test
+    public void testBasicOperations() {
+        final LongPredecessorTable<String> table = new LongPredecessorTable<>();
+
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.containsKey(0));
+        Assert.assertFalse(table.containsKey(-1));
+
+        Assert.assertTrue(table.putIfAbsent(0, LongPredecessorTable.NO_PREDECESSOR, null));
+        Assert.assertTrue(table.putIfAbsent(1L << 40, 0, "a"));
+        Assert.assertFalse(table.putIfAbsent(1L << 40, 42, "b"));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.getPredecessor(0), LongPredecessorTable.NO_PREDECESSOR);
+        Assert.assertNull(table.getValue(0));
+        Assert.assertEquals(table.getPredecessor(1L << 40), 0);
+        Assert.assertEquals(table.getValue(1L << 40), "a");
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.getPredecessor(1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.putIfAbsent(-2, 0, "c"));
+
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.containsKey(0));
+    }
+
+    @Test
+    public void testResize() {
+        final Random random = new Random(42);
+        final int size = 100_000;
+        final long[] keys = new long[size];
+
+        final LongPredecessorTable<Long> table = new LongPredecessorTable<>(2);
+
+        for (int i = 0; i < size; i++) {
+            final long key = Math.abs(random.nextLong() >> 1);
+            keys[i] = key;
+            final long pred = i == 0 ? LongPredecessorTable.NO_PREDECESSOR : keys[i - 1];
+            Assert.assertTrue(table.putIfAbsent(key, pred, key));
+        }
+
+        Assert.assertEquals(table.size(), size);
+
+        for (int i = size - 1; i > 0; i--) {
+            Assert.assertEquals(table.getPredecessor(keys[i]), keys[i - 1]);
+            Assert.assertEquals(table.getValue(keys[i]), Long.valueOf(keys[i]));
+        }
+
+        Assert.assertEquals(table.getPredecessor(keys[0]), LongPredecessorTable.NO_PREDECESSOR);
+    }
+}
@@ -28,6 +28,7 @@ import net.automatalib.automaton.MutableDeterministic.FullIntAbstraction;
 import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.automaton.concept.StateLocalInput;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.common.util.collection.CollectionUtil;
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -272,6 +273,23 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
                                                               (arr, idx) -> arr[idx] = defaultValue);
     }
 
+    /**
+     * Updates the memory layout of the provided off-heap array in place. Since {@link OffHeapIntArray}s grow by adding
+     * segments, existing data only needs to be moved if a new alphabet symbol is added.
+     *
+     * @param storage
+     *         the off-heap array
+     * @param defaultValue
+     *         default value for newly allocated array positions
+     * @param payload
+     *         the payload object
+     *
+     * @see #updateTransitionStorage(int[], int, Payload)
+     */
+    protected final void updateTransitionStorage(OffHeapIntArray storage, int defaultValue, Payload payload) {
+        payload.type.updateStorage(storage, payload, defaultValue);
+    }
+
     /**
      * Return a copy of the provided array with updated memory layout.
      *
@@ -322,6 +340,27 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
         return stateId * alphabetSize + inputId;
     }
 
+    /**
+     * Computes the length of the longest common prefix of the two given sequences, bounded by the given limit.
+     *
+     * @param a
+     *         the first sequence
+     * @param b
+     *         the second sequence
+     * @param limit
+     *         an upper bound for the length of the common prefix
+     *
+     * @return the length of the longest common prefix
+     */
+    protected static int commonPrefixLength(IntSeq a, IntSeq b, int limit) {
+        final int max = Math.min(limit, Math.min(a.size(), b.size()));
+        int i = 0;
+        while (i < max && a.get(i) == b.get(i)) {
+            i++;
+        }
+        return i;
+    }
+
     protected final int getSymbolIndex(I input) {
         return alphabet.getSymbolIndex(input);
     }
@@ -354,6 +393,12 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
                 }
                 return newStorage;
             }
+
+            @Override
+            void updateStorage(OffHeapIntArray storage, Payload p, int defaultValue) {
+                storage.ensureCapacity(p.newSizeHint * p.alphabetSize);
+                storage.fill(p.oldSizeHint * p.alphabetSize, p.newSizeHint * p.alphabetSize, defaultValue);
+            }
         },
         /**
          * A new symbol is added to the automaton. As a result, new space must be allocated in between the state-local
@@ -384,6 +429,20 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
 
                 return newStorage;
             }
+
+            @Override
+            void updateStorage(OffHeapIntArray storage, Payload p, int defaultValue) {
+                storage.ensureCapacity(p.newSizeHint * p.stateCapacity);
+
+                // move existing data back to front, so that no block is overwritten before it has been moved
+                for (int i = p.numStates - 1; i >= 0; i--) {
+                    storage.copyWithin(i * p.oldSizeHint, i * p.newSizeHint, p.oldSizeHint);
+                    storage.fill(i * p.newSizeHint + p.oldSizeHint, (i + 1) * p.newSizeHint, defaultValue);
+                }
+
+                // initialize remaining space
+                storage.fill(p.newSizeHint * p.numStates, p.newSizeHint * p.stateCapacity, defaultValue);
+            }
         };
 
         /**
@@ -406,6 +465,18 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
                                                     Payload payload,
                                                     IntFunction<T> arrayConstructor,
                                                     ArrayInitializer<T> initializer);
+
+        /**
+         * Perform the update operation in place on the given off-heap array.
+         *
+         * @param storage
+         *         the off-heap array
+         * @param payload
+         *         the payload containing the necessary information for performing the update operation
+         * @param defaultValue
+         *         the value for initializing the newly allocated array positions
+         */
+        abstract void updateStorage(OffHeapIntArray storage, Payload payload, int defaultValue);
     }
 
     /**
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.smartcollection.IntSeq;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -115,6 +116,52 @@ public abstract class AbstractCompactSimpleDeterministic<I, SP>
         return toId(transition);
     }
 
+    /**
+     * Computes the (ids of the) states reached by reading the given batch of (index-encoded) input words from the
+     * initial state, and stores them in the given array. If a word cannot be read completely due to an undefined
+     * transition, {@link #INVALID_STATE} is stored.
+     * <p>
+     * Each word shares the traversal of its longest common prefix with the preceding word of the batch. Hence, batches
+     * in which words with common prefixes are adjacent (e.g., lexicographically sorted batches or the test suites of
+     * W-method-like conformance tests) are processed particularly efficiently.
+     *
+     * @param inputs
+     *         the input words, whose symbols are the indices of the respective input symbols
+     * @param result
+     *         the array for storing the reached states, must have at least the size of the batch
+     */
+    public void getIntStates(IntSeq[] inputs, int[] result) {
+        final int numInputs = numInputs();
+
+        // path[i] is the state reached after reading the first i symbols of the previous word
+        int[] path = new int[DEFAULT_INIT_CAPACITY];
+        path[0] = getIntInitialState();
+        // the number of symbols of the previous word for which path contains a valid state
+        int numValid = 0;
+        @Nullable IntSeq prev = null;
+
+        for (int k = 0; k < inputs.length; k++) {
+            final IntSeq word = inputs[k];
+            final int len = word.size();
+
+            int depth = prev == null ? 0 : commonPrefixLength(prev, word, numValid);
+            int curr = path[depth];
+
+            if (path.length <= len) {
+                path = Arrays.copyOf(path, Math.max(len + 1, path.length * 2));
+            }
+
+            while (depth < len && curr >= 0) {
+                curr = transitions[curr * numInputs + word.get(depth)];
+                path[++depth] = curr;
+            }
+
+            numValid = curr >= 0 ? depth : depth - 1;
+            result[k] = depth == len && curr >= 0 ? curr : AbstractCompact.INVALID_STATE;
+            prev = word;
+        }
+    }
+
     private int getIntSuccessor(int state, Iterable<? extends I> input) {
         int current = state;
 
@@ -211,6 +211,25 @@ public abstract class AbstractCompactSimpleNondet<I, SP> extends AbstractCompact
         return transition == null ? Collections.emptySet() : new PositiveIntSet(transition);
     }
 
+    /**
+     * Adds the (ids of the) successors of the given state for the given input (index) to the given {@link BitSet}.
+     * Contrary to {@link #getTransitions(int, int)}, this method operates directly on the internal representation and
+     * does not create any intermediate objects, which allows for efficient bulk operations on sets of states.
+     *
+     * @param state
+     *         the (id of the) source state
+     * @param inputIdx
+     *         the index of the input symbol
+     * @param target
+     *         the {@link BitSet} to which the successors should be added
+     */
+    public void addSuccessorsTo(int state, int inputIdx, BitSet target) {
+        final BitSet transition = transitions[toMemoryIndex(state, inputIdx)];
+        if (transition != null) {
+            target.or(transition);
+        }
+    }
+
     @Override
     public Set<Integer> getInitialStates() {
         return new PositiveIntSet(initial);
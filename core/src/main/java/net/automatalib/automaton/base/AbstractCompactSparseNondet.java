@@ -0,0 +1,499 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.collection.PositiveIntSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Abstract super class that refines {@link AbstractCompact} for transition-property-less automata with sparse
+ * transition relations. As a result, transitions may be represented as integers (where a transition object effectively
+ * <i>is</i> the successor).
+ * <p>
+ * <b>Implementation note:</b> Contrary to {@link AbstractCompactSimpleNondet}, this class stores the outgoing
+ * transitions of each state as a sorted array of (input index, successor) pairs, so that its memory consumption depends
+ * on the number of transitions rather than the number of states. Transitions are stored in two layers: a
+ * read-optimized, compressed (CSR) layer that stores the transitions of all states in a single array, and a mutable
+ * per-state overflow layer, which overrides the compressed data of every state that has been modified since the last
+ * call to {@link #freeze()}. Calling {@link #freeze()} after a (bulk) construction merges both layers and releases the
+ * per-state arrays.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <SP>
+ *         state property type
+ */
+public abstract class AbstractCompactSparseNondet<I, SP> extends AbstractCompact<I, Integer, SP, Void> {
+
+    private static final int[] EMPTY = new int[1];
+
+    private final BitSet initial;
+
+    // compressed layer: the (input, successor) pairs of state s are stored at edges[2*offsets[s]..2*offsets[s+1])
+    private int[] offsets;
+    private int[] edges;
+    // overflow layer: per state null, or an array whose first entry is the number of (input, successor) pairs
+    private @Nullable Object[] overflow;
+
+    public AbstractCompactSparseNondet(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        super(alphabet, stateCapacity, resizeFactor);
+
+        this.initial = new BitSet();
+        this.offsets = new int[1];
+        this.edges = new int[0];
+        this.overflow = new Object[stateCapacity];
+    }
+
+    protected AbstractCompactSparseNondet(Alphabet<I> alphabet, AbstractCompactSparseNondet<?, ?> other) {
+        super(alphabet, other);
+
+        this.initial = (BitSet) other.initial.clone();
+        // the compressed layer is never modified in place, so it can be shared
+        this.offsets = other.offsets;
+        this.edges = other.edges;
+        this.overflow = other.overflow.clone();
+        for (int i = 0; i < overflow.length; i++) {
+            final int[] pairs = (int[]) overflow[i];
+            if (pairs != null) {
+                overflow[i] = pairs.clone();
+            }
+        }
+    }
+
+    @Override
+    protected void updateStateStorage(Payload payload) {
+        this.overflow = updateStateStorage(this.overflow, null, payload);
+        super.updateStateStorage(payload);
+    }
+
+    /**
+     * Merges all modifications since the last invocation of this method into the compressed (read-optimized) storage of
+     * the transitions and releases the per-state buffers.
+     */
+    public void freeze() {
+        final int size = size();
+        final int[] newOffsets = new int[size + 1];
+
+        for (int s = 0; s < size; s++) {
+            newOffsets[s + 1] = newOffsets[s] + numPairs(s);
+        }
+
+        final int[] newEdges = new int[2 * newOffsets[size]];
+
+        for (int s = 0; s < size; s++) {
+            final int[] pairs = (int[]) overflow[s];
+            if (pairs == null) {
+                final int low = getCompressedLow(s);
+                System.arraycopy(edges, 2 * low, newEdges, 2 * newOffsets[s], 2 * (getCompressedHigh(s) - low));
+            } else {
+                System.arraycopy(pairs, 1, newEdges, 2 * newOffsets[s], 2 * pairs[0]);
+                overflow[s] = null;
+            }
+        }
+
+        this.offsets = newOffsets;
+        this.edges = newEdges;
+    }
+
+    /**
+     * Returns whether all transitions are currently stored in the compressed (read-optimized) storage, i.e., whether
+     * there have been no modifications since the last invocation of {@link #freeze()}.
+     *
+     * @return {@code true} if there are no pending modifications, {@code false} otherwise
+     */
+    public boolean isFrozen() {
+        final int size = size();
+        for (int s = 0; s < size; s++) {
+            if (overflow[s] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the total number of transitions of this automaton.
+     *
+     * @return the number of transitions
+     */
+    public int numTransitions() {
+        final int size = size();
+        int result = 0;
+        for (int s = 0; s < size; s++) {
+            result += numPairs(s);
+        }
+        return result;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public void setInitial(Integer state, boolean initial) {
+        setInitial(state.intValue(), initial);
+    }
+
+    public void setInitial(int state, boolean initial) {
+        if (initial) {
+            this.initial.set(state);
+        } else {
+            this.initial.clear(state);
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.offsets = new int[1];
+        this.edges = new int[0];
+        Arrays.fill(overflow, 0, size(), null);
+        this.initial.clear();
+
+        super.clear();
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, Void property) {}
+
+    @Override
+    public void removeTransition(Integer state, I input, Integer transition) {
+        removeTransition(state.intValue(), input, transition.intValue());
+    }
+
+    public void removeTransition(int stateId, I input, int successorId) {
+        removeTransition(stateId, getSymbolIndex(input), successorId);
+    }
+
+    public void removeTransition(int stateId, int inputIdx, int successorId) {
+        final int[] pairs = getMutablePairs(stateId, 0);
+        final int idx = search(pairs, 1, pairs[0], inputIdx, successorId);
+
+        if (idx >= 0) {
+            final int num = pairs[0] - 1;
+            System.arraycopy(pairs, 1 + 2 * (idx + 1), pairs, 1 + 2 * idx, 2 * (num - idx));
+            pairs[0] = num;
+        }
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state, I input) {
+        removeAllTransitions(state.intValue(), input);
+    }
+
+    public void removeAllTransitions(int stateId, I input) {
+        removeAllTransitions(stateId, getSymbolIndex(input));
+    }
+
+    public void removeAllTransitions(int stateId, int inputIdx) {
+        final int[] pairs = getMutablePairs(stateId, 0);
+        final int num = pairs[0];
+        final int low = lowerBound(pairs, 1, num, inputIdx);
+        final int high = lowerBound(pairs, 1, num, inputIdx + 1);
+
+        System.arraycopy(pairs, 1 + 2 * high, pairs, 1 + 2 * low, 2 * (num - high));
+        pairs[0] = num - (high - low);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        removeAllTransitions(state.intValue());
+    }
+
+    public void removeAllTransitions(int state) {
+        overflow[state] = EMPTY.clone();
+    }
+
+    @Override
+    public void addTransition(Integer state, I input, Integer transition) {
+        addTransition(state.intValue(), input, transition.intValue());
+    }
+
+    public void addTransition(int stateId, I input, int succId) {
+        addTransition(stateId, getSymbolIndex(input), succId);
+    }
+
+    public void addTransition(int stateId, int inputIdx, int succId) {
+        int[] pairs = getMutablePairs(stateId, 1);
+        final int num = pairs[0];
+        final int idx = search(pairs, 1, num, inputIdx, succId);
+
+        if (idx < 0) {
+            final int insert = -idx - 1;
+            if (1 + 2 * (num + 1) > pairs.length) {
+                pairs = Arrays.copyOf(pairs, 1 + 2 * Math.max(num + 1, 2 * num));
+                overflow[stateId] = pairs;
+            }
+            System.arraycopy(pairs, 1 + 2 * insert, pairs, 1 + 2 * (insert + 1), 2 * (num - insert));
+            pairs[1 + 2 * insert] = inputIdx;
+            pairs[2 + 2 * insert] = succId;
+            pairs[0] = num + 1;
+        }
+    }
+
+    @Override
+    public Integer copyTransition(Integer trans, Integer succ) {
+        return succ;
+    }
+
+    @Override
+    public Integer createTransition(Integer successor, Void properties) {
+        return successor;
+    }
+
+    @Override
+    public void setTransitions(Integer state, I input, Collection<? extends Integer> transitions) {
+        setTransitions(state.intValue(), input, transitions);
+    }
+
+    public void setTransitions(int state, I input, Collection<? extends Integer> successors) {
+        setTransitions(state, getSymbolIndex(input), successors);
+    }
+
+    public void setTransitions(int state, int inputIdx, Collection<? extends Integer> successors) {
+        removeAllTransitions(state, inputIdx);
+        for (Integer succ : successors) {
+            addTransition(state, inputIdx, succ.intValue());
+        }
+    }
+
+    @Override
+    public Integer getSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Collection<Integer> getTransitions(Integer state, I input) {
+        return getTransitions(state.intValue(), input);
+    }
+
+    public Set<Integer> getTransitions(int state, I input) {
+        return getTransitions(state, getSymbolIndex(input));
+    }
+
+    /**
+     * Returns the (ids of the) successors of the given state for the given input (index). The returned set is a
+     * snapshot, i.e., it does not reflect subsequent modifications of this automaton.
+     *
+     * @param state
+     *         the (id of the) source state
+     * @param inputIdx
+     *         the index of the input symbol
+     *
+     * @return the set of successors
+     */
+    public Set<Integer> getTransitions(int state, int inputIdx) {
+        final int[] pairs = (int[]) overflow[state];
+        final int[] data;
+        final int base;
+        final int low;
+        final int high;
+
+        if (pairs == null) {
+            data = edges;
+            base = 0;
+            final int cLow = getCompressedLow(state);
+            final int cHigh = getCompressedHigh(state);
+            low = lowerBound(edges, 0, cLow, cHigh, inputIdx);
+            high = lowerBound(edges, 0, low, cHigh, inputIdx + 1);
+        } else {
+            data = pairs.clone();
+            base = 1;
+            low = lowerBound(pairs, 1, 0, pairs[0], inputIdx);
+            high = lowerBound(pairs, 1, low, pairs[0], inputIdx + 1);
+        }
+
+        return low == high ? Collections.emptySet() : new SuccessorSet(data, base, low, high);
+    }
+
+    /**
+     * Adds the (ids of the) successors of the given state for the given input (index) to the given {@link BitSet}.
+     * Contrary to {@link #getTransitions(int, int)}, this method operates directly on the internal representation and
+     * does not create any intermediate objects.
+     *
+     * @param state
+     *         the (id of the) source state
+     * @param inputIdx
+     *         the index of the input symbol
+     * @param target
+     *         the {@link BitSet} to which the successors should be added
+     */
+    public void addSuccessorsTo(int state, int inputIdx, BitSet target) {
+        final int[] pairs = (int[]) overflow[state];
+
+        if (pairs == null) {
+            final int cHigh = getCompressedHigh(state);
+            for (int i = lowerBound(edges, 0, getCompressedLow(state), cHigh, inputIdx);
+                 i < cHigh && edges[2 * i] == inputIdx;
+                 i++) {
+                target.set(edges[2 * i + 1]);
+            }
+        } else {
+            final int num = pairs[0];
+            for (int i = lowerBound(pairs, 1, 0, num, inputIdx); i < num && pairs[1 + 2 * i] == inputIdx; i++) {
+                target.set(pairs[2 + 2 * i]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Integer> getInitialStates() {
+        return new PositiveIntSet(initial);
+    }
+
+    private int numPairs(int state) {
+        final int[] pairs = (int[]) overflow[state];
+        return pairs == null ? getCompressedHigh(state) - getCompressedLow(state) : pairs[0];
+    }
+
+    // states that have been added after the last freeze have no compressed data
+    private int getCompressedLow(int state) {
+        return state < offsets.length - 1 ? offsets[state] : 0;
+    }
+
+    private int getCompressedHigh(int state) {
+        return state < offsets.length - 1 ? offsets[state + 1] : 0;
+    }
+
+    /*
+     * Returns the overflow array of the given state, copying its compressed data if necessary. The array has room for
+     * at least the given number of additional pairs.
+     */
+    private int[] getMutablePairs(int state, int additional) {
+        final int[] pairs = (int[]) overflow[state];
+
+        if (pairs != null) {
+            return pairs;
+        }
+
+        final int low = getCompressedLow(state);
+        final int num = getCompressedHigh(state) - low;
+        final int[] result = new int[1 + 2 * (num + additional)];
+        result[0] = num;
+        System.arraycopy(edges, 2 * low, result, 1, 2 * num);
+        overflow[state] = result;
+
+        return result;
+    }
+
+    /*
+     * Searches for the given pair in the pairs stored at data[base..base+2*num). Follows the contract of
+     * Arrays#binarySearch.
+     */
+    private static int search(int[] data, int base, int num, int input, int succ) {
+        int low = 0;
+        int high = num - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midInput = data[base + 2 * mid];
+            final int cmp = midInput != input ? Integer.compare(midInput, input) :
+                    Integer.compare(data[base + 2 * mid + 1], succ);
+
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private static int lowerBound(int[] data, int base, int num, int input) {
+        return lowerBound(data, base, 0, num, input);
+    }
+
+    /*
+     * Returns the index (in [from, to]) of the first pair whose input is not smaller than the given one.
+     */
+    private static int lowerBound(int[] data, int base, int from, int to, int input) {
+        int low = from;
+        int high = to;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (data[base + 2 * mid] < input) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private static final class SuccessorSet extends AbstractSet<Integer> {
+
+        private final int[] data;
+        private final int base;
+        private final int low;
+        private final int high;
+
+        SuccessorSet(int[] data, int base, int low, int high) {
+            this.data = data;
+            this.base = base;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return search(data, base + 2 * low, high - low, data[base + 2 * low], (Integer) o) >= 0;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+
+                private int idx = low;
+
+                @Override
+                public boolean hasNext() {
+                    return idx < high;
+                }
+
+                @Override
+                public Integer next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return data[base + 2 * idx++ + 1];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return high - low;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A growable {@code int} array whose content lives outside the Java heap. The array is organized in fixed-size segments
+ * that are either allocated as {@link ByteBuffer#allocateDirect(int) direct buffers} or {@link FileChannel#map(MapMode,
+ * long, long) mapped} from a file. Growing the array only allocates additional segments, i.e., existing data is never
+ * copied.
+ * <p>
+ * Instances of this class are not thread-safe. If an instance is backed by a file, {@link #close()} should be called
+ * once the array is no longer needed.
+ */
+public final class OffHeapIntArray implements Closeable {
+
+    /**
+     * The default number of {@code int}s per segment (4 MiB per segment).
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private final @Nullable FileChannel channel;
+
+    private IntBuffer[] segments;
+    private int numSegments;
+
+    private OffHeapIntArray(int segmentSize, @Nullable FileChannel channel) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("Segment size must be a positive power of two: " + segmentSize);
+        }
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+        this.channel = channel;
+        this.segments = new IntBuffer[4];
+    }
+
+    /**
+     * Creates a new (empty) array whose segments are allocated as direct buffers of {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @return the new array
+     */
+    public static OffHeapIntArray allocateDirect() {
+        return allocateDirect(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new (empty) array whose segments are allocated as direct buffers of the given size.
+     *
+     * @param segmentSize
+     *         the number of {@code int}s per segment, must be a power of two
+     *
+     * @return the new array
+     */
+    public static OffHeapIntArray allocateDirect(int segmentSize) {
+        return new OffHeapIntArray(segmentSize, null);
+    }
+
+    /**
+     * Creates a new (empty) array whose segments are mapped from the given file with segments of
+     * {@link #DEFAULT_SEGMENT_SIZE}. Any previous content of the file is discarded.
+     *
+     * @param file
+     *         the backing file
+     *
+     * @return the new array
+     *
+     * @throws IOException
+     *         if the file cannot be opened
+     */
+    public static OffHeapIntArray map(Path file) throws IOException {
+        return map(file, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new (empty) array whose segments are mapped from the given file with segments of the given size. Any
+     * previous content of the file is discarded.
+     *
+     * @param file
+     *         the backing file
+     * @param segmentSize
+     *         the number of {@code int}s per segment, must be a power of two
+     *
+     * @return the new array
+     *
+     * @throws IOException
+     *         if the file cannot be opened
+     */
+    public static OffHeapIntArray map(Path file, int segmentSize) throws IOException {
+        final FileChannel channel = FileChannel.open(file,
+                                                     StandardOpenOption.CREATE,
+                                                     StandardOpenOption.READ,
+                                                     StandardOpenOption.WRITE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING);
+        return new OffHeapIntArray(segmentSize, channel);
+    }
+
+    /**
+     * Returns the number of {@code int}s this array can currently hold.
+     *
+     * @return the capacity of this array
+     */
+    public long capacity() {
+        return (long) numSegments << segmentShift;
+    }
+
+    /**
+     * Makes sure that this array can hold at least the given number of {@code int}s. Newly allocated positions are
+     * initialized with {@code 0}.
+     *
+     * @param capacity
+     *         the requested capacity
+     */
+    public void ensureCapacity(int capacity) {
+        final int required = (int) (((long) capacity + segmentMask) >>> segmentShift);
+
+        if (required <= numSegments) {
+            return;
+        }
+
+        if (required > segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(required, segments.length * 2));
+        }
+
+        final int segmentBytes = (segmentMask + 1) * Integer.BYTES;
+        for (int i = numSegments; i < required; i++) {
+            final ByteBuffer buffer;
+            if (channel == null) {
+                buffer = ByteBuffer.allocateDirect(segmentBytes);
+            } else {
+                try {
+                    buffer = channel.map(MapMode.READ_WRITE, (long) i * segmentBytes, segmentBytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            segments[i] = buffer.order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+
+        numSegments = required;
+    }
+
+    public int get(int idx) {
+        return segments[idx >>> segmentShift].get(idx & segmentMask);
+    }
+
+    public void set(int idx, int value) {
+        segments[idx >>> segmentShift].put(idx & segmentMask, value);
+    }
+
+    /**
+     * Sets all positions in the range {@code [from, to)} to the given value.
+     *
+     * @param from
+     *         the first index (inclusive)
+     * @param to
+     *         the last index (exclusive)
+     * @param value
+     *         the value
+     */
+    public void fill(int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            set(i, value);
+        }
+    }
+
+    /**
+     * Copies {@code length} positions starting at {@code src} to the positions starting at {@code dest}. Overlapping
+     * ranges are handled correctly.
+     *
+     * @param src
+     *         the first source index
+     * @param dest
+     *         the first destination index
+     * @param length
+     *         the number of positions to copy
+     */
+    public void copyWithin(int src, int dest, int length) {
+        if (dest > src) {
+            for (int i = length - 1; i >= 0; i--) {
+                set(dest + i, get(src + i));
+            }
+        } else if (dest < src) {
+            for (int i = 0; i < length; i++) {
+                set(dest + i, get(src + i));
+            }
+        }
+    }
+
+    /**
+     * Copies the content of this array into a new direct array with the same segment size.
+     *
+     * @return the copy
+     */
+    public OffHeapIntArray copy() {
+        final OffHeapIntArray result = new OffHeapIntArray(segmentMask + 1, null);
+        result.ensureCapacity((int) Math.min(capacity(), Integer.MAX_VALUE));
+
+        for (int i = 0; i < numSegments; i++) {
+            final IntBuffer src = segments[i].duplicate();
+            src.clear();
+            result.segments[i].duplicate().put(src);
+        }
+
+        return result;
+    }
+
+    /**
+     * Releases the resources of this array. For file-backed arrays, this closes the underlying file channel. The array
+     * must not be used afterwards.
+     *
+     * @throws IOException
+     *         if closing the file channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        segments = new IntBuffer[0];
+        numSegments = 0;
+
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
 import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.common.util.WrapperUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -107,6 +108,27 @@ public class CompactDFA<I> extends AbstractCompactSimpleDeterministic<I, Boolean
         return isAccepting(state.intValue());
     }
 
+    /**
+     * Checks for a batch of (index-encoded) input words whether they are accepted by this DFA, and stores the results
+     * in the given array.
+     *
+     * @param inputs
+     *         the input words, whose symbols are the indices of the respective input symbols
+     * @param result
+     *         the array for storing the acceptance of each word, must have at least the size of the batch
+     *
+     * @see #getIntStates(IntSeq[], int[])
+     */
+    public void accepts(IntSeq[] inputs, boolean[] result) {
+        final int[] states = new int[inputs.length];
+        getIntStates(inputs, states);
+
+        for (int i = 0; i < states.length; i++) {
+            final int state = states[i];
+            result[i] = state >= 0 && acceptance.get(state);
+        }
+    }
+
     public static final class Creator<I> implements AutomatonCreator<CompactDFA<I>, I> {
 
         @Override
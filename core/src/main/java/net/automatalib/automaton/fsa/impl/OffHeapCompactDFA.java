@@ -0,0 +1,219 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.BitSet;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.OffHeapIntArray;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.util.WrapperUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactDFA} that stores its transitions outside the Java heap in an {@link OffHeapIntArray}. By
+ * default, the transitions are stored in direct buffers. Using {@link OffHeapIntArray#map(java.nio.file.Path)}, the
+ * transitions may also be stored in a memory-mapped file. In both cases, adding states does not copy the existing
+ * transitions, and the transition table does not put any pressure on the garbage collector.
+ * <p>
+ * Note that the acceptance of states is still stored on-heap, as it only requires a single bit per state.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class OffHeapCompactDFA<I> extends AbstractCompactDeterministic<I, Integer, Boolean, Void>
+        implements MutableDFA<Integer, I>, Closeable {
+
+    private final OffHeapIntArray transitions;
+    private final BitSet acceptance;
+
+    public OffHeapCompactDFA(Alphabet<I> alphabet) {
+        this(alphabet, DEFAULT_INIT_CAPACITY);
+    }
+
+    public OffHeapCompactDFA(Alphabet<I> alphabet, int stateCapacity) {
+        this(alphabet, stateCapacity, OffHeapIntArray.allocateDirect());
+    }
+
+    public OffHeapCompactDFA(Alphabet<I> alphabet, int stateCapacity, OffHeapIntArray transitions) {
+        this(alphabet, stateCapacity, DEFAULT_RESIZE_FACTOR, transitions);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the initial state capacity
+     * @param resizeFactor
+     *         the resize factor for the state capacity
+     * @param transitions
+     *         the (empty) off-heap array for storing the transitions. This automaton takes ownership of the array and
+     *         closes it on {@link #close()}
+     */
+    public OffHeapCompactDFA(Alphabet<I> alphabet,
+                             int stateCapacity,
+                             float resizeFactor,
+                             OffHeapIntArray transitions) {
+        super(alphabet, stateCapacity, resizeFactor);
+        final int size = stateCapacity * numInputs();
+        this.transitions = transitions;
+        this.transitions.ensureCapacity(size);
+        this.transitions.fill(0, size, AbstractCompact.INVALID_STATE);
+        this.acceptance = new BitSet();
+    }
+
+    /**
+     * Copy constructor. The transitions of the copy are stored in direct buffers.
+     *
+     * @param other
+     *         the automaton to copy
+     */
+    public OffHeapCompactDFA(OffHeapCompactDFA<I> other) {
+        super(other.getInputAlphabet(), other);
+        this.transitions = other.transitions.copy();
+        this.acceptance = (BitSet) other.acceptance.clone();
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, AbstractCompact.INVALID_STATE, payload);
+    }
+
+    @Override
+    public void flipAcceptance() {
+        acceptance.flip(0, size());
+    }
+
+    @Override
+    public void setAccepting(Integer state, boolean accepting) {
+        setAccepting(state.intValue(), accepting);
+    }
+
+    public void setAccepting(int state, boolean accepting) {
+        acceptance.set(state, accepting);
+    }
+
+    @Override
+    public Integer addState(boolean accepting) {
+        return addState(Boolean.valueOf(accepting));
+    }
+
+    @Override
+    public void setStateProperty(int stateId, @Nullable Boolean property) {
+        setAccepting(stateId, WrapperUtil.booleanValue(property));
+    }
+
+    @Override
+    public Boolean getStateProperty(int stateId) {
+        return isAccepting(stateId);
+    }
+
+    public boolean isAccepting(int stateId) {
+        return acceptance.get(stateId);
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    @Override
+    public Integer createTransition(int successor, Void property) {
+        return successor;
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(transitions.get(toMemoryIndex(state, input)));
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return transitions.get(toMemoryIndex(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return toId(transition);
+    }
+
+    @Override
+    public void setTransition(int state, int input, @Nullable Integer transition) {
+        setTransition(state, input, toId(transition));
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, Void property) {
+        setTransition(state, input, successor);
+    }
+
+    public void setTransition(int state, int inputIdx, int succ) {
+        transitions.set(toMemoryIndex(state, inputIdx), succ);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final int lower = state * numInputs();
+        final int upper = lower + numInputs();
+        transitions.fill(lower, upper, AbstractCompact.INVALID_STATE);
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, Void property) {}
+
+    @Override
+    public void clear() {
+        transitions.fill(0, size() * numInputs(), AbstractCompact.INVALID_STATE);
+        acceptance.clear();
+        super.clear();
+    }
+
+    /**
+     * Releases the off-heap storage of this automaton. The automaton must not be used afterwards.
+     *
+     * @throws IOException
+     *         if releasing a file-backed storage fails
+     */
+    @Override
+    public void close() throws IOException {
+        transitions.close();
+    }
+
+    public static final class Creator<I> implements AutomatonCreator<OffHeapCompactDFA<I>, I> {
+
+        @Override
+        public OffHeapCompactDFA<I> createAutomaton(Alphabet<I> alphabet, int numStates) {
+            return new OffHeapCompactDFA<>(alphabet, numStates);
+        }
+
+        @Override
+        public OffHeapCompactDFA<I> createAutomaton(Alphabet<I> alphabet) {
+            return new OffHeapCompactDFA<>(alphabet);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import net.automatalib.automaton.base.AbstractCompactDeterministic;
 import net.automatalib.automaton.impl.CompactTransition;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O> implements
@@ -159,6 +160,67 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         return new CompactTransition<>(idx, succ, output);
     }
 
+    /**
+     * Computes the outputs for a batch of (index-encoded) input words, starting from the initial state. The outputs of
+     * the {@code k}-th word are stored in {@code results[k]} and the number of symbols of the {@code k}-th word that
+     * could be read (i.e., for which the transitions were defined) is stored in {@code tracedLengths[k]}.
+     * <p>
+     * Each word shares the traversal (and the outputs) of its longest common prefix with the preceding word of the
+     * batch. Hence, batches in which words with common prefixes are adjacent (e.g., lexicographically sorted batches or
+     * the test suites of W-method-like conformance tests) are processed particularly efficiently.
+     *
+     * @param inputs
+     *         the input words, whose symbols are the indices of the respective input symbols
+     * @param results
+     *         the arrays for storing the outputs, {@code results[k]} must have at least the length of the {@code k}-th
+     *         word
+     * @param tracedLengths
+     *         the array for storing the number of symbols that could be read, must have at least the size of the batch
+     */
+    public void traceBatch(IntSeq[] inputs, @Nullable O[][] results, int[] tracedLengths) {
+        final int numInputs = numInputs();
+
+        // path[i] is the state reached after reading the first i symbols of the previous word
+        int[] path = new int[DEFAULT_INIT_CAPACITY];
+        path[0] = getIntInitialState();
+        // the number of symbols of the previous word that could be read
+        int numTraced = 0;
+        @Nullable IntSeq prev = null;
+
+        for (int k = 0; k < inputs.length; k++) {
+            final IntSeq word = inputs[k];
+            final @Nullable O[] out = results[k];
+            final int len = word.size();
+
+            int depth = 0;
+            if (prev != null) {
+                depth = commonPrefixLength(prev, word, numTraced);
+                System.arraycopy(results[k - 1], 0, out, 0, depth);
+            }
+
+            if (path.length <= len) {
+                path = Arrays.copyOf(path, Math.max(len + 1, path.length * 2));
+            }
+
+            int curr = path[depth];
+            while (depth < len && curr >= 0) {
+                final int idx = curr * numInputs + word.get(depth);
+                curr = transitions[idx];
+                if (curr < 0) {
+                    break;
+                }
+                @SuppressWarnings("unchecked")
+                final O output = (O) outputs[idx];
+                out[depth++] = output;
+                path[depth] = curr;
+            }
+
+            numTraced = depth;
+            tracedLengths[k] = depth;
+            prev = word;
+        }
+    }
+
     public static final class Creator<I, O> implements AutomatonCreator<CompactMealy<I, O>, I> {
 
         @Override
@@ -0,0 +1,286 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.OffHeapIntArray;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactMealy} that stores its transitions outside the Java heap in {@link OffHeapIntArray}s. Each
+ * transition is represented by its successor and the index of its output in an (on-heap) table of distinct output
+ * symbols. Hence, this class is particularly suited for large automata over a comparatively small set of outputs.
+ * <p>
+ * By default, the transitions are stored in direct buffers. Using {@link OffHeapIntArray#map(java.nio.file.Path)}, the
+ * transitions may also be stored in memory-mapped files. In both cases, adding states does not copy the existing
+ * transitions, and the transition tables do not put any pressure on the garbage collector.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class OffHeapCompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O>
+        implements MutableMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   Closeable {
+
+    private static final int NO_OUTPUT = -1;
+
+    private final OffHeapIntArray transitions;
+    private final OffHeapIntArray outputs;
+
+    private final List<O> outputTable;
+    private final Map<O, Integer> outputIndices;
+
+    public OffHeapCompactMealy(Alphabet<I> alphabet) {
+        this(alphabet, DEFAULT_INIT_CAPACITY);
+    }
+
+    public OffHeapCompactMealy(Alphabet<I> alphabet, int stateCapacity) {
+        this(alphabet, stateCapacity, OffHeapIntArray.allocateDirect(), OffHeapIntArray.allocateDirect());
+    }
+
+    public OffHeapCompactMealy(Alphabet<I> alphabet,
+                               int stateCapacity,
+                               OffHeapIntArray transitions,
+                               OffHeapIntArray outputs) {
+        this(alphabet, stateCapacity, DEFAULT_RESIZE_FACTOR, transitions, outputs);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the initial state capacity
+     * @param resizeFactor
+     *         the resize factor for the state capacity
+     * @param transitions
+     *         the (empty) off-heap array for storing the successors of transitions. This automaton takes ownership of
+     *         the array and closes it on {@link #close()}
+     * @param outputs
+     *         the (empty) off-heap array for storing the output indices of transitions. This automaton takes ownership
+     *         of the array and closes it on {@link #close()}
+     */
+    public OffHeapCompactMealy(Alphabet<I> alphabet,
+                               int stateCapacity,
+                               float resizeFactor,
+                               OffHeapIntArray transitions,
+                               OffHeapIntArray outputs) {
+        super(alphabet, stateCapacity, resizeFactor);
+
+        final int size = stateCapacity * numInputs();
+
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.transitions.ensureCapacity(size);
+        this.outputs.ensureCapacity(size);
+        this.transitions.fill(0, size, AbstractCompact.INVALID_STATE);
+        this.outputs.fill(0, size, NO_OUTPUT);
+
+        this.outputTable = new ArrayList<>();
+        this.outputIndices = new HashMap<>();
+    }
+
+    /**
+     * Copy constructor. The transitions of the copy are stored in direct buffers.
+     *
+     * @param other
+     *         the automaton to copy
+     */
+    public OffHeapCompactMealy(OffHeapCompactMealy<I, O> other) {
+        super(other.getInputAlphabet(), other);
+        this.transitions = other.transitions.copy();
+        this.outputs = other.outputs.copy();
+        this.outputTable = new ArrayList<>(other.outputTable);
+        this.outputIndices = new HashMap<>(other.outputIndices);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, AbstractCompact.INVALID_STATE, payload);
+        updateTransitionStorage(this.outputs, NO_OUTPUT, payload);
+    }
+
+    /**
+     * Returns the number of distinct (non-{@code null}) outputs that have been stored in this automaton so far. Note
+     * that outputs are never removed from the output table, even if no transition refers to them anymore.
+     *
+     * @return the number of distinct outputs
+     */
+    public int numOutputs() {
+        return outputTable.size();
+    }
+
+    private int toOutputIndex(@Nullable O output) {
+        if (output == null) {
+            return NO_OUTPUT;
+        }
+
+        final Integer idx = outputIndices.get(output);
+        if (idx != null) {
+            return idx;
+        }
+
+        final int newIdx = outputTable.size();
+        outputTable.add(output);
+        outputIndices.put(output, newIdx);
+        return newIdx;
+    }
+
+    @SuppressWarnings("nullness") // null outputs are only returned if they have been explicitly set as such
+    private O toOutput(int idx) {
+        return idx == NO_OUTPUT ? null : outputTable.get(idx);
+    }
+
+    @Override
+    public O getTransitionOutput(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public O getTransitionProperty(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public void setTransitionProperty(CompactTransition<O> transition, O property) {
+        transition.setProperty(property);
+
+        if (transition.isAutomatonTransition()) {
+            outputs.set(transition.getMemoryIdx(), toOutputIndex(property));
+        }
+    }
+
+    @Override
+    public void setTransitionOutput(CompactTransition<O> transition, O output) {
+        setTransitionProperty(transition, output);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final int lower = state * numInputs();
+        final int upper = lower + numInputs();
+        transitions.fill(lower, upper, AbstractCompact.INVALID_STATE);
+        outputs.fill(lower, upper, NO_OUTPUT);
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<O> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return transitions.get(toMemoryIndex(state, input));
+    }
+
+    @Override
+    public CompactTransition<O> createTransition(int succId, O property) {
+        return new CompactTransition<>(succId, property);
+    }
+
+    @Override
+    public void setStateProperty(int state, Void property) {}
+
+    @Override
+    public Void getStateProperty(int stateId) {
+        return null;
+    }
+
+    @Override
+    public void setTransition(int state, int input, @Nullable CompactTransition<O> transition) {
+        if (transition == null) {
+            setTransition(state, input, AbstractCompact.INVALID_STATE, null);
+        } else {
+            setTransition(state, input, transition.getSuccId(), transition.getProperty());
+            transition.setMemoryIdx(toMemoryIndex(state, input));
+        }
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, @Nullable O property) {
+        final int idx = toMemoryIndex(state, input);
+        transitions.set(idx, successor);
+        outputs.set(idx, toOutputIndex(property));
+    }
+
+    @Override
+    public void clear() {
+        final int endIdx = size() * numInputs();
+        transitions.fill(0, endIdx, AbstractCompact.INVALID_STATE);
+        outputs.fill(0, endIdx, NO_OUTPUT);
+        outputTable.clear();
+        outputIndices.clear();
+
+        super.clear();
+    }
+
+    @Override
+    public @Nullable CompactTransition<O> getTransition(int state, int input) {
+        final int idx = toMemoryIndex(state, input);
+        final int succ = transitions.get(idx);
+
+        if (succ == AbstractCompact.INVALID_STATE) {
+            return null;
+        }
+
+        return new CompactTransition<>(idx, succ, toOutput(outputs.get(idx)));
+    }
+
+    /**
+     * Releases the off-heap storage of this automaton. The automaton must not be used afterwards.
+     *
+     * @throws IOException
+     *         if releasing a file-backed storage fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            transitions.close();
+        } finally {
+            outputs.close();
+        }
+    }
+
+    public static final class Creator<I, O> implements AutomatonCreator<OffHeapCompactMealy<I, O>, I> {
+
+        @Override
+        public OffHeapCompactMealy<I, O> createAutomaton(Alphabet<I> alphabet, int sizeHint) {
+            return new OffHeapCompactMealy<>(alphabet, sizeHint);
+        }
+
+        @Override
+        public OffHeapCompactMealy<I, O> createAutomaton(Alphabet<I> alphabet) {
+            return new OffHeapCompactMealy<>(alphabet);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompactSparseNFATest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 4);
+
+    @Test
+    public void testAgainstCompactNFA() {
+        final Random random = new Random(42);
+        final CompactNFA<Integer> expected = new CompactNFA<>(ALPHABET);
+        final CompactSparseNFA<Integer> actual = new CompactSparseNFA<>(ALPHABET);
+
+        addStates(random, expected, actual, 50);
+        modify(random, expected, actual, 500);
+        checkEquals(expected, actual);
+        Assert.assertFalse(actual.isFrozen());
+
+        actual.freeze();
+        Assert.assertTrue(actual.isFrozen());
+        checkEquals(expected, actual);
+
+        // modify frozen states and add new ones
+        modify(random, expected, actual, 100);
+        addStates(random, expected, actual, 20);
+        modify(random, expected, actual, 200);
+        checkEquals(expected, actual);
+
+        final CompactSparseNFA<Integer> copy = new CompactSparseNFA<>(actual);
+        checkEquals(expected, copy);
+
+        actual.freeze();
+        checkEquals(expected, actual);
+
+        // modifications of the original must not affect the copy
+        actual.removeAllTransitions(0);
+        checkEquals(expected, copy);
+
+        actual.clear();
+        Assert.assertEquals(actual.size(), 0);
+        Assert.assertEquals(actual.numTransitions(), 0);
+    }
+
+    private static void addStates(Random random,
+                                  CompactNFA<Integer> expected,
+                                  CompactSparseNFA<Integer> actual,
+                                  int num) {
+        for (int i = 0; i < num; i++) {
+            final boolean accepting = random.nextBoolean();
+            expected.addState(accepting);
+            actual.addState(accepting);
+        }
+    }
+
+    private static void modify(Random random, CompactNFA<Integer> expected, CompactSparseNFA<Integer> actual, int num) {
+        final int size = expected.size();
+
+        for (int i = 0; i < num; i++) {
+            final int state = random.nextInt(size);
+            final int input = random.nextInt(ALPHABET.size());
+            final int succ = random.nextInt(size);
+
+            switch (random.nextInt(10)) {
+                case 0:
+                    expected.removeAllTransitions(state, input);
+                    actual.removeAllTransitions(state, input);
+                    break;
+                case 1:
+                case 2:
+                    expected.removeTransition(state, input, succ);
+                    actual.removeTransition(state, input, succ);
+                    break;
+                case 3:
+                    expected.setInitial(state, true);
+                    actual.setInitial(state, true);
+                    break;
+                default:
+                    expected.addTransition(state, input, succ);
+                    actual.addTransition(state, input, succ);
+            }
+        }
+    }
+
+    private static void checkEquals(CompactNFA<Integer> expected, CompactSparseNFA<Integer> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getInitialStates(), expected.getInitialStates());
+
+        int numTransitions = 0;
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < ALPHABET.size(); i++) {
+                Assert.assertEquals(actual.getTransitions(s, i), expected.getTransitions(s, i));
+
+                final BitSet e = new BitSet();
+                final BitSet a = new BitSet();
+                expected.addSuccessorsTo(s, i, e);
+                actual.addSuccessorsTo(s, i, a);
+                Assert.assertEquals(a, e);
+
+                numTransitions += e.cardinality();
+            }
+        }
+
+        Assert.assertEquals(actual.numTransitions(), numTransitions);
+    }
+}
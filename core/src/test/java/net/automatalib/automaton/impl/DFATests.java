@@ -19,7 +19,9 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.util.TestUtil;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.word.Word;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class DFATests {
@@ -39,4 +41,36 @@ public class DFATests {
         TestUtil.checkOutput(dfa, Word.fromString("aabb"), false);
         TestUtil.checkOutput(dfa, Word.fromString("baba"), false);
     }
+
+    @Test
+    public void testBatchAcceptance() {
+        final Alphabet<Character> sigma = Alphabets.characters('a', 'b');
+        final CompactDFA<Character> dfa = new CompactDFA<>(sigma);
+
+        final int q0 = dfa.addIntInitialState(true);
+        final int q1 = dfa.addIntState(false);
+
+        dfa.setTransition(q0, sigma.getSymbolIndex('a'), q1);
+        dfa.setTransition(q1, sigma.getSymbolIndex('b'), q0);
+
+        final String[] words = {"", "ab", "aba", "abab", "ababa", "abb", "aabb", "baba", "abab"};
+        final IntSeq[] inputs = new IntSeq[words.length];
+        final boolean[] accepted = new boolean[words.length];
+        final int[] states = new int[words.length];
+
+        for (int i = 0; i < words.length; i++) {
+            inputs[i] = Word.fromString(words[i]).toIntWord(sigma);
+        }
+
+        dfa.accepts(inputs, accepted);
+        dfa.getIntStates(inputs, states);
+
+        for (int i = 0; i < words.length; i++) {
+            final Word<Character> word = Word.fromString(words[i]);
+            final Integer state = dfa.getState(word);
+
+            Assert.assertEquals(accepted[i], dfa.accepts(word));
+            Assert.assertEquals(states[i], state == null ? CompactDFA.INVALID_STATE : state.intValue());
+        }
+    }
 }
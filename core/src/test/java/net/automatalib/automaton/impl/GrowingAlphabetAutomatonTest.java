@@ -28,13 +28,16 @@ import net.automatalib.automaton.MutableAutomaton;
 import net.automatalib.automaton.concept.Output;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.fsa.impl.CompactSparseNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.OffHeapCompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import net.automatalib.exception.GrowingAlphabetNotSupportedException;
 import net.automatalib.word.Word;
@@ -198,6 +201,16 @@ public class GrowingAlphabetAutomatonTest {
         this.testGrowableOutputAutomaton(CompactNFA::new);
     }
 
+    @Test
+    public void testOffHeapCompactDFA() {
+        this.testGrowableOutputAutomaton(OffHeapCompactDFA::new);
+    }
+
+    @Test
+    public void testCompactSparseNFA() {
+        this.testGrowableOutputAutomaton(CompactSparseNFA::new);
+    }
+
     @Test
     public void testFastDFA() {
         this.testGrowableOutputAutomaton(FastDFA::new);
@@ -213,6 +226,11 @@ public class GrowingAlphabetAutomatonTest {
         this.testGrowableOutputAutomaton(CompactMealy::new);
     }
 
+    @Test
+    public void testOffHeapCompactMealy() {
+        this.testGrowableOutputAutomaton(OffHeapCompactMealy::new);
+    }
+
     @Test
     public void testFastMealy() {
         this.testGrowableOutputAutomaton(FastMealy::new);
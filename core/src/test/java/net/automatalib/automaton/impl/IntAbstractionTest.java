@@ -34,6 +34,11 @@ public class IntAbstractionTest extends MutableAutomatonTest {
     @Override
     public void testCompactNFA() {}
 
+    // disable tests for non-deterministic automata
+    @Test(enabled = false)
+    @Override
+    public void testCompactSparseNFA() {}
+
     // disable tests for non-deterministic automata
     @Test(enabled = false)
     @Override
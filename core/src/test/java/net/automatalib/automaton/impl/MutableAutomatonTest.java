@@ -32,13 +32,16 @@ import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.fsa.impl.CompactSparseNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.OffHeapCompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
 import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import net.automatalib.common.util.random.RandomUtil;
@@ -78,6 +81,16 @@ public class MutableAutomatonTest {
         this.checkAutomaton(new CompactNFA.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
     }
 
+    @Test
+    public void testOffHeapCompactDFA() {
+        this.checkAutomaton(new OffHeapCompactDFA.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
+    }
+
+    @Test
+    public void testCompactSparseNFA() {
+        this.checkAutomaton(new CompactSparseNFA.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
+    }
+
     @Test
     public void testFastDFA() {
         this.checkAutomaton(FastDFA::new, ALPHABET, STATE_PROPS, EMPTY_PROPS);
@@ -93,6 +106,11 @@ public class MutableAutomatonTest {
         this.checkAutomaton(new CompactMealy.Creator<>(), ALPHABET, EMPTY_PROPS, TRANS_PROPS);
     }
 
+    @Test
+    public void testOffHeapCompactMealy() {
+        this.checkAutomaton(new OffHeapCompactMealy.Creator<>(), ALPHABET, EMPTY_PROPS, TRANS_PROPS);
+    }
+
     @Test
     public void testFastMealy() {
         this.checkAutomaton(FastMealy::new, ALPHABET, EMPTY_PROPS, TRANS_PROPS);
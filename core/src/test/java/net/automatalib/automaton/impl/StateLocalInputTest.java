@@ -31,6 +31,7 @@ import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -64,6 +65,11 @@ public class StateLocalInputTest {
         this.testAutomaton(new CompactMealy<>(ALPHABET));
     }
 
+    @Test
+    public void testOffHeapCompactMealy() {
+        this.testAutomaton(new OffHeapCompactMealy<>(ALPHABET));
+    }
+
     @Test
     public void testFastMealy() {
         this.testAutomaton(new FastMealy<>(ALPHABET));
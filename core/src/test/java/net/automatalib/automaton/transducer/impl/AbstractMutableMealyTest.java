@@ -20,8 +20,10 @@ import java.util.Arrays;
 import java.util.List;
 
 import net.automatalib.alphabet.impl.Symbol;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.util.TestUtil;
+import net.automatalib.word.IntWord;
 import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -46,6 +48,24 @@ public abstract class AbstractMutableMealyTest {
         Assert.assertEquals(output.getSymbol(2), TestUtil.OUT_ERROR);
     }
 
+    @Test
+    public void testIntTrace() {
+        final MutableMealyMachine<?, Symbol<Character>, ?, String> fm = getMealy();
+        final UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, String> abs =
+                fm.fullIntAbstraction(TestUtil.ALPHABET);
+
+        final Word<Symbol<Character>> trace = Word.fromSymbols(TestUtil.IN_A, TestUtil.IN_A, TestUtil.IN_A);
+        final IntWord intTrace = trace.toIntWord(TestUtil.ALPHABET);
+
+        Assert.assertEquals(abs.computeOutputs(intTrace), fm.computeOutput(trace));
+        Assert.assertEquals(abs.computeOutputs(intTrace.prefix(2)), fm.computeOutput(trace.prefix(2)));
+        Assert.assertEquals(abs.getIntState(intTrace), abs.getIntSuccessor(abs.getIntInitialState(), intTrace));
+
+        final List<String> output = new ArrayList<>();
+        Assert.assertTrue(abs.traceOutputs(abs.getIntInitialState(), intTrace, output));
+        Assert.assertEquals(output, fm.computeOutput(trace).asList());
+    }
+
     @Test
     public void testRemoveTransition() {
         testRemoveTransitionInternal(getMealy());
@@ -15,9 +15,17 @@
  */
 package net.automatalib.automaton.transducer.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.automatalib.alphabet.impl.Symbol;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.util.TestUtil;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
 
 public class CompactMealyTest extends AbstractMutableMealyTest {
 
@@ -25,4 +33,49 @@ public class CompactMealyTest extends AbstractMutableMealyTest {
     protected MutableMealyMachine<?, Symbol<Character>, ?, String> getMealy() {
         return TestUtil.constructMealy(CompactMealy::new);
     }
+
+    @Test
+    public void testTraceBatch() {
+        final CompactMealy<Symbol<Character>, String> mealy = TestUtil.constructMealy(CompactMealy::new);
+        // make the automaton partial
+        mealy.removeAllTransitions(2, TestUtil.IN_B);
+
+        final List<Word<Symbol<Character>>> words = new ArrayList<>();
+        collectWords(Word.epsilon(), 5, words);
+        // add some words that do not share prefixes with their predecessor
+        words.add(Word.fromSymbols(TestUtil.IN_B, TestUtil.IN_A));
+        words.add(Word.fromSymbols(TestUtil.IN_A, TestUtil.IN_A, TestUtil.IN_B, TestUtil.IN_A));
+        words.add(Word.epsilon());
+
+        final int n = words.size();
+        final IntSeq[] inputs = new IntSeq[n];
+        final String[][] outputs = new String[n][];
+        final int[] lengths = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            inputs[i] = words.get(i).toIntWord(TestUtil.ALPHABET);
+            outputs[i] = new String[words.get(i).length()];
+        }
+
+        mealy.traceBatch(inputs, outputs, lengths);
+
+        for (int i = 0; i < n; i++) {
+            final Word<Symbol<Character>> word = words.get(i);
+            final WordBuilder<String> expected = new WordBuilder<>();
+            final boolean complete = mealy.trace(word, expected);
+
+            Assert.assertEquals(lengths[i], expected.size());
+            Assert.assertEquals(complete, lengths[i] == word.length());
+            Assert.assertEquals(Word.fromArray(outputs[i], 0, lengths[i]), expected.toWord());
+        }
+    }
+
+    private static void collectWords(Word<Symbol<Character>> prefix, int depth, List<Word<Symbol<Character>>> words) {
+        words.add(prefix);
+        if (depth > 0) {
+            for (Symbol<Character> sym : TestUtil.ALPHABET) {
+                collectWords(prefix.append(sym), depth - 1, words);
+            }
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.alphabet.impl.Symbol;
+import net.automatalib.automaton.base.OffHeapIntArray;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.util.TestUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class OffHeapCompactMealyTest extends AbstractMutableMealyTest {
+
+    @Override
+    protected MutableMealyMachine<?, Symbol<Character>, ?, String> getMealy() {
+        return TestUtil.constructMealy(OffHeapCompactMealy::new);
+    }
+
+    @Test
+    public void testMappedStorage() throws IOException {
+        final Random random = new Random(42);
+        final Path transitionFile = Files.createTempFile("transitions", ".bin");
+        final Path outputFile = Files.createTempFile("outputs", ".bin");
+
+        final GrowingMapAlphabet<Integer> expectedAlphabet = new GrowingMapAlphabet<>();
+        final GrowingMapAlphabet<Integer> actualAlphabet = new GrowingMapAlphabet<>();
+        expectedAlphabet.addSymbol(0);
+        actualAlphabet.addSymbol(0);
+
+        final CompactMealy<Integer, String> expected = new CompactMealy<>(expectedAlphabet);
+
+        // use tiny segments so that the transition tables span many segments
+        try (OffHeapCompactMealy<Integer, String> actual = new OffHeapCompactMealy<>(actualAlphabet,
+                                                                                     1,
+                                                                                     OffHeapIntArray.map(transitionFile,
+                                                                                                         16),
+                                                                                     OffHeapIntArray.map(outputFile,
+                                                                                                         16))) {
+
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 20; i++) {
+                    expected.addState();
+                    actual.addState();
+                }
+
+                final int size = expected.size();
+                for (int i = 0; i < 200; i++) {
+                    final int state = random.nextInt(size);
+                    final int input = random.nextInt(expected.numInputs());
+                    final int succ = random.nextInt(size);
+                    final String output = Integer.toString(random.nextInt(5));
+
+                    expected.setTransition(state, input, succ, output);
+                    actual.setTransition(state, input, succ, output);
+                }
+
+                checkEquals(expected, actual);
+
+                expected.addAlphabetSymbol(round + 1);
+                actual.addAlphabetSymbol(round + 1);
+
+                checkEquals(expected, actual);
+            }
+
+            Assert.assertEquals(actual.numOutputs(), 5);
+            Assert.assertTrue(Files.size(transitionFile) > 0);
+
+            final OffHeapCompactMealy<Integer, String> copy = new OffHeapCompactMealy<>(actual);
+            checkEquals(expected, copy);
+            copy.close();
+
+            actual.clear();
+            Assert.assertEquals(actual.size(), 0);
+        } finally {
+            Files.delete(transitionFile);
+            Files.delete(outputFile);
+        }
+    }
+
+    private static void checkEquals(CompactMealy<Integer, String> expected, OffHeapCompactMealy<Integer, String> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.numInputs(), expected.numInputs());
+
+        for (int s = 0; s < expected.size(); s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getOutput(s, i), expected.getOutput(s, i));
+            }
+        }
+    }
+}
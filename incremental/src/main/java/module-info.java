@@ -50,4 +50,5 @@ open module net.automatalib.incremental {
     exports net.automatalib.incremental.mealy.tree;
     exports net.automatalib.incremental.moore.dag;
     exports net.automatalib.incremental.moore.tree;
+    exports net.automatalib.incremental.persistence;
 }
@@ -15,10 +15,13 @@
  */
 package net.automatalib.incremental;
 
+import java.util.Collection;
+
 import net.automatalib.automaton.concept.Output;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.common.util.Pair;
 import net.automatalib.incremental.dfa.Acceptance;
 import net.automatalib.ts.UniversalDTS;
 import net.automatalib.word.Word;
@@ -39,6 +42,25 @@ public interface IncrementalConstruction<M extends Output<I, D>, I, D> extends C
 
     void insert(Word<? extends I> input, D output) throws ConflictException;
 
+    /**
+     * Inserts multiple input words (and their corresponding outputs) into the automaton. The default implementation
+     * simply {@link #insert(Word, Object) inserts} the given entries one after another. Implementations may override
+     * this method to provide a more efficient bulk insertion.
+     *
+     * @param entries
+     *             the pairs of input words and outputs to insert
+     *
+     * @throws ConflictException
+     *                           if the newly provided information conflicts with
+     *                           existing information (or with other entries)
+     */
+    default void insertAll(Collection<? extends Pair<? extends Word<? extends I>, ? extends D>> entries)
+            throws ConflictException {
+        for (Pair<? extends Word<? extends I>, ? extends D> e : entries) {
+            insert(e.getFirst(), e.getSecond());
+        }
+    }
+
     interface MealyBuilder<I, O>
             extends IncrementalConstruction<MealyMachine<?, I, ?, O>, I, Word<O>>, Construction.MealyBuilder<I, O> {
     }
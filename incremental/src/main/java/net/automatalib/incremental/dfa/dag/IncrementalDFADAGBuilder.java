@@ -16,11 +16,15 @@
 package net.automatalib.incremental.dfa.dag;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.comparison.CmpUtil;
 import net.automatalib.incremental.ConflictException;
 import net.automatalib.incremental.dfa.Acceptance;
 import net.automatalib.word.Word;
@@ -224,6 +228,125 @@ public class IncrementalDFADAGBuilder<I> extends AbstractIncrementalDFADAGBuilde
         updateInitSignature(finalIdx, last);
     }
 
+    /**
+     * Inserts the given words using the incremental construction algorithm for sorted data by Daciuk et al. The words
+     * are sorted lexicographically (w.r.t. the order of the input alphabet), which allows to construct the DAG without
+     * any confluence detection or cloning: only the states along the most recently inserted word (the <i>unfinished
+     * path</i>) are modifiable, and they are minimized (i.e., replaced by an equivalent registered state or registered
+     * themselves) as soon as no subsequent word can extend them anymore.
+     * <p>
+     * This is only possible if the builder does not contain any information yet. Otherwise, the words are inserted one
+     * after another via {@link #insert(Word, Boolean)}.
+     *
+     * @param entries
+     *         the pairs of words and their acceptance to insert
+     *
+     * @throws ConflictException
+     *         if the entries conflict with each other or with existing information. Entries that (in the sorted order)
+     *         precede the conflicting entry remain inserted
+     */
+    @Override
+    public void insertAll(Collection<? extends Pair<? extends Word<? extends I>, ? extends Boolean>> entries) {
+        if (!isEmpty()) {
+            for (Pair<? extends Word<? extends I>, ? extends Boolean> e : entries) {
+                insert(e.getFirst(), e.getSecond());
+            }
+            return;
+        }
+
+        final List<BatchEntry> batch = new ArrayList<>(entries.size());
+        for (Pair<? extends Word<? extends I>, ? extends Boolean> e : entries) {
+            final Word<? extends I> word = e.getFirst();
+            final int[] indices = new int[word.length()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = inputAlphabet.getSymbolIndex(word.getSymbol(i));
+            }
+            batch.add(new BatchEntry(indices, Acceptance.fromBoolean(e.getSecond())));
+        }
+        batch.sort((e1, e2) -> CmpUtil.lexCompare(e1.input, e2.input));
+
+        final List<State> path = new ArrayList<>();
+        path.add(init);
+        int[] prev = new int[0];
+
+        try {
+            for (BatchEntry entry : batch) {
+                final int[] input = entry.input;
+
+                // the unfinished path is the only part of the DAG that shares a prefix with the current word
+                final int maxPrefixLen = Math.min(input.length, prev.length);
+                int prefixLen = 0;
+                while (prefixLen < maxPrefixLen && input[prefixLen] == prev[prefixLen]) {
+                    prefixLen++;
+                }
+
+                if (prefixLen == input.length) {
+                    // structural skeleton for this word already present (on the unfinished path)
+                    final StateSignature sig = path.get(prefixLen).getSignature();
+                    if (sig.acceptance == Acceptance.DONT_KNOW) {
+                        sig.acceptance = entry.acceptance;
+                    } else if (sig.acceptance != entry.acceptance) {
+                        throw new ConflictException(
+                                "Incompatible acceptances: " + sig.acceptance + " vs " + entry.acceptance);
+                    }
+                    continue;
+                }
+
+                minimizePath(path, prev, prefixLen);
+
+                State curr = path.get(prefixLen);
+                for (int i = prefixLen; i < input.length; i++) {
+                    final Acceptance acc = i == input.length - 1 ? entry.acceptance : Acceptance.DONT_KNOW;
+                    final State succ = new State(new StateSignature(alphabetSize, acc));
+                    curr.getSignature().successors.array[input[i]] = succ;
+                    succ.increaseIncoming();
+                    path.add(succ);
+                    curr = succ;
+                }
+
+                prev = input;
+            }
+        } finally {
+            minimizePath(path, prev, 0);
+        }
+    }
+
+    private boolean isEmpty() {
+        final StateSignature sig = init.getSignature();
+        if (sig.acceptance != Acceptance.DONT_KNOW) {
+            return false;
+        }
+        for (int i = 0; i < alphabetSize; i++) {
+            if (sig.successors.array[i] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Minimizes the unfinished path of the sorted batch insertion, starting from its end up to (excluding) the given
+     * prefix length.
+     *
+     * @param path
+     *         the (modifiable) states of the unfinished path
+     * @param input
+     *         the input indices of the word that constitutes the unfinished path
+     * @param prefixLen
+     *         the length of the prefix of the unfinished path which should remain modifiable
+     */
+    private void minimizePath(List<State> path, int[] input, int prefixLen) {
+        for (int i = path.size() - 1; i > prefixLen; i--) {
+            final State state = path.remove(i);
+            state.getSignature().updateHashCode();
+            final State canonical = replaceOrRegister(state);
+            if (canonical != state) {
+                path.get(i - 1).getSignature().successors.array[input[i - 1]] = canonical;
+                canonical.increaseIncoming();
+            }
+        }
+    }
+
     /**
      * Creates a suffix state sequence, i.e., a linear sequence of states connected by transitions labeled by the
      * letters of the given suffix word.
@@ -275,4 +398,14 @@ public class IncrementalDFADAGBuilder<I> extends AbstractIncrementalDFADAGBuilde
         return s;
     }
 
+    private static final class BatchEntry {
+
+        private final int[] input;
+        private final Acceptance acceptance;
+
+        BatchEntry(int[] input, Acceptance acceptance) {
+            this.input = input;
+            this.acceptance = acceptance;
+        }
+    }
 }
@@ -16,12 +16,14 @@
 package net.automatalib.incremental.mealy.dag;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -35,6 +37,7 @@ import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
 import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.Pair;
 import net.automatalib.common.util.UnionFind;
+import net.automatalib.common.util.comparison.CmpUtil;
 import net.automatalib.graph.Graph;
 import net.automatalib.incremental.ConflictException;
 import net.automatalib.incremental.IncrementalConstruction;
@@ -272,6 +275,125 @@ public class IncrementalMealyDAGBuilder<I, O>
         updateInitSignature(finalIdx, last);
     }
 
+    /**
+     * Inserts the given entries using the incremental construction algorithm for sorted data by Daciuk et al. The
+     * entries are sorted lexicographically (w.r.t. the order of the input alphabet), which allows to construct the DAG
+     * without any confluence detection or cloning: only the states along the most recently inserted word (the
+     * <i>unfinished path</i>) are modifiable, and they are minimized (i.e., replaced by an equivalent registered state
+     * or registered themselves) as soon as no subsequent word can extend them anymore.
+     * <p>
+     * This is only possible if the builder does not contain any information yet. Otherwise, the entries are inserted
+     * one after another via {@link #insert(Word, Word)}.
+     *
+     * @param entries
+     *         the pairs of input words and output words to insert
+     *
+     * @throws ConflictException
+     *         if the entries conflict with each other or with existing information. Entries that (in the sorted order)
+     *         precede the conflicting entry remain inserted
+     */
+    @Override
+    public void insertAll(Collection<? extends Pair<? extends Word<? extends I>, ? extends Word<O>>> entries) {
+        if (!isEmpty()) {
+            for (Pair<? extends Word<? extends I>, ? extends Word<O>> e : entries) {
+                insert(e.getFirst(), e.getSecond());
+            }
+            return;
+        }
+
+        final List<BatchEntry<I, O>> batch = new ArrayList<>(entries.size());
+        for (Pair<? extends Word<? extends I>, ? extends Word<O>> e : entries) {
+            final Word<? extends I> input = e.getFirst();
+            final int[] indices = new int[input.length()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = inputAlphabet.getSymbolIndex(input.getSymbol(i));
+            }
+            batch.add(new BatchEntry<>(input, indices, e.getSecond()));
+        }
+        batch.sort((e1, e2) -> CmpUtil.lexCompare(e1.input, e2.input));
+
+        final List<State<O>> path = new ArrayList<>();
+        path.add(init);
+        int[] prev = new int[0];
+
+        try {
+            for (BatchEntry<I, O> entry : batch) {
+                final int[] input = entry.input;
+                final Word<O> output = entry.output;
+
+                // the unfinished path is the only part of the DAG that shares a prefix with the current word
+                final int maxPrefixLen = Math.min(input.length, prev.length);
+                int prefixLen = 0;
+                while (prefixLen < maxPrefixLen && input[prefixLen] == prev[prefixLen]) {
+                    final O outSym = output.getSymbol(prefixLen);
+                    final O prevOutSym = path.get(prefixLen).getOutput(input[prefixLen]);
+                    if (!Objects.equals(outSym, prevOutSym)) {
+                        throw new ConflictException(
+                                "Error inserting " + entry.word.prefix(prefixLen + 1) + " / " + output.prefix(prefixLen + 1) +
+                                ": Incompatible output symbols: " + outSym + " vs " + prevOutSym);
+                    }
+                    prefixLen++;
+                }
+
+                // The information was already present - we do not need to continue
+                if (prefixLen == input.length) {
+                    continue;
+                }
+
+                minimizePath(path, prev, prefixLen);
+
+                State<O> curr = path.get(prefixLen);
+                for (int i = prefixLen; i < input.length; i++) {
+                    final State<O> succ = new State<>(new StateSignature<>(alphabetSize));
+                    final StateSignature<O> sig = curr.getSignature();
+                    sig.successors.array[input[i]] = succ;
+                    sig.outputs.array[input[i]] = output.getSymbol(i);
+                    succ.increaseIncoming();
+                    path.add(succ);
+                    curr = succ;
+                }
+
+                prev = input;
+            }
+        } finally {
+            minimizePath(path, prev, 0);
+        }
+    }
+
+    private boolean isEmpty() {
+        final StateSignature<O> sig = init.getSignature();
+        for (int i = 0; i < alphabetSize; i++) {
+            if (sig.successors.array[i] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Minimizes the unfinished path of the sorted batch insertion, starting from its end up to (excluding) the given
+     * prefix length.
+     *
+     * @param path
+     *         the (modifiable) states of the unfinished path
+     * @param input
+     *         the input indices of the word that constitutes the unfinished path
+     * @param prefixLen
+     *         the length of the prefix of the unfinished path which should remain modifiable
+     */
+    private void minimizePath(List<State<O>> path, int[] input, int prefixLen) {
+        for (int i = path.size() - 1; i > prefixLen; i--) {
+            final State<O> state = path.remove(i);
+            state.getSignature().updateHashCode();
+            final State<O> canonical = replaceOrRegister(state);
+            if (canonical != state) {
+                final StateSignature<O> parentSig = path.get(i - 1).getSignature();
+                parentSig.successors.array[input[i - 1]] = canonical;
+                canonical.increaseIncoming();
+            }
+        }
+    }
+
     private State<O> hiddenClone(State<O> other) {
         StateSignature<O> sig = other.getSignature().duplicate();
 
@@ -620,6 +742,19 @@ public class IncrementalMealyDAGBuilder<I, O>
         }
     }
 
+    private static final class BatchEntry<I, O> {
+
+        private final Word<? extends I> word;
+        private final int[] input;
+        private final Word<O> output;
+
+        BatchEntry(Word<? extends I> word, int[] input, Word<O> output) {
+            this.word = word;
+            this.input = input;
+            this.output = output;
+        }
+    }
+
     private class AutomatonView implements MealyMachine<State<O>, I, Transition<O>, O> {
 
         @Override
@@ -15,26 +15,105 @@
  */
 package net.automatalib.incremental.mealy.tree;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.TreeSet;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
 import net.automatalib.incremental.AdaptiveConstruction;
 import net.automatalib.util.graph.traversal.GraphTraversal;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * An adaptive Mealy tree builder that allows to overwrite (conflicting) information.
+ * <p>
+ * By default, the tree grows without bounds. Using {@link #AdaptiveMealyTreeBuilder(Alphabet, EvictionPolicy, int)},
+ * the number of nodes of the tree can be limited. Whenever an insertion exceeds this limit, the coldest queries (as
+ * determined by the given {@link EvictionPolicy}) are evicted: their nodes are pruned from the tree unless they are
+ * still required by other (retained) queries. A query is considered used whenever it is inserted or its (complete)
+ * input word is looked up.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
 public class AdaptiveMealyTreeBuilder<I, O> extends AbstractAlphabetBasedMealyTreeBuilder<I, O>
         implements AdaptiveConstruction.MealyBuilder<I, O> {
 
+    // rough estimates for a 64-bit JVM with compressed references
+    private static final int NODE_BYTES = 80;
+    private static final int EDGE_BYTES = 4;
+
     private final Map<Node<O>, Word<I>> nodeToQuery;
 
+    private final int maxNodes;
+    private final @Nullable Map<Node<O>, QueryStatistics<I, O>> statistics;
+    private final @Nullable NavigableSet<QueryStatistics<I, O>> evictionOrder;
+    private long clock;
+
+    private int numNodes;
+    private long numEvictedQueries;
+    private long numEvictedNodes;
+
     public AdaptiveMealyTreeBuilder(Alphabet<I> inputAlphabet) {
         super(inputAlphabet);
         this.nodeToQuery = new LinkedHashMap<>();
+        this.maxNodes = Integer.MAX_VALUE;
+        this.statistics = null;
+        this.evictionOrder = null;
+        this.numNodes = 1;
+    }
+
+    /**
+     * Constructor for a builder with a bounded number of nodes.
+     *
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param policy
+     *         the policy that determines which queries are evicted first
+     * @param maxNodes
+     *         the maximum number of nodes (including the root) of the tree
+     */
+    public AdaptiveMealyTreeBuilder(Alphabet<I> inputAlphabet, EvictionPolicy policy, int maxNodes) {
+        super(inputAlphabet);
+        if (maxNodes < 1) {
+            throw new IllegalArgumentException("The tree requires at least one node");
+        }
+        this.nodeToQuery = new LinkedHashMap<>();
+        this.maxNodes = maxNodes;
+        this.statistics = new HashMap<>();
+        this.evictionOrder = new TreeSet<>(policy.comparator());
+        this.numNodes = 1;
+    }
+
+    /**
+     * Estimates the number of nodes that fit into the given memory budget, e.g., for use in {@link
+     * #AdaptiveMealyTreeBuilder(Alphabet, EvictionPolicy, int)}. The estimate includes the bookkeeping for the query
+     * of each node but is only a rough approximation as the actual memory consumption depends on the JVM and the size
+     * of the stored symbols.
+     *
+     * @param bytes
+     *         the memory budget (in bytes)
+     * @param alphabetSize
+     *         the size of the input alphabet
+     *
+     * @return the estimated number of nodes
+     */
+    public static int estimateMaxNodes(long bytes, int alphabetSize) {
+        final long nodeBytes = NODE_BYTES + (long) EDGE_BYTES * alphabetSize;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes / nodeBytes));
     }
 
     @Override
@@ -65,21 +144,210 @@ public class AdaptiveMealyTreeBuilder<I, O> extends AbstractAlphabetBasedMealyTr
         nodeToQuery.remove(curr);
         nodeToQuery.put(curr, Word.upcast(input));
 
+        if (statistics != null) {
+            touch(curr, Word.upcast(input));
+            evict(curr);
+        }
+
         return hasOverwritten;
     }
 
+    @Override
+    public Pair<Boolean, Word<O>> lookup(Word<? extends I> input) {
+        if (statistics == null) {
+            return super.lookup(input);
+        }
+
+        final WordBuilder<O> wb = new WordBuilder<>(input.size());
+        Node<O> curr = root;
+
+        for (I sym : input) {
+            final Edge<Node<O>, O> edge = getEdge(curr, sym);
+            if (edge == null) {
+                return Pair.of(false, wb.toWord());
+            }
+            wb.add(edge.getOutput());
+            curr = edge.getTarget();
+        }
+
+        final Word<I> query = nodeToQuery.get(curr);
+        if (query != null) {
+            touch(curr, query);
+        }
+
+        return Pair.of(true, wb.toWord());
+    }
+
+    @Override
+    Node<O> insertNode(Node<O> parent, I symIdx, O output) {
+        numNodes++;
+        return super.insertNode(parent, symIdx, output);
+    }
+
     private void removeQueries(Node<O> node) {
-        GraphTraversal.breadthFirstIterator(this.asGraph(), Collections.singleton(node))
-                      .forEachRemaining(nodeToQuery::remove);
+        GraphTraversal.breadthFirstIterator(this.asGraph(), Collections.singleton(node)).forEachRemaining(n -> {
+            nodeToQuery.remove(n);
+            removeStatistics(n);
+            numNodes--;
+        });
     }
 
     private void removeEdge(Node<O> node, I symbol) {
         node.setEdge(this.getInputAlphabet().getSymbolIndex(symbol), null);
     }
 
+    private void touch(Node<O> node, Word<I> query) {
+        assert statistics != null && evictionOrder != null;
+
+        QueryStatistics<I, O> stats = statistics.get(node);
+        if (stats == null) {
+            stats = new QueryStatistics<>(node, query);
+            statistics.put(node, stats);
+        } else {
+            evictionOrder.remove(stats);
+        }
+
+        stats.frequency++;
+        stats.lastAccess = clock++;
+        evictionOrder.add(stats);
+    }
+
+    private void removeStatistics(Node<O> node) {
+        if (statistics != null) {
+            assert evictionOrder != null;
+            final QueryStatistics<I, O> stats = statistics.remove(node);
+            if (stats != null) {
+                evictionOrder.remove(stats);
+            }
+        }
+    }
+
+    /**
+     * Evicts the coldest queries until the tree does not exceed its maximum number of nodes.
+     *
+     * @param current
+     *         the node of the most recently inserted query, which is never evicted
+     */
+    private void evict(Node<O> current) {
+        assert evictionOrder != null;
+
+        final Iterator<QueryStatistics<I, O>> iter = evictionOrder.iterator();
+
+        while (numNodes > maxNodes && iter.hasNext()) {
+            final QueryStatistics<I, O> coldest = iter.next();
+            if (coldest.node == current) {
+                continue;
+            }
+
+            iter.remove();
+            assert statistics != null;
+            statistics.remove(coldest.node);
+            nodeToQuery.remove(coldest.node);
+            numEvictedQueries++;
+
+            prune(coldest.query);
+        }
+    }
+
+    /**
+     * Removes the nodes along the given input word (starting from its end) that are neither the target of a query nor
+     * required by other nodes.
+     */
+    private void prune(Word<I> query) {
+        final int length = query.length();
+        final List<Node<O>> path = new ArrayList<>(length + 1);
+
+        Node<O> curr = root;
+        path.add(curr);
+        for (I sym : query) {
+            final Edge<Node<O>, O> edge = getEdge(curr, sym);
+            assert edge != null;
+            curr = edge.getTarget();
+            path.add(curr);
+        }
+
+        for (int i = length; i > 0; i--) {
+            final Node<O> node = path.get(i);
+            if (nodeToQuery.containsKey(node) || node.hasChildren()) {
+                return;
+            }
+            removeEdge(path.get(i - 1), query.getSymbol(i - 1));
+            numNodes--;
+            numEvictedNodes++;
+        }
+    }
+
     @Override
     public @Nullable Word<I> getOldestInput() {
         final Iterator<Word<I>> iter = nodeToQuery.values().iterator();
         return iter.hasNext() ? iter.next() : null;
     }
+
+    /**
+     * Returns the current number of nodes (including the root) of the tree.
+     *
+     * @return the current number of nodes
+     */
+    public int getNumNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the number of queries that have been evicted so far.
+     *
+     * @return the number of evicted queries
+     */
+    public long getNumEvictedQueries() {
+        return numEvictedQueries;
+    }
+
+    /**
+     * Returns the number of nodes that have been pruned due to evicted queries so far.
+     *
+     * @return the number of evicted nodes
+     */
+    public long getNumEvictedNodes() {
+        return numEvictedNodes;
+    }
+
+    /**
+     * The policy that determines the order in which queries are evicted from a bounded {@link
+     * AdaptiveMealyTreeBuilder}.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evict the least recently used queries first.
+         */
+        LRU {
+            @Override
+            <I, O> Comparator<QueryStatistics<I, O>> comparator() {
+                return Comparator.comparingLong(s -> s.lastAccess);
+            }
+        },
+        /**
+         * Evict the least frequently used queries first. Ties are broken by evicting the least recently used query.
+         */
+        LFU {
+            @Override
+            <I, O> Comparator<QueryStatistics<I, O>> comparator() {
+                return Comparator.<QueryStatistics<I, O>>comparingLong(s -> s.frequency)
+                                 .thenComparingLong(s -> s.lastAccess);
+            }
+        };
+
+        abstract <I, O> Comparator<QueryStatistics<I, O>> comparator();
+    }
+
+    static final class QueryStatistics<I, O> {
+
+        final Node<O> node;
+        final Word<I> query;
+        long frequency;
+        long lastAccess;
+
+        QueryStatistics(Node<O> node, Word<I> query) {
+            this.node = node;
+            this.query = query;
+        }
+    }
 }
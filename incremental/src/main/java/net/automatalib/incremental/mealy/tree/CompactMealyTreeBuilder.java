@@ -0,0 +1,305 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A memory-efficient variant of the {@link IncrementalMealyTreeBuilder}. Instead of representing the tree by node and
+ * edge objects, the whole tree is stored in parallel primitive arrays indexed by node ids:
+ * <ul>
+ *     <li>Since each node (except the root) has exactly one incoming edge, the input index and the output of this
+ *     edge are stored at the target node. Outputs are interned into a table of distinct outputs, so that only their
+ *     index needs to be stored.</li>
+ *     <li>The children of a node are stored as a singly-linked list of siblings (sparse encoding). Once a node has
+ *     sufficiently many children, its children are additionally indexed by a block of {@code |alphabet|} child ids
+ *     (dense encoding) that allows for constant-time lookups.</li>
+ * </ul>
+ * Hence, each node only requires five {@code int}s (plus the dense blocks of high-degree nodes), independent of the
+ * size of the input alphabet.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class CompactMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<Integer, I, O>
+        implements IncrementalConstruction.MealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    private static final int ROOT = 0;
+    // the root is never a child, so its id can be used to mark absent children
+    private static final int NO_NODE = ROOT;
+    private static final int NO_DENSE_BLOCK = -1;
+    private static final int NO_INDEX = -1;
+
+    private static final int DEFAULT_INIT_CAPACITY = 16;
+    private static final int MIN_DENSE_DEGREE = 4;
+    private static final int DENSE_DEGREE_RATIO = 4;
+
+    private final Alphabet<I> inputAlphabet;
+    private int alphabetSize;
+
+    private int numNodes;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] inputs;
+    private int[] outputs;
+    private int[] denseBlocks;
+
+    private int[] denseChildren;
+    private int numDenseBlocks;
+
+    private final List<O> outputTable;
+    private final Map<O, Integer> outputIndices;
+
+    public CompactMealyTreeBuilder(Alphabet<I> inputAlphabet) {
+        super(ROOT);
+        this.inputAlphabet = inputAlphabet;
+        this.alphabetSize = inputAlphabet.size();
+
+        this.firstChild = new int[DEFAULT_INIT_CAPACITY];
+        this.nextSibling = new int[DEFAULT_INIT_CAPACITY];
+        this.inputs = new int[DEFAULT_INIT_CAPACITY];
+        this.outputs = new int[DEFAULT_INIT_CAPACITY];
+        this.denseBlocks = new int[DEFAULT_INIT_CAPACITY];
+        this.denseChildren = new int[0];
+
+        this.outputTable = new ArrayList<>();
+        this.outputIndices = new HashMap<>();
+
+        createNode(); // root
+    }
+
+    @Override
+    public Pair<Boolean, Word<O>> lookup(Word<? extends I> input) {
+        final WordBuilder<O> wb = new WordBuilder<>(input.size());
+        int curr = ROOT;
+
+        for (I sym : input) {
+            curr = getChild(curr, inputAlphabet.getSymbolIndex(sym));
+            if (curr == NO_NODE) {
+                return Pair.of(false, wb.toWord());
+            }
+            wb.add(outputTable.get(outputs[curr]));
+        }
+
+        return Pair.of(true, wb.toWord());
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<O> outputWord) {
+        int curr = ROOT;
+
+        for (int i = 0; i < input.length(); i++) {
+            final int symIdx = inputAlphabet.getSymbolIndex(input.getSymbol(i));
+            final O out = outputWord.getSymbol(i);
+            final int child = getChild(curr, symIdx);
+
+            if (child == NO_NODE) {
+                curr = addChild(curr, symIdx, out);
+            } else {
+                if (!Objects.equals(out, outputTable.get(outputs[child]))) {
+                    throw new ConflictException();
+                }
+                curr = child;
+            }
+        }
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        final int newAlphabetSize = inputAlphabet.size();
+        // even if the symbol was already in the alphabet, we need to make sure to be able to store the new symbol
+        if (alphabetSize < newAlphabetSize) {
+            // re-layout the dense blocks (sparse children are independent of the alphabet size)
+            final int[] newDenseChildren = new int[numDenseBlocks * newAlphabetSize];
+            for (int n = 0; n < numNodes; n++) {
+                final int block = denseBlocks[n];
+                if (block != NO_DENSE_BLOCK) {
+                    System.arraycopy(denseChildren, block * alphabetSize, newDenseChildren, block * newAlphabetSize,
+                                     alphabetSize);
+                }
+            }
+            this.denseChildren = newDenseChildren;
+            this.alphabetSize = newAlphabetSize;
+        }
+    }
+
+    private int getChild(int node, int symIdx) {
+        final int block = denseBlocks[node];
+
+        if (block != NO_DENSE_BLOCK) {
+            return denseChildren[block * alphabetSize + symIdx];
+        }
+
+        for (int c = firstChild[node]; c != NO_NODE; c = nextSibling[c]) {
+            if (inputs[c] == symIdx) {
+                return c;
+            }
+        }
+
+        return NO_NODE;
+    }
+
+    private int addChild(int parent, int symIdx, O output) {
+        final int child = createNode();
+
+        inputs[child] = symIdx;
+        outputs[child] = toOutputIndex(output);
+        nextSibling[child] = firstChild[parent];
+        firstChild[parent] = child;
+
+        final int block = denseBlocks[parent];
+        if (block != NO_DENSE_BLOCK) {
+            denseChildren[block * alphabetSize + symIdx] = child;
+        } else {
+            int degree = 0;
+            for (int c = firstChild[parent]; c != NO_NODE; c = nextSibling[c]) {
+                degree++;
+            }
+            if (degree >= MIN_DENSE_DEGREE && degree * DENSE_DEGREE_RATIO >= alphabetSize) {
+                makeDense(parent);
+            }
+        }
+
+        return child;
+    }
+
+    private void makeDense(int node) {
+        final int block = numDenseBlocks++;
+        final int required = numDenseBlocks * alphabetSize;
+
+        if (required > denseChildren.length) {
+            denseChildren = Arrays.copyOf(denseChildren, ArrayUtil.computeNewCapacity(denseChildren.length, required));
+        }
+
+        final int offset = block * alphabetSize;
+        for (int c = firstChild[node]; c != NO_NODE; c = nextSibling[c]) {
+            denseChildren[offset + inputs[c]] = c;
+        }
+
+        denseBlocks[node] = block;
+    }
+
+    private int toOutputIndex(O output) {
+        final Integer idx = outputIndices.get(output);
+        if (idx != null) {
+            return idx;
+        }
+
+        final int newIdx = outputTable.size();
+        outputTable.add(output);
+        outputIndices.put(output, newIdx);
+        return newIdx;
+    }
+
+    @Override
+    @Nullable Edge<Integer, O> getEdge(Integer node, I symbol) {
+        final int child = getChild(node, inputAlphabet.getSymbolIndex(symbol));
+        return child == NO_NODE ? null : new Edge<>(outputTable.get(outputs[child]), child);
+    }
+
+    @Override
+    Integer createNode() {
+        final int node = numNodes++;
+
+        if (node >= firstChild.length) {
+            final int newCapacity = ArrayUtil.computeNewCapacity(firstChild.length, numNodes);
+            firstChild = Arrays.copyOf(firstChild, newCapacity);
+            nextSibling = Arrays.copyOf(nextSibling, newCapacity);
+            inputs = Arrays.copyOf(inputs, newCapacity);
+            outputs = Arrays.copyOf(outputs, newCapacity);
+            denseBlocks = Arrays.copyOf(denseBlocks, newCapacity);
+        }
+
+        firstChild[node] = NO_NODE;
+        nextSibling[node] = NO_NODE;
+        inputs[node] = NO_INDEX;
+        outputs[node] = NO_INDEX;
+        denseBlocks[node] = NO_DENSE_BLOCK;
+
+        return node;
+    }
+
+    @Override
+    Integer insertNode(Integer parent, I symIdx, O output) {
+        return addChild(parent, inputAlphabet.getSymbolIndex(symIdx), output);
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<Integer, ?> asGraph() {
+        return new MealyGraphView<Integer, I, Edge<Integer, O>, O, MealyMachineView>(new MealyMachineView(),
+                                                                                     inputAlphabet) {
+
+            @Override
+            public VisualizationHelper<Integer, TransitionEdge<I, Edge<Integer, O>>> getVisualizationHelper() {
+                return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+            }
+        };
+    }
+
+    private class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<Integer, I, Edge<Integer, O>, O> {
+
+        @Override
+        public Collection<Integer> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * See AbstractAlphabetBasedMealyTreeBuilder: the default state mapping would require the states, which require
+         * the state mapping.
+         */
+        @Override
+        public <V> MutableMapping<Integer, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
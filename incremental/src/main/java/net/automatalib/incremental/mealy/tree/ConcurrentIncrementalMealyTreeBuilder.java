@@ -0,0 +1,150 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A thread-safe variant of the {@link IncrementalMealyTreeBuilder}. Lookups and insertions are lock-free and may be
+ * performed concurrently by arbitrarily many threads; only the growth of a node's edge array after an alphabet
+ * extension is synchronized.
+ * <p>
+ * The outgoing edges of each node are published via compare-and-set operations and never change once published.
+ * Hence, if two threads concurrently insert conflicting information, exactly one of them succeeds and the other one
+ * observes the published edge and throws a {@link ConflictException}. Since the tree only grows, all views (e.g.,
+ * {@link #asTransitionSystem()}) and queries (e.g., {@link #findSeparatingWord(MealyMachine, Collection, boolean)})
+ * operate on information that remains valid, although they may or may not reflect insertions that happen concurrently.
+ * <p>
+ * Note that {@link #addAlphabetSymbol(Object)} modifies the input alphabet which is typically not thread-safe. Hence,
+ * adding new input symbols must not happen concurrently with other operations on this builder.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class ConcurrentIncrementalMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<ConcurrentNode<O>, I, O>
+        implements IncrementalConstruction.MealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    private final Alphabet<I> inputAlphabet;
+    private volatile int alphabetSize;
+
+    public ConcurrentIncrementalMealyTreeBuilder(Alphabet<I> inputAlphabet) {
+        super(new ConcurrentNode<>(inputAlphabet.size()));
+        this.inputAlphabet = inputAlphabet;
+        this.alphabetSize = inputAlphabet.size();
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<O> outputWord) {
+        ConcurrentNode<O> curr = root;
+
+        for (int i = 0; i < input.length(); i++) {
+            final int symIdx = inputAlphabet.getSymbolIndex(input.getSymbol(i));
+            final O out = outputWord.getSymbol(i);
+
+            Edge<ConcurrentNode<O>, O> edge = curr.getEdge(symIdx);
+            if (edge == null) {
+                edge = curr.publishEdge(symIdx, new Edge<>(out, createNode()), alphabetSize);
+            }
+
+            if (!Objects.equals(out, edge.getOutput())) {
+                throw new ConflictException();
+            }
+
+            curr = edge.getTarget();
+        }
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        // existing nodes grow lazily upon their next insertion
+        alphabetSize = inputAlphabet.size();
+    }
+
+    @Override
+    @Nullable Edge<ConcurrentNode<O>, O> getEdge(ConcurrentNode<O> node, I symbol) {
+        return node.getEdge(inputAlphabet.getSymbolIndex(symbol));
+    }
+
+    @Override
+    ConcurrentNode<O> createNode() {
+        return new ConcurrentNode<>(alphabetSize);
+    }
+
+    @Override
+    ConcurrentNode<O> insertNode(ConcurrentNode<O> parent, I symIdx, O output) {
+        final Edge<ConcurrentNode<O>, O> edge = new Edge<>(output, createNode());
+        return parent.publishEdge(inputAlphabet.getSymbolIndex(symIdx), edge, alphabetSize).getTarget();
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<ConcurrentNode<O>, ?> asGraph() {
+        return new MealyGraphView<ConcurrentNode<O>, I, Edge<ConcurrentNode<O>, O>, O, MealyMachineView>(
+                new MealyMachineView(),
+                inputAlphabet) {
+
+            @Override
+            public VisualizationHelper<ConcurrentNode<O>, TransitionEdge<I, Edge<ConcurrentNode<O>, O>>> getVisualizationHelper() {
+                return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+            }
+        };
+    }
+
+    private class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<ConcurrentNode<O>, I, Edge<ConcurrentNode<O>, O>, O> {
+
+        @Override
+        public Collection<ConcurrentNode<O>> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * See AbstractAlphabetBasedMealyTreeBuilder: the default state mapping would require the states, which require
+         * the state mapping.
+         */
+        @Override
+        public <V> MutableMapping<ConcurrentNode<O>, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
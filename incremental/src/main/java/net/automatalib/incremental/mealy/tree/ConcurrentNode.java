@@ -0,0 +1,113 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A node in the tree internally used by {@link ConcurrentIncrementalMealyTreeBuilder}.
+ * <p>
+ * The outgoing edges are stored in a chain of {@link AtomicReferenceArray segments}. Each edge is published via a
+ * compare-and-set operation and is never modified afterwards. If the input alphabet grows, a new segment is appended
+ * instead of copying the existing edges, so that no concurrently published edge can get lost.
+ *
+ * @param <O>
+ *         output symbol type
+ */
+final class ConcurrentNode<O> {
+
+    private volatile Segment<O> last;
+
+    ConcurrentNode(int alphabetSize) {
+        this.last = new Segment<>(0, alphabetSize, null);
+    }
+
+    @Nullable Edge<ConcurrentNode<O>, O> getEdge(int idx) {
+        final Segment<O> segment = getSegment(idx);
+        return segment == null ? null : segment.edges.get(idx - segment.offset);
+    }
+
+    /**
+     * Publishes the given edge for the given input index, unless an edge for this index has already been published.
+     *
+     * @param idx
+     *         the input index
+     * @param edge
+     *         the edge to publish
+     * @param alphabetSize
+     *         the current size of the input alphabet, used for growing the node if necessary
+     *
+     * @return the edge that is associated with the given index after this operation, i.e., either the given edge or a
+     * previously published one
+     */
+    Edge<ConcurrentNode<O>, O> publishEdge(int idx, Edge<ConcurrentNode<O>, O> edge, int alphabetSize) {
+        Segment<O> segment = getSegment(idx);
+
+        if (segment == null) {
+            ensureInputCapacity(Math.max(idx + 1, alphabetSize));
+            segment = getSegment(idx);
+            assert segment != null;
+        }
+
+        final int localIdx = idx - segment.offset;
+        if (segment.edges.compareAndSet(localIdx, null, edge)) {
+            return edge;
+        }
+
+        final Edge<ConcurrentNode<O>, O> existing = segment.edges.get(localIdx);
+        assert existing != null;
+        return existing;
+    }
+
+    private @Nullable Segment<O> getSegment(int idx) {
+        Segment<O> segment = last;
+
+        if (idx >= segment.offset + segment.edges.length()) {
+            return null;
+        }
+
+        while (idx < segment.offset) {
+            segment = segment.previous;
+            assert segment != null;
+        }
+
+        return segment;
+    }
+
+    private synchronized void ensureInputCapacity(int capacity) {
+        final Segment<O> segment = last;
+        final int currentCapacity = segment.offset + segment.edges.length();
+
+        if (currentCapacity < capacity) {
+            last = new Segment<>(currentCapacity, capacity - currentCapacity, segment);
+        }
+    }
+
+    private static final class Segment<O> {
+
+        private final int offset;
+        private final AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> edges;
+        private final @Nullable Segment<O> previous;
+
+        Segment(int offset, int length, @Nullable Segment<O> previous) {
+            this.offset = offset;
+            this.edges = new AtomicReferenceArray<>(length);
+            this.previous = previous;
+        }
+    }
+}
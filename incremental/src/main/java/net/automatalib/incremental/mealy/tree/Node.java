@@ -48,6 +48,15 @@ final class Node<O> {
         return null;
     }
 
+    boolean hasChildren() {
+        for (Edge<Node<O>, O> edge : outEdges.array) {
+            if (edge != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * See {@link ResizingArrayStorage#ensureCapacity(int)}.
      */
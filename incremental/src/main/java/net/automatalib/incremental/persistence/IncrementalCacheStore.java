@@ -0,0 +1,599 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.incremental.dfa.Acceptance;
+import net.automatalib.ts.UniversalDTS;
+import net.automatalib.ts.output.MealyTransitionSystem;
+import net.automatalib.ts.output.MooreTransitionSystem;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A persistent, on-disk store for the information of {@link IncrementalConstruction incremental constructions}. The
+ * store consists of two files in a given directory:
+ * <ul>
+ *     <li>An append-only journal, to which each newly {@link #append(Word, Object) inserted} entry is written.</li>
+ *     <li>A compacted snapshot, which is (atomically) replaced by {@link #snapshot(Collection)} and resets the
+ *     journal. The entries of a snapshot can be extracted from a builder via {@link #mealyEntries(
+ *     IncrementalConstruction.MealyBuilder, Collection)}, {@link #mooreEntries(IncrementalConstruction.MooreBuilder,
+ *     Collection)}, and {@link #dfaEntries(IncrementalConstruction.DFABuilder, Collection)}. These only contain the
+ *     maximal words of the respective builder, so that (for tree-based builders) the size of a snapshot is bounded by
+ *     the size of the builder rather than the number of inserted queries.</li>
+ * </ul>
+ * {@link #restore(IncrementalConstruction)} reads the (memory-mapped) snapshot and journal and inserts their entries
+ * via a single {@link IncrementalConstruction#insertAll(Collection) bulk insertion}. Each entry is stored with its
+ * length and a CRC32 checksum, so that a journal entry whose write has been interrupted (e.g., due to a crash) is
+ * detected and truncated.
+ * <p>
+ * Input symbols are stored by their index in the given {@link Alphabet}, outputs are stored via the given {@link
+ * ValueCodec}.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <D>
+ *         output domain type
+ */
+public final class IncrementalCacheStore<I, D> implements Closeable {
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String JOURNAL_FILE = "journal.bin";
+
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x41494353; // "AICS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Alphabet<I> alphabet;
+    private final ValueCodec<D> codec;
+
+    private DataOutputStream journal;
+
+    private IncrementalCacheStore(Path directory, Alphabet<I> alphabet, ValueCodec<D> codec) throws IOException {
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.alphabet = alphabet;
+        this.codec = codec;
+
+        Files.createDirectories(directory);
+        if (Files.notExists(journalFile)) {
+            writeHeader(journalFile);
+        }
+        this.journal = openJournal();
+    }
+
+    /**
+     * Opens (or creates) a store in the given directory.
+     *
+     * @param directory
+     *         the directory containing the files of the store
+     * @param alphabet
+     *         the input alphabet used for encoding input symbols
+     * @param codec
+     *         the codec used for encoding outputs
+     * @param <I>
+     *         input symbol type
+     * @param <D>
+     *         output domain type
+     *
+     * @return the opened store
+     *
+     * @throws IOException
+     *         if the files of the store cannot be created or opened
+     */
+    public static <I, D> IncrementalCacheStore<I, D> open(Path directory, Alphabet<I> alphabet, ValueCodec<D> codec)
+            throws IOException {
+        return new IncrementalCacheStore<>(directory, alphabet, codec);
+    }
+
+    /**
+     * Appends the given entry to the journal. Typically, this method is called for each entry that is (successfully)
+     * inserted into the builder.
+     *
+     * @param input
+     *         the input word
+     * @param output
+     *         the output
+     *
+     * @throws IOException
+     *         if writing the journal fails
+     */
+    public void append(Word<? extends I> input, D output) throws IOException {
+        writeRecord(journal, input, output);
+        journal.flush();
+    }
+
+    /**
+     * Replaces the current snapshot with the given entries and resets the journal. The entries should cover all
+     * information of the journal and the previous snapshot (e.g., by extracting them from a builder that has been
+     * {@link #restore(IncrementalConstruction) restored} from this store).
+     *
+     * @param entries
+     *         the entries of the new snapshot
+     *
+     * @throws IOException
+     *         if writing the snapshot or resetting the journal fails
+     */
+    public void snapshot(Collection<? extends Pair<? extends Word<? extends I>, ? extends D>> entries)
+            throws IOException {
+        final Path tmp = snapshotFile.resolveSibling(SNAPSHOT_FILE + TMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tmp,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            final DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(alphabet.size());
+            for (Pair<? extends Word<? extends I>, ? extends D> e : entries) {
+                writeRecord(out, e.getFirst(), e.getSecond());
+            }
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(snapshotFile.getParent());
+
+        // the new snapshot is durable now. If we crash before the journal is reset, the journal is simply replayed on
+        // top of the new snapshot
+        journal.close();
+        writeHeader(journalFile);
+        journal = openJournal();
+    }
+
+    /**
+     * Inserts the entries of the snapshot and the journal into the given builder.
+     *
+     * @param builder
+     *         the builder to insert the entries into
+     *
+     * @throws IOException
+     *         if reading the files of the store fails or they contain invalid data
+     */
+    public void restore(IncrementalConstruction<?, I, D> builder) throws IOException {
+        final List<Pair<Word<I>, D>> entries = new ArrayList<>();
+
+        if (Files.exists(snapshotFile)) {
+            readRecords(snapshotFile, entries, false);
+        }
+
+        final long validJournalSize = readRecords(journalFile, entries, true);
+        if (validJournalSize < Files.size(journalFile)) {
+            // discard torn trailing record
+            journal.close();
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validJournalSize);
+            }
+            journal = openJournal();
+        }
+
+        builder.insertAll(entries);
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    private DataOutputStream openJournal() throws IOException {
+        return new DataOutputStream(Files.newOutputStream(journalFile, StandardOpenOption.APPEND));
+    }
+
+    private void writeHeader(Path file) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(alphabet.size()).flip();
+
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Flushes the metadata (e.g., renamed entries) of the given directory to disk. Not all platforms support opening
+     * directories, in which case this method does nothing.
+     */
+    private static void forceDirectory(@Nullable Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // e.g., Windows does not allow to open directories
+            return;
+        }
+
+        try (FileChannel c = channel) {
+            c.force(true);
+        }
+    }
+
+    private void writeRecord(DataOutputStream out, Word<? extends I> input, D output) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream record = new DataOutputStream(bytes);
+
+        record.writeInt(input.length());
+        for (I sym : input) {
+            record.writeInt(alphabet.getSymbolIndex(sym));
+        }
+        codec.encode(record, output);
+        record.flush();
+
+        // a record is prefixed by its length and checksum, so that an interrupted write can be detected
+        final byte[] data = bytes.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + data.length);
+        buffer.putInt(data.length).putInt((int) crc.getValue()).put(data);
+        out.write(buffer.array());
+    }
+
+    /**
+     * Reads all valid records of the given file.
+     *
+     * @param tolerateTornRecords
+     *         if {@code true}, reading stops at the first record that is incomplete, fails its checksum or cannot be
+     *         decoded. Otherwise, such a record causes an {@link IOException}
+     *
+     * @return the number of bytes (from the beginning of the file) that contain valid records
+     */
+    private long readRecords(Path file, List<Pair<Word<I>, D>> entries, boolean tolerateTornRecords)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Files larger than 2GB are not supported: " + file);
+            }
+
+            final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            readHeader(file, buffer);
+
+            while (buffer.hasRemaining()) {
+                final int start = buffer.position();
+                final Pair<Word<I>, D> entry = readRecord(file, buffer);
+
+                if (entry == null) {
+                    if (tolerateTornRecords) {
+                        return start;
+                    }
+                    throw new IOException("Corrupt record at position " + start + " in " + file);
+                }
+
+                entries.add(entry);
+            }
+
+            return buffer.position();
+        }
+    }
+
+    /**
+     * Reads the record at the current position of the given buffer and advances the buffer to the next record.
+     *
+     * @return the decoded record, or {@code null} if the record is incomplete, fails its checksum or cannot be decoded
+     */
+    private @Nullable Pair<Word<I>, D> readRecord(Path file, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        final int length = buffer.getInt();
+        final int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            return null;
+        }
+
+        final ByteBuffer data = buffer.slice();
+        data.limit(length);
+        buffer.position(buffer.position() + length);
+
+        final CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        final DataInputStream in = new DataInputStream(new ByteBufferInputStream(data));
+        final WordBuilder<I> wb;
+        final D output;
+
+        try {
+            final int inputLength = in.readInt();
+            if (inputLength < 0 || inputLength > data.remaining() / Integer.BYTES) {
+                return null;
+            }
+
+            wb = new WordBuilder<>(inputLength);
+            for (int i = 0; i < inputLength; i++) {
+                final int idx = in.readInt();
+                if (idx < 0 || idx >= alphabet.size()) {
+                    throw new IOException("Invalid input index " + idx + " in " + file);
+                }
+                wb.append(alphabet.getSymbol(idx));
+            }
+            output = codec.decode(in);
+        } catch (EOFException eof) {
+            return null;
+        }
+
+        if (data.hasRemaining()) {
+            return null;
+        }
+
+        return Pair.of(wb.toWord(), output);
+    }
+
+    private void readHeader(Path file, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a cache store file: " + file);
+        }
+
+        final int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + " of " + file);
+        }
+
+        final int alphabetSize = buffer.getInt();
+        if (alphabetSize > alphabet.size()) {
+            throw new IOException(
+                    "File " + file + " has been written for an alphabet of size " + alphabetSize + " (expected <= " +
+                    alphabet.size() + ')');
+        }
+    }
+
+    /**
+     * Extracts the maximal input words of the given Mealy builder (and their outputs), e.g., for writing a {@link
+     * #snapshot(Collection) snapshot}. The words are returned in lexicographical order (w.r.t. the given inputs).
+     *
+     * @param builder
+     *         the builder
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the maximal words of the builder, together with their outputs
+     */
+    public static <I, O> List<Pair<Word<I>, Word<O>>> mealyEntries(IncrementalConstruction.MealyBuilder<I, O> builder,
+                                                                  Collection<? extends I> inputs) {
+        final List<Pair<Word<I>, Word<O>>> result = new ArrayList<>();
+        collectMealyEntries(builder.asTransitionSystem(), inputs, result);
+        return result;
+    }
+
+    private static <S, I, T, O> void collectMealyEntries(MealyTransitionSystem<S, I, T, O> ts,
+                                                         Collection<? extends I> inputs,
+                                                         List<Pair<Word<I>, Word<O>>> result) {
+        final S init = ts.getInitialState();
+        if (init != null) {
+            collectMealyEntries(ts, inputs, init, new WordBuilder<>(), new WordBuilder<>(), result);
+        }
+    }
+
+    private static <S, I, T, O> void collectMealyEntries(MealyTransitionSystem<S, I, T, O> ts,
+                                                         Collection<? extends I> inputs,
+                                                         S state,
+                                                         WordBuilder<I> input,
+                                                         WordBuilder<O> output,
+                                                         List<Pair<Word<I>, Word<O>>> result) {
+        boolean leaf = true;
+
+        for (I i : inputs) {
+            final T trans = ts.getTransition(state, i);
+            if (trans != null) {
+                leaf = false;
+                input.append(i);
+                output.append(ts.getTransitionOutput(trans));
+                collectMealyEntries(ts, inputs, ts.getSuccessor(trans), input, output, result);
+                input.truncate(input.size() - 1);
+                output.truncate(output.size() - 1);
+            }
+        }
+
+        if (leaf && !input.isEmpty()) {
+            result.add(Pair.of(input.toWord(), output.toWord()));
+        }
+    }
+
+    /**
+     * Extracts the maximal input words of the given Moore builder (and their outputs), e.g., for writing a {@link
+     * #snapshot(Collection) snapshot}. The words are returned in lexicographical order (w.r.t. the given inputs).
+     *
+     * @param builder
+     *         the builder
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the maximal words of the builder, together with their outputs
+     */
+    public static <I, O> List<Pair<Word<I>, Word<O>>> mooreEntries(IncrementalConstruction.MooreBuilder<I, O> builder,
+                                                                  Collection<? extends I> inputs) {
+        final List<Pair<Word<I>, Word<O>>> result = new ArrayList<>();
+        collectMooreEntries(builder.asTransitionSystem(), inputs, result);
+        return result;
+    }
+
+    private static <S, I, T, O> void collectMooreEntries(MooreTransitionSystem<S, I, T, O> ts,
+                                                         Collection<? extends I> inputs,
+                                                         List<Pair<Word<I>, Word<O>>> result) {
+        final S init = ts.getInitialState();
+        if (init != null) {
+            final WordBuilder<O> output = new WordBuilder<>();
+            output.append(ts.getStateOutput(init));
+            collectMooreEntries(ts, inputs, init, new WordBuilder<>(), output, result);
+        }
+    }
+
+    private static <S, I, T, O> void collectMooreEntries(MooreTransitionSystem<S, I, T, O> ts,
+                                                         Collection<? extends I> inputs,
+                                                         S state,
+                                                         WordBuilder<I> input,
+                                                         WordBuilder<O> output,
+                                                         List<Pair<Word<I>, Word<O>>> result) {
+        boolean leaf = true;
+
+        for (I i : inputs) {
+            final S succ = ts.getSuccessor(state, i);
+            if (succ != null) {
+                leaf = false;
+                input.append(i);
+                output.append(ts.getStateOutput(succ));
+                collectMooreEntries(ts, inputs, succ, input, output, result);
+                input.truncate(input.size() - 1);
+                output.truncate(output.size() - 1);
+            }
+        }
+
+        if (leaf) {
+            result.add(Pair.of(input.toWord(), output.toWord()));
+        }
+    }
+
+    /**
+     * Extracts the words with definite acceptance of the given DFA builder, e.g., for writing a {@link
+     * #snapshot(Collection) snapshot}. For prefix-closed builders, extensions of rejected words are omitted. The words
+     * are returned in lexicographical order (w.r.t. the given inputs).
+     *
+     * @param builder
+     *         the builder
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the words with definite acceptance of the builder, together with their acceptance
+     */
+    public static <I> List<Pair<Word<I>, Boolean>> dfaEntries(IncrementalConstruction.DFABuilder<I> builder,
+                                                             Collection<? extends I> inputs) {
+        final List<Pair<Word<I>, Boolean>> result = new ArrayList<>();
+        collectDFAEntries(builder.asTransitionSystem(), inputs, result);
+        return result;
+    }
+
+    private static <S, I, T> void collectDFAEntries(UniversalDTS<S, I, T, Acceptance, Void> ts,
+                                                    Collection<? extends I> inputs,
+                                                    List<Pair<Word<I>, Boolean>> result) {
+        final S init = ts.getInitialState();
+        if (init != null) {
+            collectDFAEntries(ts, inputs, init, new ArrayList<>(), new WordBuilder<>(), result);
+        }
+    }
+
+    private static <S, I, T> void collectDFAEntries(UniversalDTS<S, I, T, Acceptance, Void> ts,
+                                                    Collection<? extends I> inputs,
+                                                    S state,
+                                                    List<S> path,
+                                                    WordBuilder<I> input,
+                                                    List<Pair<Word<I>, Boolean>> result) {
+        // (only) the sink of prefix-closed builders has cycles. Re-entering it only yields extensions of rejected words
+        for (S s : path) {
+            if (s == state) {
+                return;
+            }
+        }
+
+        final Acceptance acc = ts.getStateProperty(state);
+        if (acc != Acceptance.DONT_KNOW) {
+            result.add(Pair.of(input.toWord(), acc.toBoolean()));
+        }
+
+        path.add(state);
+
+        for (I i : inputs) {
+            final @Nullable S succ = ts.getSuccessor(state, i);
+            if (succ != null) {
+                input.append(i);
+                collectDFAEntries(ts, inputs, succ, path, input, result);
+                input.truncate(input.size() - 1);
+            }
+        }
+
+        path.remove(path.size() - 1);
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
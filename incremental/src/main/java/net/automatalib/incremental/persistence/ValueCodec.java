@@ -0,0 +1,152 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+
+/**
+ * A binary codec for the values (e.g., outputs) stored by an {@link IncrementalCacheStore}.
+ *
+ * @param <T>
+ *         value type
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Writes the given value to the given output.
+     *
+     * @param out
+     *         the output to write to
+     * @param value
+     *         the value to write
+     *
+     * @throws IOException
+     *         if writing to the output fails
+     */
+    void encode(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value (previously written by {@link #encode(DataOutput, Object)}) from the given input.
+     *
+     * @param in
+     *         the input to read from
+     *
+     * @return the read value
+     *
+     * @throws IOException
+     *         if reading from the input fails
+     */
+    T decode(DataInput in) throws IOException;
+
+    /**
+     * Returns a codec for (non-null) {@link Boolean}s, e.g., the outputs of DFA builders.
+     *
+     * @return a codec for {@link Boolean}s
+     */
+    static ValueCodec<Boolean> booleans() {
+        return new ValueCodec<Boolean>() {
+
+            @Override
+            public void encode(DataOutput out, Boolean value) throws IOException {
+                out.writeBoolean(value);
+            }
+
+            @Override
+            public Boolean decode(DataInput in) throws IOException {
+                return in.readBoolean();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for (non-null) {@link Integer}s.
+     *
+     * @return a codec for {@link Integer}s
+     */
+    static ValueCodec<Integer> integers() {
+        return new ValueCodec<Integer>() {
+
+            @Override
+            public void encode(DataOutput out, Integer value) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer decode(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for (non-null) {@link String}s.
+     *
+     * @return a codec for {@link String}s
+     */
+    static ValueCodec<String> strings() {
+        return new ValueCodec<String>() {
+
+            @Override
+            public void encode(DataOutput out, String value) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String decode(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for {@link Word}s whose symbols are encoded by the given codec, e.g., the outputs of Mealy and
+     * Moore builders.
+     *
+     * @param symbolCodec
+     *         the codec for the individual symbols
+     * @param <S>
+     *         symbol type
+     *
+     * @return a codec for {@link Word}s
+     */
+    static <S> ValueCodec<Word<S>> words(ValueCodec<S> symbolCodec) {
+        return new ValueCodec<Word<S>>() {
+
+            @Override
+            public void encode(DataOutput out, Word<S> value) throws IOException {
+                out.writeInt(value.length());
+                for (S s : value) {
+                    symbolCodec.encode(out, s);
+                }
+            }
+
+            @Override
+            public Word<S> decode(DataInput in) throws IOException {
+                final int length = in.readInt();
+                final WordBuilder<S> wb = new WordBuilder<>(length);
+                for (int i = 0; i < length; i++) {
+                    wb.append(symbolCodec.decode(in));
+                }
+                return wb.toWord();
+            }
+        };
+    }
+}
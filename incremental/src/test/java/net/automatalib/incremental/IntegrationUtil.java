@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -176,6 +177,19 @@ public final class IntegrationUtil {
         return true;
     }
 
+    /**
+     * Returns a word of uniformly distributed symbols of the given alphabet whose length is uniformly distributed
+     * between {@code 1} and {@code maxLength} (inclusive).
+     */
+    public static <I> Word<I> randomWord(Random random, Alphabet<I> alphabet, int maxLength) {
+        final int length = 1 + random.nextInt(maxLength);
+        final WordBuilder<I> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
+    }
+
     public static final class ParsedTraces<I, D> {
 
         public final Alphabet<I> alphabet;
@@ -16,10 +16,15 @@
 package net.automatalib.incremental.dfa;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.ConflictException;
 import net.automatalib.incremental.IncrementalConstruction;
 import net.automatalib.incremental.IntegrationUtil;
 import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
@@ -58,6 +63,121 @@ public class IncrementalDFADAGBuilderTest extends AbstractIncrementalDFABuilderT
         validateTraces("/learnlib76/dfa.gz");
     }
 
+    @Test
+    public void testInsertAll() throws IOException {
+        validateBatchTraces("/spa/dfa_traces.gz");
+        validateBatchTraces("/learnlib76/dfa.gz");
+    }
+
+    @Test(expectedExceptions = ConflictException.class)
+    public void testInsertAllConflict() {
+        final IncrementalConstruction.DFABuilder<Character> cache = new IncrementalDFADAGBuilder<>(Alphabets.characters('a', 'c'));
+        cache.insertAll(Arrays.asList(Pair.of(Word.fromSymbols('a', 'b'), true),
+                              Pair.of(Word.fromSymbols('a', 'b'), false)));
+    }
+
+    private void validateBatchTraces(String pathToTraces) throws IOException {
+        final ParsedTraces<Integer, Boolean> parsedData = IntegrationUtil.parseDFATraces(pathToTraces);
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Boolean>> traces = parsedData.traces;
+
+        final IncrementalConstruction.DFABuilder<Integer> batch = createIncrementalDFABuilder(alphabet);
+        final IncrementalConstruction.DFABuilder<Integer> sequential = createIncrementalDFABuilder(alphabet);
+
+        batch.insertAll(traces);
+        for (Pair<Word<Integer>, Boolean> trace : traces) {
+            sequential.insert(trace.getFirst(), trace.getSecond());
+        }
+
+        for (Pair<Word<Integer>, Boolean> trace : traces) {
+            Assert.assertEquals(batch.lookup(trace.getFirst()).getSecond(), trace.getSecond());
+        }
+
+        // both constructions yield the minimal DAG
+        Assert.assertEquals(batch.asGraph().size(), sequential.asGraph().size());
+
+        // batch insertion into a non-empty builder falls back to individual insertions
+        final IncrementalConstruction.DFABuilder<Integer> mixed = createIncrementalDFABuilder(alphabet);
+        final int half = traces.size() / 2;
+        mixed.insertAll(traces.subList(0, half));
+        mixed.insertAll(traces.subList(half, traces.size()));
+
+        for (Pair<Word<Integer>, Boolean> trace : traces) {
+            Assert.assertEquals(mixed.lookup(trace.getFirst()).getSecond(), trace.getSecond());
+        }
+        Assert.assertEquals(mixed.asGraph().size(), sequential.asGraph().size());
+
+        // subsequent insertions depend on the confluence information established by the batch insertion
+        checkFollowUpInsertions(batch, sequential, alphabet, traces);
+    }
+
+    private static void checkFollowUpInsertions(IncrementalConstruction.DFABuilder<Integer> batch,
+                                                IncrementalConstruction.DFABuilder<Integer> sequential,
+                                                Alphabet<Integer> alphabet,
+                                                List<Pair<Word<Integer>, Boolean>> traces) {
+        final Random random = new Random(42);
+        final List<Word<Integer>> inserted = new ArrayList<>();
+        int numInserted = 0;
+        int numConflicts = 0;
+
+        for (int i = 0; i < 300; i++) {
+            final Pair<Word<Integer>, Boolean> trace = traces.get(random.nextInt(traces.size()));
+            final Word<Integer> word = trace.getFirst();
+            final Word<Integer> input;
+            final boolean value;
+
+            switch (i % 3) {
+                case 0: // extends a batch word
+                    input = word.concat(IntegrationUtil.randomWord(random, alphabet, 3));
+                    value = random.nextBoolean();
+                    break;
+                case 1: // shares a suffix with a batch word
+                    input = IntegrationUtil.randomWord(random, alphabet, 3)
+                                           .concat(word.subWord(random.nextInt(word.length() + 1)));
+                    value = random.nextBoolean();
+                    break;
+                default: // conflicts with a batch word
+                    input = word;
+                    value = !trace.getSecond();
+                    break;
+            }
+
+            final boolean batchConflict = insertConflicts(batch, input, value);
+            final boolean sequentialConflict = insertConflicts(sequential, input, value);
+            Assert.assertEquals(batchConflict, sequentialConflict, input.toString());
+            Assert.assertEquals(batch.lookup(input), sequential.lookup(input));
+
+            if (batchConflict) {
+                numConflicts++;
+            } else {
+                numInserted++;
+            }
+            inserted.add(input);
+        }
+
+        Assert.assertTrue(numInserted > 0);
+        Assert.assertTrue(numConflicts > 0);
+
+        for (Pair<Word<Integer>, Boolean> trace : traces) {
+            Assert.assertEquals(batch.lookup(trace.getFirst()), sequential.lookup(trace.getFirst()));
+        }
+        for (Word<Integer> input : inserted) {
+            Assert.assertEquals(batch.lookup(input), sequential.lookup(input));
+        }
+        Assert.assertEquals(batch.asGraph().size(), sequential.asGraph().size());
+    }
+
+    private static boolean insertConflicts(IncrementalConstruction.DFABuilder<Integer> builder,
+                                           Word<Integer> input,
+                                           boolean value) {
+        try {
+            builder.insert(input, value);
+            return false;
+        } catch (ConflictException e) {
+            return true;
+        }
+    }
+
     private void validateTraces(String pathToTraces) throws IOException {
         final ParsedTraces<Integer, Boolean> parsedData = IntegrationUtil.parseDFATraces(pathToTraces);
         final Alphabet<Integer> alphabet = parsedData.alphabet;
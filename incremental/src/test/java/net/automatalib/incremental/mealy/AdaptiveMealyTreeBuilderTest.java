@@ -16,7 +16,9 @@
 package net.automatalib.incremental.mealy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.GrowingAlphabet;
@@ -26,7 +28,9 @@ import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.common.util.Pair;
 import net.automatalib.incremental.AdaptiveConstruction;
 import net.automatalib.incremental.mealy.tree.AdaptiveMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.AdaptiveMealyTreeBuilder.EvictionPolicy;
 import net.automatalib.ts.output.MealyTransitionSystem;
+import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 import org.testng.Assert;
@@ -236,6 +240,102 @@ public class AdaptiveMealyTreeBuilderTest {
         Assert.assertEquals(growableBuilder.lookup(input2).getSecond(), Word.fromLetter('1'));
     }
 
+    @Test
+    public void testLRUEviction() {
+        final AdaptiveMealyTreeBuilder<Character, Character> builder =
+                new AdaptiveMealyTreeBuilder<>(TEST_ALPHABET, EvictionPolicy.LRU, 7);
+
+        builder.insert(Word.fromString("aaa"), Word.fromString("xxx"));
+        builder.insert(Word.fromString("bbb"), Word.fromString("yyy"));
+        Assert.assertEquals(builder.getNumNodes(), 7);
+
+        // use the older query
+        builder.lookup(Word.fromString("aaa"));
+
+        builder.insert(Word.fromString("ccc"), Word.fromString("zzz"));
+        Assert.assertEquals(builder.getNumNodes(), 7);
+        Assert.assertEquals(builder.getNumEvictedQueries(), 1);
+        Assert.assertEquals(builder.getNumEvictedNodes(), 3);
+
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("aaa")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("b")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("ccc")));
+        Assert.assertEquals(builder.getOldestInput(), Word.fromString("aaa"));
+    }
+
+    @Test
+    public void testLFUEviction() {
+        final AdaptiveMealyTreeBuilder<Character, Character> builder =
+                new AdaptiveMealyTreeBuilder<>(TEST_ALPHABET, EvictionPolicy.LFU, 7);
+
+        builder.insert(Word.fromString("aaa"), Word.fromString("xxx"));
+        builder.insert(Word.fromString("bbb"), Word.fromString("yyy"));
+
+        builder.lookup(Word.fromString("bbb"));
+        builder.lookup(Word.fromString("bbb"));
+        builder.lookup(Word.fromString("aaa"));
+
+        builder.insert(Word.fromString("ccc"), Word.fromString("zzz"));
+        Assert.assertEquals(builder.getNumNodes(), 7);
+        Assert.assertEquals(builder.getNumEvictedQueries(), 1);
+
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("a")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("bbb")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("ccc")));
+    }
+
+    @Test
+    public void testEvictionKeepsSharedPrefixes() {
+        final AdaptiveMealyTreeBuilder<Character, Character> builder =
+                new AdaptiveMealyTreeBuilder<>(TEST_ALPHABET, EvictionPolicy.LRU, 5);
+
+        builder.insert(Word.fromString("ab"), Word.fromString("xy"));
+        builder.insert(Word.fromString("ac"), Word.fromString("xz"));
+        builder.insert(Word.fromString("cc"), Word.fromString("zz"));
+
+        Assert.assertEquals(builder.getNumNodes(), 5);
+        Assert.assertEquals(builder.getNumEvictedQueries(), 1);
+        Assert.assertEquals(builder.getNumEvictedNodes(), 1);
+
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("ab")));
+        Assert.assertEquals(builder.lookup(Word.fromString("ac")).getSecond(), Word.fromString("xz"));
+        Assert.assertEquals(builder.lookup(Word.fromString("cc")).getSecond(), Word.fromString("zz"));
+    }
+
+    @Test
+    public void testBoundedRandom() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            final Random random = new Random(42);
+            final CompactMealy<Character, Character> target =
+                    RandomAutomata.randomMealy(random, 10, TEST_ALPHABET, Arrays.asList('x', 'y', 'z'));
+            final int maxNodes = 50;
+            final AdaptiveMealyTreeBuilder<Character, Character> builder =
+                    new AdaptiveMealyTreeBuilder<>(TEST_ALPHABET, policy, maxNodes);
+
+            for (int i = 0; i < 2000; i++) {
+                final int length = 1 + random.nextInt(6);
+                final WordBuilder<Character> wb = new WordBuilder<>(length);
+                for (int j = 0; j < length; j++) {
+                    wb.append(TEST_ALPHABET.getSymbol(random.nextInt(TEST_ALPHABET.size())));
+                }
+                final Word<Character> input = wb.toWord();
+
+                if (random.nextBoolean()) {
+                    builder.lookup(input);
+                }
+
+                builder.insert(input, target.computeOutput(input));
+
+                Assert.assertTrue(builder.getNumNodes() <= maxNodes);
+                Assert.assertEquals(builder.lookup(input).getSecond(), target.computeOutput(input));
+            }
+
+            Assert.assertEquals(builder.getNumNodes(), builder.asGraph().size());
+            Assert.assertNull(builder.findSeparatingWord(target, TEST_ALPHABET, true));
+            Assert.assertTrue(builder.getNumEvictedQueries() > 0);
+        }
+    }
+
     @Test
     public void testEmpty() {
         final AdaptiveConstruction.MealyBuilder<Character, Character> incMealy = new AdaptiveMealyTreeBuilder<>(
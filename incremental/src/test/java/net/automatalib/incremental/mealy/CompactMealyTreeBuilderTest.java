@@ -0,0 +1,72 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.incremental.IntegrationUtil;
+import net.automatalib.incremental.mealy.tree.CompactMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class CompactMealyTreeBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    @Override
+    protected <I, O> IncrementalConstruction.MealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        return new CompactMealyTreeBuilder<>(alphabet);
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/tree.dot";
+    }
+
+    @Test
+    public void testAgainstTreeBuilder() {
+        // large enough alphabet so that both sparse and dense nodes occur
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 19);
+        final Random random = new Random(42);
+        final CompactMealy<Integer, String> target =
+                RandomAutomata.randomMealy(random, 10, alphabet, Arrays.asList("x", "y", "z"));
+
+        final CompactMealyTreeBuilder<Integer, String> compact = new CompactMealyTreeBuilder<>(alphabet);
+        final IncrementalMealyTreeBuilder<Integer, String> reference = new IncrementalMealyTreeBuilder<>(alphabet);
+
+        for (int i = 0; i < 2000; i++) {
+            final Word<Integer> input = IntegrationUtil.randomWord(random, alphabet, i < 100 ? 1 : 4);
+            final Word<String> output = target.computeOutput(input);
+
+            compact.insert(input, output);
+            reference.insert(input, output);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            final Word<Integer> input = IntegrationUtil.randomWord(random, alphabet, 6);
+            Assert.assertEquals(compact.lookup(input), reference.lookup(input));
+        }
+
+        Assert.assertNull(compact.findSeparatingWord(target, alphabet, false));
+    }
+}
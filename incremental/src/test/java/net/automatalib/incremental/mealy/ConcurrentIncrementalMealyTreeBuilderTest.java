@@ -0,0 +1,148 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.incremental.IntegrationUtil;
+import net.automatalib.incremental.mealy.tree.ConcurrentIncrementalMealyTreeBuilder;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ConcurrentIncrementalMealyTreeBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    private static final int NUM_THREADS = 4;
+
+    @Override
+    protected <I, O> IncrementalConstruction.MealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        return new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/tree.dot";
+    }
+
+    @Test
+    public void testConcurrentInsertions() throws InterruptedException, ExecutionException {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final CompactMealy<Integer, String> target =
+                RandomAutomata.randomMealy(new Random(42), 20, alphabet, Arrays.asList("x", "y", "z"));
+        final ConcurrentIncrementalMealyTreeBuilder<Integer, String> builder =
+                new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(NUM_THREADS);
+
+            for (int t = 0; t < NUM_THREADS; t++) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        final Word<Integer> input = IntegrationUtil.randomWord(random, alphabet, 10);
+                        final Word<String> output = target.computeOutput(input);
+
+                        // lookups must never contradict the target
+                        final Word<String> known = builder.lookup(input).getSecond();
+                        Assert.assertEquals(known, output.prefix(known.length()));
+
+                        builder.insert(input, output);
+                        Assert.assertTrue(builder.hasDefinitiveInformation(input));
+                    }
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertNull(builder.findSeparatingWord(target, alphabet, false));
+    }
+
+    @Test
+    public void testConcurrentConflicts() throws InterruptedException, ExecutionException {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final Random random = new Random(42);
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+        try {
+            for (int round = 0; round < 100; round++) {
+                final ConcurrentIncrementalMealyTreeBuilder<Integer, Integer> builder =
+                        new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+                final Word<Integer> input = IntegrationUtil.randomWord(random, alphabet, 5);
+                final CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+                final List<Future<Boolean>> futures = new ArrayList<>(NUM_THREADS);
+
+                for (int t = 0; t < NUM_THREADS; t++) {
+                    // each thread inserts a different output for the same input
+                    final Word<Integer> output = constantWord(t, input.length());
+                    final Callable<Boolean> task = () -> {
+                        barrier.await();
+                        try {
+                            builder.insert(input, output);
+                            return true;
+                        } catch (ConflictException ce) {
+                            return false;
+                        }
+                    };
+                    futures.add(executor.submit(task));
+                }
+
+                int successes = 0;
+                int winner = -1;
+                for (int t = 0; t < NUM_THREADS; t++) {
+                    if (futures.get(t).get()) {
+                        successes++;
+                        winner = t;
+                    }
+                }
+
+                Assert.assertEquals(successes, 1);
+                Assert.assertEquals(builder.lookup(input).getSecond(), constantWord(winner, input.length()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Word<Integer> constantWord(int symbol, int length) {
+        final WordBuilder<Integer> wb = new WordBuilder<>(length);
+        wb.repeatAppend(length, symbol);
+        return wb.toWord();
+    }
+}
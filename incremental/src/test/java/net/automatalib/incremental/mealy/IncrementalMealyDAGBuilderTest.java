@@ -16,15 +16,21 @@
 package net.automatalib.incremental.mealy;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.ConflictException;
 import net.automatalib.incremental.IncrementalConstruction;
 import net.automatalib.incremental.IntegrationUtil;
 import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
 import net.automatalib.incremental.mealy.dag.IncrementalMealyDAGBuilder;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -58,6 +64,139 @@ public class IncrementalMealyDAGBuilderTest extends AbstractIncrementalMealyBuil
         validateTraces("/learnlib76/mealy.gz");
     }
 
+    @Test
+    public void testInsertAll() throws IOException {
+        validateBatchTraces("/spa/mealy_traces.gz");
+        validateBatchTraces("/learnlib76/mealy.gz");
+    }
+
+    @Test(expectedExceptions = ConflictException.class)
+    public void testInsertAllConflict() {
+        final IncrementalConstruction.MealyBuilder<Character, Integer> cache = new IncrementalMealyDAGBuilder<>(Alphabets.characters('a', 'c'));
+        cache.insertAll(Arrays.asList(Pair.of(Word.fromSymbols('a', 'b'), Word.fromSymbols(1, 2)),
+                              Pair.of(Word.fromSymbols('a', 'c'), Word.fromSymbols(2, 3))));
+    }
+
+    private void validateBatchTraces(String pathToTraces) throws IOException {
+        final ParsedTraces<Integer, Word<Integer>> parsedData = IntegrationUtil.parseMealyTraces(pathToTraces);
+        final Alphabet<Integer> alphabet = parsedData.alphabet;
+        final List<Pair<Word<Integer>, Word<Integer>>> traces = parsedData.traces;
+
+        final IncrementalConstruction.MealyBuilder<Integer, Integer> batch = createIncrementalMealyBuilder(alphabet);
+        final IncrementalConstruction.MealyBuilder<Integer, Integer> sequential = createIncrementalMealyBuilder(alphabet);
+
+        batch.insertAll(traces);
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            sequential.insert(trace.getFirst(), trace.getSecond());
+        }
+
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            Assert.assertEquals(batch.lookup(trace.getFirst()).getSecond(), trace.getSecond());
+        }
+
+        // both constructions yield the minimal DAG
+        Assert.assertEquals(batch.asGraph().size(), sequential.asGraph().size());
+
+        // batch insertion into a non-empty builder falls back to individual insertions
+        final IncrementalConstruction.MealyBuilder<Integer, Integer> mixed = createIncrementalMealyBuilder(alphabet);
+        final int half = traces.size() / 2;
+        mixed.insertAll(traces.subList(0, half));
+        mixed.insertAll(traces.subList(half, traces.size()));
+
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            Assert.assertEquals(mixed.lookup(trace.getFirst()).getSecond(), trace.getSecond());
+        }
+        Assert.assertEquals(mixed.asGraph().size(), sequential.asGraph().size());
+
+        // subsequent insertions depend on the confluence information established by the batch insertion
+        checkFollowUpInsertions(batch, sequential, alphabet, traces);
+    }
+
+    private static void checkFollowUpInsertions(IncrementalConstruction.MealyBuilder<Integer, Integer> batch,
+                                                IncrementalConstruction.MealyBuilder<Integer, Integer> sequential,
+                                                Alphabet<Integer> alphabet,
+                                                List<Pair<Word<Integer>, Word<Integer>>> traces) {
+        final Random random = new Random(42);
+        final List<Word<Integer>> inserted = new ArrayList<>();
+        int numInserted = 0;
+        int numConflicts = 0;
+
+        for (int i = 0; i < 300; i++) {
+            final Pair<Word<Integer>, Word<Integer>> trace = traces.get(random.nextInt(traces.size()));
+            final Word<Integer> word = trace.getFirst();
+            final Word<Integer> output = trace.getSecond();
+            final Word<Integer> input;
+            final Word<Integer> value;
+
+            switch (i % 3) {
+                case 0: { // extends a batch word
+                    final Word<Integer> extension = IntegrationUtil.randomWord(random, alphabet, 3);
+                    input = word.concat(extension);
+                    value = output.concat(randomOutput(random, traces, extension.length()));
+                    break;
+                }
+                case 1: { // shares a suffix with a batch word
+                    final Word<Integer> prefix = IntegrationUtil.randomWord(random, alphabet, 3);
+                    final int idx = random.nextInt(word.length() + 1);
+                    input = prefix.concat(word.subWord(idx));
+                    value = randomOutput(random, traces, prefix.length()).concat(output.subWord(idx));
+                    break;
+                }
+                default: // conflicts with a batch word (unless the random output happens to match)
+                    input = word;
+                    value = randomOutput(random, traces, word.length());
+                    break;
+            }
+
+            final boolean batchConflict = insertConflicts(batch, input, value);
+            final boolean sequentialConflict = insertConflicts(sequential, input, value);
+            Assert.assertEquals(batchConflict, sequentialConflict, input.toString());
+            Assert.assertEquals(batch.lookup(input), sequential.lookup(input));
+
+            if (batchConflict) {
+                numConflicts++;
+            } else {
+                numInserted++;
+            }
+            inserted.add(input);
+        }
+
+        Assert.assertTrue(numInserted > 0);
+        Assert.assertTrue(numConflicts > 0);
+
+        for (Pair<Word<Integer>, Word<Integer>> trace : traces) {
+            Assert.assertEquals(batch.lookup(trace.getFirst()), sequential.lookup(trace.getFirst()));
+        }
+        for (Word<Integer> input : inserted) {
+            Assert.assertEquals(batch.lookup(input), sequential.lookup(input));
+        }
+        Assert.assertEquals(batch.asGraph().size(), sequential.asGraph().size());
+    }
+
+    private static Word<Integer> randomOutput(Random random,
+                                              List<Pair<Word<Integer>, Word<Integer>>> traces,
+                                              int length) {
+        final WordBuilder<Integer> wb = new WordBuilder<>(length);
+        while (wb.size() < length) {
+            final Word<Integer> output = traces.get(random.nextInt(traces.size())).getSecond();
+            if (!output.isEmpty()) {
+                wb.append(output.getSymbol(random.nextInt(output.length())));
+            }
+        }
+        return wb.toWord();
+    }
+
+    private static boolean insertConflicts(IncrementalConstruction.MealyBuilder<Integer, Integer> builder,
+                                           Word<Integer> input,
+                                           Word<Integer> output) {
+        try {
+            builder.insert(input, output);
+            return false;
+        } catch (ConflictException e) {
+            return true;
+        }
+    }
+
     private void validateTraces(String pathToTraces) throws IOException {
         final ParsedTraces<Integer, Word<Integer>> parsedData = IntegrationUtil.parseMealyTraces(pathToTraces);
         final Alphabet<Integer> alphabet = parsedData.alphabet;
@@ -0,0 +1,357 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.common.util.Pair;
+import net.automatalib.incremental.IncrementalConstruction;
+import net.automatalib.incremental.dfa.dag.IncrementalDFADAGBuilder;
+import net.automatalib.incremental.dfa.dag.IncrementalPCDFADAGBuilder;
+import net.automatalib.incremental.dfa.tree.IncrementalDFATreeBuilder;
+import net.automatalib.incremental.dfa.tree.IncrementalPCDFATreeBuilder;
+import net.automatalib.incremental.mealy.dag.IncrementalMealyDAGBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.incremental.moore.dag.IncrementalMooreDAGBuilder;
+import net.automatalib.incremental.moore.tree.IncrementalMooreTreeBuilder;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class IncrementalCacheStoreTest {
+
+    private static final int NUM_WORDS = 500;
+    private static final int MAX_LENGTH = 8;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+    private Path directory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cache-store");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve(IncrementalCacheStore.SNAPSHOT_FILE));
+        Files.deleteIfExists(directory.resolve(IncrementalCacheStore.JOURNAL_FILE));
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testMealy() throws IOException {
+        final Random random = new Random(42);
+        final CompactMealy<Character, String> target =
+                RandomAutomata.randomMealy(random, 10, alphabet, Arrays.asList("x", "y"));
+        final List<Pair<Word<Character>, Word<String>>> entries = new ArrayList<>();
+
+        for (Word<Character> w : randomWords(random)) {
+            entries.add(Pair.of(w, target.computeOutput(w)));
+        }
+
+        final IncrementalMealyTreeBuilder<Character, String> original = new IncrementalMealyTreeBuilder<>(alphabet);
+        final ValueCodec<Word<String>> codec = ValueCodec.words(ValueCodec.strings());
+
+        try (IncrementalCacheStore<Character, Word<String>> store = IncrementalCacheStore.open(directory,
+                                                                                                alphabet,
+                                                                                                codec)) {
+            appendAll(store, original, entries);
+        }
+
+        // restore from journal
+        try (IncrementalCacheStore<Character, Word<String>> store = IncrementalCacheStore.open(directory,
+                                                                                                alphabet,
+                                                                                                codec)) {
+            checkRestore(store, new IncrementalMealyTreeBuilder<>(alphabet), entries);
+            checkRestore(store, new IncrementalMealyDAGBuilder<>(alphabet), entries);
+
+            final List<Pair<Word<Character>, Word<String>>> snapshot =
+                    IncrementalCacheStore.mealyEntries(original, alphabet);
+            Assert.assertTrue(snapshot.size() < entries.size());
+            store.snapshot(snapshot);
+        }
+
+        // the journal has been reset by the snapshot
+        final Path journal = directory.resolve(IncrementalCacheStore.JOURNAL_FILE);
+        final long emptyJournalSize = Files.size(journal);
+
+        // restore from snapshot and additional journal entries
+        final Word<Character> extension = entries.get(0).getFirst().append('a');
+        final Pair<Word<Character>, Word<String>> newEntry = Pair.of(extension, target.computeOutput(extension));
+        entries.add(newEntry);
+
+        try (IncrementalCacheStore<Character, Word<String>> store = IncrementalCacheStore.open(directory,
+                                                                                                alphabet,
+                                                                                                codec)) {
+            Assert.assertEquals(Files.size(journal), emptyJournalSize);
+            store.append(newEntry.getFirst(), newEntry.getSecond());
+            checkRestore(store, new IncrementalMealyTreeBuilder<>(alphabet), entries);
+            checkRestore(store, new IncrementalMealyDAGBuilder<>(alphabet), entries);
+        }
+    }
+
+    @Test
+    public void testMoore() throws IOException {
+        final Random random = new Random(1337);
+        final CompactMoore<Character, Integer> target =
+                RandomAutomata.randomMoore(random, 10, alphabet, Arrays.asList(1, 2, 3));
+        final List<Pair<Word<Character>, Word<Integer>>> entries = new ArrayList<>();
+
+        for (Word<Character> w : randomWords(random)) {
+            final WordBuilder<Integer> wb = new WordBuilder<>(w.length() + 1);
+            Integer state = target.getInitialState();
+            wb.append(target.getStateOutput(state));
+            for (Character c : w) {
+                state = target.getSuccessor(state, c);
+                wb.append(target.getStateOutput(state));
+            }
+            entries.add(Pair.of(w, wb.toWord()));
+        }
+
+        final IncrementalMooreTreeBuilder<Character, Integer> original = new IncrementalMooreTreeBuilder<>(alphabet);
+        final ValueCodec<Word<Integer>> codec = ValueCodec.words(ValueCodec.integers());
+
+        try (IncrementalCacheStore<Character, Word<Integer>> store = IncrementalCacheStore.open(directory,
+                                                                                                 alphabet,
+                                                                                                 codec)) {
+            appendAll(store, original, entries);
+            store.snapshot(IncrementalCacheStore.mooreEntries(original, alphabet));
+        }
+
+        try (IncrementalCacheStore<Character, Word<Integer>> store = IncrementalCacheStore.open(directory,
+                                                                                                 alphabet,
+                                                                                                 codec)) {
+            checkRestore(store, new IncrementalMooreTreeBuilder<>(alphabet), entries);
+            checkRestore(store, new IncrementalMooreDAGBuilder<>(alphabet), entries);
+        }
+    }
+
+    @Test
+    public void testDFA() throws IOException {
+        checkDFA(new IncrementalDFATreeBuilder<>(alphabet), new IncrementalDFADAGBuilder<>(alphabet), false);
+    }
+
+    @Test
+    public void testPCDFA() throws IOException {
+        checkDFA(new IncrementalPCDFATreeBuilder<>(alphabet), new IncrementalPCDFADAGBuilder<>(alphabet), true);
+    }
+
+    @Test
+    public void testPCDFAEntries() {
+        checkPCDFAEntries(new IncrementalPCDFATreeBuilder<>(alphabet));
+        checkPCDFAEntries(new IncrementalPCDFADAGBuilder<>(alphabet));
+    }
+
+    @Test
+    public void testDFAEntries() {
+        checkDFAEntries(new IncrementalDFATreeBuilder<>(alphabet));
+        checkDFAEntries(new IncrementalDFADAGBuilder<>(alphabet));
+    }
+
+    @Test
+    public void testInterruptedWrite() throws IOException {
+        // only a part of the record header has been written
+        checkTornRecord(record -> Arrays.copyOf(record, 6));
+    }
+
+    @Test
+    public void testInterruptedPayload() throws IOException {
+        // the record header has been written but only a part of the payload
+        checkTornRecord(record -> Arrays.copyOf(record, record.length - 1));
+    }
+
+    @Test
+    public void testCorruptPayload() throws IOException {
+        // the record header has been written but the payload contains garbage
+        checkTornRecord(record -> {
+            final byte[] result = record.clone();
+            Arrays.fill(result, 8, result.length, (byte) 0xFF);
+            return result;
+        });
+    }
+
+    private void checkTornRecord(UnaryOperator<byte[]> tear) throws IOException {
+        final ValueCodec<Boolean> codec = ValueCodec.booleans();
+        final Word<Character> w1 = Word.fromString("abc");
+        final Word<Character> w2 = Word.fromString("cab");
+        final Path journal = directory.resolve(IncrementalCacheStore.JOURNAL_FILE);
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory, alphabet, codec)) {
+            store.append(w1, true);
+        }
+
+        final int validSize = (int) Files.size(journal);
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory, alphabet, codec)) {
+            store.append(w2, true);
+        }
+
+        // simulate a crash in the middle of writing the second record
+        final byte[] content = Files.readAllBytes(journal);
+        final byte[] record = Arrays.copyOfRange(content, validSize, content.length);
+        try (OutputStream out = Files.newOutputStream(journal)) {
+            out.write(content, 0, validSize);
+            out.write(tear.apply(record));
+        }
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory, alphabet, codec)) {
+            final IncrementalDFATreeBuilder<Character> builder = new IncrementalDFATreeBuilder<>(alphabet);
+            store.restore(builder);
+            Assert.assertEquals(Files.size(journal), validSize);
+            Assert.assertEquals(builder.lookup(w1).getSecond(), Boolean.TRUE);
+            Assert.assertFalse(builder.lookup(w2).getFirst());
+
+            store.append(w2, false);
+        }
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory, alphabet, codec)) {
+            final IncrementalDFATreeBuilder<Character> builder = new IncrementalDFATreeBuilder<>(alphabet);
+            store.restore(builder);
+            Assert.assertEquals(builder.lookup(w1).getSecond(), Boolean.TRUE);
+            Assert.assertEquals(builder.lookup(w2).getSecond(), Boolean.FALSE);
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testLargerAlphabet() throws IOException {
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory,
+                                                                                           alphabet,
+                                                                                           ValueCodec.booleans())) {
+            store.append(Word.fromString("abc"), true);
+        }
+
+        final Alphabet<Character> smaller = Alphabets.characters('a', 'b');
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory,
+                                                                                           smaller,
+                                                                                           ValueCodec.booleans())) {
+            store.restore(new IncrementalDFATreeBuilder<>(smaller));
+        }
+    }
+
+    private void checkDFA(IncrementalConstruction.DFABuilder<Character> original,
+                          IncrementalConstruction.DFABuilder<Character> restored,
+                          boolean prefixClosed) throws IOException {
+        final Random random = new Random(7);
+        final CompactDFA<Character> target = RandomAutomata.randomDFA(random, 10, alphabet);
+        final List<Pair<Word<Character>, Boolean>> entries = new ArrayList<>();
+
+        for (Word<Character> w : randomWords(random)) {
+            entries.add(Pair.of(w, prefixClosed ? isPrefixClosedAccepted(target, w) : target.accepts(w)));
+        }
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory,
+                                                                                           alphabet,
+                                                                                           ValueCodec.booleans())) {
+            appendAll(store, original, entries);
+            store.snapshot(IncrementalCacheStore.dfaEntries(original, alphabet));
+        }
+
+        try (IncrementalCacheStore<Character, Boolean> store = IncrementalCacheStore.open(directory,
+                                                                                           alphabet,
+                                                                                           ValueCodec.booleans())) {
+            checkRestore(store, restored, entries);
+        }
+    }
+
+    private void checkPCDFAEntries(IncrementalConstruction.DFABuilder<Character> builder) {
+        builder.insert(Word.fromString("a"), true);
+        builder.insert(Word.fromString("ab"), false);
+        builder.insert(Word.fromString("c"), false);
+
+        // extensions of rejected words are implicitly rejected and must not be extracted
+        final List<Pair<Word<Character>, Boolean>> expected = Arrays.asList(Pair.of(Word.epsilon(), true),
+                                                                             Pair.of(Word.fromString("a"), true),
+                                                                             Pair.of(Word.fromString("ab"), false),
+                                                                             Pair.of(Word.fromString("c"), false));
+
+        Assert.assertEquals(IncrementalCacheStore.dfaEntries(builder, alphabet), expected);
+    }
+
+    private void checkDFAEntries(IncrementalConstruction.DFABuilder<Character> builder) {
+        builder.insert(Word.fromString("ab"), false);
+        builder.insert(Word.fromString("abc"), true);
+        builder.insert(Word.fromString("c"), true);
+
+        // without prefix-closure, extensions of rejected words carry information on their own
+        final List<Pair<Word<Character>, Boolean>> expected = Arrays.asList(Pair.of(Word.fromString("ab"), false),
+                                                                             Pair.of(Word.fromString("abc"), true),
+                                                                             Pair.of(Word.fromString("c"), true));
+
+        Assert.assertEquals(IncrementalCacheStore.dfaEntries(builder, alphabet), expected);
+    }
+
+    private static boolean isPrefixClosedAccepted(CompactDFA<Character> target, Word<Character> word) {
+        for (Word<Character> prefix : word.prefixes(false)) {
+            if (!target.accepts(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <D> void appendAll(IncrementalCacheStore<Character, D> store,
+                                      IncrementalConstruction<?, Character, D> builder,
+                                      List<Pair<Word<Character>, D>> entries) throws IOException {
+        for (Pair<Word<Character>, D> e : entries) {
+            builder.insert(e.getFirst(), e.getSecond());
+            store.append(e.getFirst(), e.getSecond());
+        }
+    }
+
+    private static <D> void checkRestore(IncrementalCacheStore<Character, D> store,
+                                         IncrementalConstruction<?, Character, D> builder,
+                                         List<Pair<Word<Character>, D>> entries) throws IOException {
+        store.restore(builder);
+
+        for (Pair<Word<Character>, D> e : entries) {
+            final Pair<Boolean, D> lookup = builder.lookup(e.getFirst());
+            Assert.assertTrue(lookup.getFirst());
+            Assert.assertEquals(lookup.getSecond(), e.getSecond());
+        }
+    }
+
+    private List<Word<Character>> randomWords(Random random) {
+        final List<Word<Character>> result = new ArrayList<>(NUM_WORDS);
+
+        for (int i = 0; i < NUM_WORDS; i++) {
+            final int length = 1 + random.nextInt(MAX_LENGTH);
+            final WordBuilder<Character> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+            }
+            result.add(wb.toWord());
+        }
+
+        return result;
+    }
+}
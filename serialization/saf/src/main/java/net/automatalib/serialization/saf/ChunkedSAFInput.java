@@ -0,0 +1,461 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.MutableAutomaton;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.automaton.transducer.impl.CompactSST;
+import net.automatalib.exception.FormatException;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Deserializer for the chunked variant of the SAF (simple automaton format). See {@link ChunkedSAFOutput} for a
+ * description of the format.
+ * <p>
+ * Chunks are read sequentially from the underlying stream. If a parallelism greater than one is specified, the chunks
+ * are decompressed, verified and decoded concurrently, whereas the decoded chunks are added to the resulting automaton
+ * in order. At most {@code 2 * parallelism} chunks are buffered at any time, so the stream is never buffered as a
+ * whole. Note that in this case, the given transition property decoders must be thread-safe.
+ */
+public class ChunkedSAFInput {
+
+    private static final AutomatonType[] TYPES = AutomatonType.values();
+    private static final SAFCompression[] COMPRESSIONS = SAFCompression.values();
+
+    private final DataInputStream in;
+    private final int parallelism;
+
+    public ChunkedSAFInput(InputStream is) {
+        this(is, 1);
+    }
+
+    public ChunkedSAFInput(InputStream is, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.in = new DataInputStream(is);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Checks whether the given stream starts with the header of a chunked SAF file. The stream must support {@link
+     * InputStream#mark(int) marking}, and its position is not changed by this method.
+     *
+     * @param is
+     *         the input stream
+     *
+     * @return {@code true} if the stream contains a chunked SAF file, {@code false} otherwise
+     *
+     * @throws IOException
+     *         if reading from the stream fails
+     */
+    static boolean isChunked(InputStream is) throws IOException {
+        final byte[] header = new byte[ChunkedSAFOutput.MAGIC.length];
+
+        is.mark(header.length);
+        int read = 0;
+        try {
+            while (read < header.length) {
+                final int n = is.read(header, read, header.length - read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+        } finally {
+            is.reset();
+        }
+
+        return read == header.length && Arrays.equals(header, ChunkedSAFOutput.MAGIC);
+    }
+
+    public CompactDFA<Integer> readNativeDFA() throws IOException, FormatException {
+        return readNativeAutomaton(AutomatonType.DFA,
+                                   new CompactDFA.Creator<>(),
+                                   AcceptanceDecoder::new,
+                                   SinglePropertyDecoder.nullDecoder());
+    }
+
+    public CompactNFA<Integer> readNativeNFA() throws IOException, FormatException {
+        return readNativeAutomaton(AutomatonType.NFA,
+                                   new CompactNFA.Creator<>(),
+                                   AcceptanceDecoder::new,
+                                   SinglePropertyDecoder.nullDecoder());
+    }
+
+    public <O> CompactMealy<Integer, O> readNativeMealy(SinglePropertyDecoder<? extends O> outputDecoder)
+            throws IOException, FormatException {
+        return readNativeAutomaton(AutomatonType.MEALY,
+                                   new CompactMealy.Creator<>(),
+                                   BlockPropertyDecoder::nullDecoder,
+                                   outputDecoder);
+    }
+
+    public <O> CompactMoore<Integer, O> readNativeMoore(SinglePropertyDecoder<? extends O> outputDecoder)
+            throws IOException, FormatException {
+        return readNativeAutomaton(AutomatonType.MOORE,
+                                   new CompactMoore.Creator<>(),
+                                   () -> outputDecoder::readProperty,
+                                   SinglePropertyDecoder.nullDecoder());
+    }
+
+    public <O> CompactSST<Integer, O> readNativeSST(SinglePropertyDecoder<? extends O> outputDecoder)
+            throws IOException, FormatException {
+        final SinglePropertyDecoder<Word<O>> wordDecoder = SinglePropertyDecoder.wordDecoder(outputDecoder);
+        return readNativeAutomaton(AutomatonType.SST,
+                                   CompactSST::new,
+                                   () -> wordDecoder::readProperty,
+                                   wordDecoder);
+    }
+
+    /**
+     * Reads an automaton of the given type.
+     *
+     * @param expectedType
+     *         the expected automaton type
+     * @param creator
+     *         the creator for the resulting automaton
+     * @param spDecoders
+     *         a supplier for state property decoders. A fresh decoder is used for each chunk, because block property
+     *         decoders may be stateful
+     * @param tpDecoder
+     *         the transition property decoder
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the deserialized automaton
+     *
+     * @throws IOException
+     *         if reading from the stream fails
+     * @throws FormatException
+     *         if the content of the stream does not match the expected format (including checksum mismatches)
+     */
+    public <SP, TP, A extends MutableAutomaton<?, Integer, ?, SP, TP>> A readNativeAutomaton(AutomatonType expectedType,
+                                                                                             AutomatonCreator<? extends A, Integer> creator,
+                                                                                             Supplier<? extends BlockPropertyDecoder<? extends SP>> spDecoders,
+                                                                                             SinglePropertyDecoder<? extends TP> tpDecoder)
+            throws IOException, FormatException {
+        final byte[] magic = new byte[ChunkedSAFOutput.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, ChunkedSAFOutput.MAGIC)) {
+            throw new FormatException("Not a chunked SAF file");
+        }
+
+        final int version = in.readUnsignedByte();
+        if (version != ChunkedSAFOutput.VERSION) {
+            throw new FormatException("Unsupported version " + version);
+        }
+
+        final int type = in.readUnsignedByte();
+        if (type >= TYPES.length || TYPES[type] != expectedType) {
+            throw new FormatException("Unexpected automaton type");
+        }
+
+        final int compression = in.readUnsignedByte();
+        if (compression >= COMPRESSIONS.length) {
+            throw new FormatException("Unknown compression " + compression);
+        }
+
+        final int numInputs = in.readInt();
+        final int numStates = in.readInt();
+        final int statesPerChunk = in.readInt();
+        if (numInputs <= 0 || numStates < 0 || statesPerChunk <= 0) {
+            throw new FormatException("Invalid header");
+        }
+
+        final Header header = new Header(expectedType.isDeterministic(),
+                                         COMPRESSIONS[compression],
+                                         numInputs,
+                                         numStates,
+                                         statesPerChunk);
+
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, numInputs - 1);
+        final A result = creator.createAutomaton(alphabet, numStates);
+        readBody((MutableAutomaton<?, Integer, ?, SP, TP>) result, alphabet, header, spDecoders, tpDecoder);
+        return result;
+    }
+
+    private <S, SP, TP> void readBody(MutableAutomaton<S, Integer, ?, SP, TP> result,
+                                      Alphabet<Integer> alphabet,
+                                      Header header,
+                                      Supplier<? extends BlockPropertyDecoder<? extends SP>> spDecoders,
+                                      SinglePropertyDecoder<? extends TP> tpDecoder)
+            throws IOException, FormatException {
+
+        // chunks may refer to states of subsequent chunks, so create all states upfront
+        final List<S> states = new ArrayList<>(header.numStates);
+        for (int i = 0; i < header.numStates; i++) {
+            states.add(result.addState());
+        }
+
+        final int numInitials = in.readInt();
+        if (numInitials < 0 || (header.deterministic && numInitials != 1)) {
+            throw new FormatException("Invalid number of initial states");
+        }
+        for (int i = 0; i < numInitials; i++) {
+            result.setInitial(states.get(header.checkStateId(in.readInt())), true);
+        }
+
+        final int numChunks = (int) (((long) header.numStates + header.statesPerChunk - 1) / header.statesPerChunk);
+
+        if (parallelism == 1) {
+            for (int c = 0; c < numChunks; c++) {
+                readChunk(header, c).decode(spDecoders, tpDecoder).apply(result, alphabet, states);
+            }
+            return;
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            final Deque<Future<DecodedChunk<SP, TP>>> pending = new ArrayDeque<>();
+
+            for (int c = 0; c < numChunks; c++) {
+                final EncodedChunk chunk = readChunk(header, c);
+                pending.add(pool.submit(() -> chunk.decode(spDecoders, tpDecoder)));
+
+                if (pending.size() >= 2 * parallelism) {
+                    await(pending.poll()).apply(result, alphabet, states);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                await(pending.poll()).apply(result, alphabet, states);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private EncodedChunk readChunk(Header header, int index) throws IOException, FormatException {
+        final int rawLength = in.readInt();
+        final int storedLength = in.readInt();
+        final int crc = in.readInt();
+
+        if (rawLength < 0 || storedLength < 0) {
+            throw new FormatException("Invalid chunk length");
+        }
+
+        final byte[] data = new byte[storedLength];
+        in.readFully(data);
+
+        final int lo = index * header.statesPerChunk;
+        final int hi = (int) Math.min(header.numStates, (long) lo + header.statesPerChunk);
+
+        return new EncodedChunk(header, lo, hi, rawLength, crc, data);
+    }
+
+    private static <T> T await(@Nullable Future<T> future) throws IOException, FormatException {
+        assert future != null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof FormatException) {
+                throw (FormatException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static final class Header {
+
+        final boolean deterministic;
+        final SAFCompression compression;
+        final int numInputs;
+        final int numStates;
+        final int statesPerChunk;
+
+        Header(boolean deterministic, SAFCompression compression, int numInputs, int numStates, int statesPerChunk) {
+            this.deterministic = deterministic;
+            this.compression = compression;
+            this.numInputs = numInputs;
+            this.numStates = numStates;
+            this.statesPerChunk = statesPerChunk;
+        }
+
+        int checkStateId(int id) throws FormatException {
+            if (id < 0 || id >= numStates) {
+                throw new FormatException("Invalid state id " + id);
+            }
+            return id;
+        }
+    }
+
+    private static final class EncodedChunk {
+
+        private final Header header;
+        private final int lo;
+        private final int hi;
+        private final int rawLength;
+        private final int crc;
+        private final byte[] data;
+
+        EncodedChunk(Header header, int lo, int hi, int rawLength, int crc, byte[] data) {
+            this.header = header;
+            this.lo = lo;
+            this.hi = hi;
+            this.rawLength = rawLength;
+            this.crc = crc;
+            this.data = data;
+        }
+
+        <SP, TP> DecodedChunk<SP, TP> decode(Supplier<? extends BlockPropertyDecoder<? extends SP>> spDecoders,
+                                             SinglePropertyDecoder<? extends TP> tpDecoder)
+                throws IOException, FormatException {
+
+            final byte[] raw = header.compression.decompress(data, rawLength);
+
+            final CRC32 checksum = new CRC32();
+            checksum.update(raw, 0, raw.length);
+            if ((int) checksum.getValue() != crc) {
+                throw new FormatException("Checksum mismatch in chunk of states [" + lo + ", " + hi + ")");
+            }
+
+            final DataInputStream din = new DataInputStream(new ByteArrayInputStream(raw));
+            final int numStates = hi - lo;
+            final int numInputs = header.numInputs;
+
+            final List<SP> stateProperties = new ArrayList<>(numStates);
+            final int[] offsets = new int[numStates * numInputs + 1];
+            int[] targets = new int[header.deterministic ? numStates * numInputs : numStates];
+            final List<TP> transitionProperties = new ArrayList<>(targets.length);
+            int numTargets = 0;
+
+            try {
+                final BlockPropertyDecoder<? extends SP> spDecoder = spDecoders.get();
+                spDecoder.start(din);
+                for (int i = 0; i < numStates; i++) {
+                    stateProperties.add(spDecoder.readProperty(din));
+                }
+                spDecoder.finish(din);
+
+                for (int idx = 0; idx < numStates * numInputs; idx++) {
+                    final int count;
+                    if (header.deterministic) {
+                        final int tgt = din.readInt();
+                        count = tgt == -1 ? 0 : 1;
+                        if (count > 0) {
+                            targets[numTargets++] = header.checkStateId(tgt);
+                            transitionProperties.add(tpDecoder.readProperty(din));
+                        }
+                    } else {
+                        count = din.readInt();
+                        if (count < 0) {
+                            throw new FormatException("Invalid number of transitions");
+                        }
+                        for (int k = 0; k < count; k++) {
+                            if (numTargets == targets.length) {
+                                targets = Arrays.copyOf(targets, targets.length * 2 + 1);
+                            }
+                            targets[numTargets++] = header.checkStateId(din.readInt());
+                            transitionProperties.add(tpDecoder.readProperty(din));
+                        }
+                    }
+                    offsets[idx + 1] = offsets[idx] + count;
+                }
+            } catch (EOFException e) {
+                throw new FormatException("Truncated chunk of states [" + lo + ", " + hi + ")", e);
+            }
+
+            if (din.available() > 0) {
+                throw new FormatException("Trailing data in chunk of states [" + lo + ", " + hi + ")");
+            }
+
+            return new DecodedChunk<>(lo, hi, stateProperties, offsets, targets, transitionProperties);
+        }
+    }
+
+    private static final class DecodedChunk<SP, TP> {
+
+        private final int lo;
+        private final int hi;
+        private final List<SP> stateProperties;
+        private final int[] offsets;
+        private final int[] targets;
+        private final List<TP> transitionProperties;
+
+        DecodedChunk(int lo,
+                     int hi,
+                     List<SP> stateProperties,
+                     int[] offsets,
+                     int[] targets,
+                     List<TP> transitionProperties) {
+            this.lo = lo;
+            this.hi = hi;
+            this.stateProperties = stateProperties;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.transitionProperties = transitionProperties;
+        }
+
+        <S> void apply(MutableAutomaton<S, Integer, ?, ? super SP, ? super TP> result,
+                       Alphabet<Integer> alphabet,
+                       List<S> states) {
+            final int numInputs = alphabet.size();
+
+            for (int i = 0; i < hi - lo; i++) {
+                final S state = states.get(lo + i);
+                result.setStateProperty(state, stateProperties.get(i));
+
+                for (int j = 0; j < numInputs; j++) {
+                    final Integer sym = alphabet.getSymbol(j);
+                    final int idx = i * numInputs + j;
+                    for (int t = offsets[idx]; t < offsets[idx + 1]; t++) {
+                        result.addTransition(state, sym, states.get(targets[t]), transitionProperties.get(t));
+                    }
+                }
+            }
+        }
+    }
+}
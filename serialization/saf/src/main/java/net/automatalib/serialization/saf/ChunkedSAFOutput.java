@@ -0,0 +1,205 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.automaton.transducer.SubsequentialTransducer;
+import net.automatalib.word.Word;
+
+/**
+ * Serializer for the chunked variant of the SAF (simple automaton format).
+ * <p>
+ * In contrast to {@link SAFOutput}, the body of a chunked SAF file is split into chunks of consecutive states. Each
+ * chunk contains the properties and the outgoing transitions of its states, is (optionally) compressed and is protected
+ * by a CRC32 checksum. Chunks are written one after another, so that only a single chunk needs to be buffered during
+ * serialization. Chunks can be decoded independently of each other, which allows {@link ChunkedSAFInput} to decode them
+ * in parallel.
+ * <p>
+ * The layout of a chunked SAF file is as follows (all numbers are big-endian):
+ * <pre>
+ * 'S' 'A' 'F' 'C' version:u8 type:u8 compression:u8
+ * alphabetSize:i32 numStates:i32 statesPerChunk:i32
+ * numInitialStates:i32 initialState:i32*
+ * (rawLength:i32 storedLength:i32 crc32:i32 data:u8[storedLength])*
+ * </pre>
+ * The (uncompressed) data of each chunk consists of the block-encoded state properties of the chunk's states, followed
+ * by their transitions in the same encoding as used by {@link SAFOutput}.
+ */
+public class ChunkedSAFOutput {
+
+    public static final int DEFAULT_STATES_PER_CHUNK = 1 << 14;
+
+    static final byte[] MAGIC = {'S', 'A', 'F', 'C'};
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private final SAFCompression compression;
+    private final int statesPerChunk;
+
+    public ChunkedSAFOutput(OutputStream os) {
+        this(os, SAFCompression.DEFLATE, DEFAULT_STATES_PER_CHUNK);
+    }
+
+    public ChunkedSAFOutput(OutputStream os, SAFCompression compression, int statesPerChunk) {
+        if (statesPerChunk <= 0) {
+            throw new IllegalArgumentException("The number of states per chunk must be positive");
+        }
+        this.out = new DataOutputStream(os);
+        this.compression = compression;
+        this.statesPerChunk = statesPerChunk;
+    }
+
+    public <I> void writeDFA(DFA<?, I> automaton, Alphabet<I> alphabet) throws IOException {
+        writeAutomaton(automaton,
+                       alphabet,
+                       AutomatonType.DFA,
+                       new AcceptanceEncoder(),
+                       SinglePropertyEncoder.nullEncoder());
+    }
+
+    public <I> void writeNFA(NFA<?, I> automaton, Alphabet<I> alphabet) throws IOException {
+        writeAutomaton(automaton,
+                       alphabet,
+                       AutomatonType.NFA,
+                       new AcceptanceEncoder(),
+                       SinglePropertyEncoder.nullEncoder());
+    }
+
+    public <I, O> void writeMealy(MealyMachine<?, I, ?, O> automaton,
+                                  Alphabet<I> alphabet,
+                                  SinglePropertyEncoder<? super O> outputEncoder) throws IOException {
+        writeAutomaton(automaton, alphabet, AutomatonType.MEALY, BlockPropertyEncoder.noopEncoder(), outputEncoder);
+    }
+
+    public <I, O> void writeMoore(MooreMachine<?, I, ?, O> automaton,
+                                  Alphabet<I> alphabet,
+                                  SinglePropertyEncoder<? super O> outputEncoder) throws IOException {
+        writeAutomaton(automaton,
+                       alphabet,
+                       AutomatonType.MOORE,
+                       outputEncoder::writeProperty,
+                       SinglePropertyEncoder.nullEncoder());
+    }
+
+    public <I, O> void writeSST(SubsequentialTransducer<?, I, ?, O> automaton,
+                                Alphabet<I> alphabet,
+                                SinglePropertyEncoder<? super O> outputEncoder) throws IOException {
+        final SinglePropertyEncoder<Word<O>> wordEncoder = SinglePropertyEncoder.wordEncoder(outputEncoder);
+        writeAutomaton(automaton, alphabet, AutomatonType.SST, wordEncoder::writeProperty, wordEncoder);
+    }
+
+    public <I, SP, TP> void writeAutomaton(UniversalAutomaton<?, I, ?, SP, TP> source,
+                                           Alphabet<I> alphabet,
+                                           AutomatonType type,
+                                           BlockPropertyEncoder<? super SP> spEncoder,
+                                           SinglePropertyEncoder<? super TP> tpEncoder) throws IOException {
+        writeBody(source, alphabet, type, spEncoder, tpEncoder);
+        out.flush();
+    }
+
+    private <S, I, T, SP, TP> void writeBody(UniversalAutomaton<S, I, T, SP, TP> source,
+                                             Alphabet<I> alphabet,
+                                             AutomatonType type,
+                                             BlockPropertyEncoder<? super SP> spEncoder,
+                                             SinglePropertyEncoder<? super TP> tpEncoder) throws IOException {
+        final int numStates = source.size();
+        final int numInputs = alphabet.size();
+        final StateIDs<S> stateIds = source.stateIDs();
+        final Set<S> initials = source.getInitialStates();
+
+        if (type.isDeterministic() && initials.size() != 1) {
+            throw new IllegalArgumentException("Deterministic automata must have exactly one initial state");
+        }
+
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(type.ordinal());
+        out.writeByte(compression.ordinal());
+        out.writeInt(numInputs);
+        out.writeInt(numStates);
+        out.writeInt(statesPerChunk);
+
+        out.writeInt(initials.size());
+        for (S s : initials) {
+            out.writeInt(stateIds.getStateId(s));
+        }
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream chunkOut = new DataOutputStream(buffer);
+        final CRC32 crc = new CRC32();
+
+        for (int lo = 0; lo < numStates; lo += statesPerChunk) {
+            final int hi = Math.min(numStates, lo + statesPerChunk);
+
+            buffer.reset();
+
+            spEncoder.start(chunkOut);
+            for (int i = lo; i < hi; i++) {
+                spEncoder.encodeProperty(chunkOut, source.getStateProperty(stateIds.getState(i)));
+            }
+            spEncoder.finish(chunkOut);
+
+            for (int i = lo; i < hi; i++) {
+                final S state = stateIds.getState(i);
+                for (int j = 0; j < numInputs; j++) {
+                    final Collection<T> transitions = source.getTransitions(state, alphabet.getSymbol(j));
+
+                    if (type.isDeterministic()) {
+                        if (transitions.size() > 1) {
+                            throw new IllegalArgumentException("Not deterministic");
+                        } else if (transitions.isEmpty()) {
+                            chunkOut.writeInt(-1);
+                            continue;
+                        }
+                    } else {
+                        chunkOut.writeInt(transitions.size());
+                    }
+
+                    for (T t : transitions) {
+                        chunkOut.writeInt(stateIds.getStateId(source.getSuccessor(t)));
+                        tpEncoder.writeProperty(chunkOut, source.getTransitionProperty(t));
+                    }
+                }
+            }
+
+            chunkOut.flush();
+
+            final byte[] raw = buffer.toByteArray();
+            crc.reset();
+            crc.update(raw, 0, raw.length);
+            final byte[] stored = compression.compress(raw, raw.length);
+
+            out.writeInt(raw.length);
+            out.writeInt(stored.length);
+            out.writeInt((int) crc.getValue());
+            out.write(stored);
+        }
+    }
+}
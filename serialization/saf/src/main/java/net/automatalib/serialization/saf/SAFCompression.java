@@ -0,0 +1,107 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import net.automatalib.exception.FormatException;
+
+/**
+ * The codecs that can be used for compressing the individual chunks of a chunked SAF file.
+ *
+ * @see ChunkedSAFOutput
+ * @see ChunkedSAFInput
+ */
+public enum SAFCompression {
+    /**
+     * Chunks are stored uncompressed.
+     */
+    NONE {
+        @Override
+        byte[] compress(byte[] data, int length) {
+            return Arrays.copyOf(data, length);
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int rawLength) throws FormatException {
+            if (data.length != rawLength) {
+                throw new FormatException("Unexpected chunk length " + data.length + ", expected " + rawLength);
+            }
+            return data;
+        }
+    },
+    /**
+     * Chunks are compressed using the DEFLATE algorithm (see {@link Deflater}).
+     */
+    DEFLATE {
+        @Override
+        byte[] compress(byte[] data, int length) {
+            final Deflater deflater = new Deflater();
+            try {
+                deflater.setInput(data, 0, length);
+                deflater.finish();
+
+                byte[] result = new byte[Math.max(64, length / 2)];
+                int size = 0;
+                while (!deflater.finished()) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, result.length * 2);
+                    }
+                    size += deflater.deflate(result, size, result.length - size);
+                }
+                return Arrays.copyOf(result, size);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int rawLength) throws FormatException {
+            if (rawLength == 0) {
+                return new byte[0];
+            }
+
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(data);
+                final byte[] result = new byte[rawLength];
+                int size = 0;
+                while (size < rawLength && !inflater.finished()) {
+                    final int n = inflater.inflate(result, size, rawLength - size);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    size += n;
+                }
+                if (size != rawLength || !inflater.finished()) {
+                    throw new FormatException("Corrupt compressed chunk");
+                }
+                return result;
+            } catch (DataFormatException e) {
+                throw new FormatException(e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    abstract byte[] compress(byte[] data, int length);
+
+    abstract byte[] decompress(byte[] data, int rawLength) throws FormatException;
+}
@@ -0,0 +1,253 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.exception.FormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A read-only {@link DFA} view of a SAF file. Instead of decoding the file into a mutable automaton, the file is
+ * memory-mapped and all queries (successors, acceptance) are answered directly from the mapped data. Hence, opening a
+ * file only requires to validate its header, regardless of the size of the automaton.
+ * <p>
+ * Only the header and the size of the file are validated when opening it. Malformed transition data (e.g., successor
+ * ids that are out of range) is not detected until the respective transition is queried.
+ * <p>
+ * The view should be {@link #close() closed} once it is no longer needed. Note that the mapped memory itself is only
+ * released once the view has been garbage collected.
+ */
+public final class SAFMappedDFA implements DFA<Integer, Integer>,
+                                           UniversalDeterministicAutomaton.FullIntAbstraction<Integer, Boolean, Void>,
+                                           StateIDs<Integer>,
+                                           InputAlphabetHolder<Integer>,
+                                           Closeable {
+
+    // the maximum size of a single mapped region (must be a multiple of Integer.BYTES)
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    // 'SAF' + type, alphabet size, number of states, initial state
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+
+    private final Alphabet<Integer> alphabet;
+    private final int numInputs;
+    private final int numStates;
+    private final int initialState;
+    private final long transitionOffset;
+
+    private SAFMappedDFA(FileChannel channel) throws IOException, FormatException {
+        this.channel = channel;
+
+        final long fileSize = channel.size();
+        final int numSegments = (int) ((fileSize + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[numSegments];
+
+        for (int i = 0; i < numSegments; i++) {
+            final long offset = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(MapMode.READ_ONLY, offset, Math.min(SEGMENT_MASK + 1, fileSize - offset));
+        }
+
+        if (fileSize < HEADER_BYTES) {
+            throw new FormatException("File too small for a SAF header");
+        }
+
+        final int magic = readInt(0);
+        if ((magic >>> 8) != ('S' << 16 | 'A' << 8 | 'F')) {
+            throw new FormatException("Not a SAF file");
+        }
+        if ((magic & 0xFF) != AutomatonType.DFA.ordinal()) {
+            throw new FormatException("SAF file does not contain a DFA");
+        }
+
+        this.numInputs = readInt(Integer.BYTES);
+        this.numStates = readInt(2L * Integer.BYTES);
+        this.initialState = readInt(3L * Integer.BYTES);
+
+        if (numInputs <= 0 || numStates <= 0 || initialState < 0 || initialState >= numStates) {
+            throw new FormatException("Invalid SAF header");
+        }
+
+        // see AcceptanceEncoder: one int for every (started) block of 32 states
+        final long acceptanceInts = (numStates + 31L) / 32;
+        this.transitionOffset = HEADER_BYTES + acceptanceInts * Integer.BYTES;
+
+        final long expectedSize = transitionOffset + (long) numStates * numInputs * Integer.BYTES;
+        if (fileSize != expectedSize) {
+            throw new FormatException("Unexpected file size " + fileSize + ", expected " + expectedSize);
+        }
+
+        this.alphabet = Alphabets.integers(0, numInputs - 1);
+    }
+
+    /**
+     * Maps the given SAF file.
+     *
+     * @param file
+     *         the (uncompressed) SAF file containing a DFA
+     *
+     * @return the memory-mapped view of the DFA
+     *
+     * @throws IOException
+     *         if the file cannot be read
+     * @throws FormatException
+     *         if the file does not contain a SAF-encoded DFA
+     */
+    public static SAFMappedDFA open(Path file) throws IOException, FormatException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new SAFMappedDFA(channel);
+        } catch (IOException | FormatException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private int readInt(long pos) {
+        return segments[(int) (pos >>> SEGMENT_SHIFT)].getInt((int) (pos & SEGMENT_MASK));
+    }
+
+    @Override
+    public Alphabet<Integer> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public int size() {
+        return numStates;
+    }
+
+    @Override
+    public int numInputs() {
+        return numInputs;
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    @Override
+    public Integer getInitialState() {
+        return initialState;
+    }
+
+    @Override
+    public int getIntInitialState() {
+        return initialState;
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return readInt(transitionOffset + ((long) state * numInputs + input) * Integer.BYTES);
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        final int succ = getSuccessor(state, input);
+        return succ < 0 ? null : succ;
+    }
+
+    @Override
+    public @Nullable Integer getTransition(Integer state, Integer input) {
+        if (!alphabet.containsSymbol(input)) {
+            return null;
+        }
+        return getTransition(state.intValue(), input.intValue());
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Integer getSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    public boolean isAccepting(int state) {
+        final int block = readInt(HEADER_BYTES + (long) (state >>> 5) * Integer.BYTES);
+        return (block & (1 << (state & 31))) != 0;
+    }
+
+    @Override
+    public Boolean getStateProperty(int state) {
+        return isAccepting(state);
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public UniversalDeterministicAutomaton.FullIntAbstraction<Integer, Boolean, Void> fullIntAbstraction(Alphabet<Integer> alphabet) {
+        if (this.alphabet.equals(alphabet)) {
+            return this;
+        }
+        return DFA.super.fullIntAbstraction(alphabet);
+    }
+
+    /**
+     * Closes the underlying file channel.
+     *
+     * @throws IOException
+     *         if closing the channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -41,9 +41,11 @@ public final class SAFSerializationDFA
     @Override
     public InputModelData<Integer, DFA<Integer, Integer>> readModel(InputStream is)
             throws IOException, FormatException {
-        try (InputStream stream = IOUtil.asUncompressedBufferedNonClosingInputStream(is)) {
-            SAFInput in = new SAFInput(stream);
-            final CompactDFA<Integer> automaton = in.readNativeDFA();
+        try (InputStream uncompressed = IOUtil.asUncompressedBufferedNonClosingInputStream(is);
+             InputStream stream = IOUtil.asBufferedInputStream(uncompressed)) {
+            final CompactDFA<Integer> automaton = ChunkedSAFInput.isChunked(stream) ?
+                    new ChunkedSAFInput(stream).readNativeDFA() :
+                    new SAFInput(stream).readNativeDFA();
             return new InputModelData<>(automaton, automaton.getInputAlphabet());
         }
     }
@@ -41,9 +41,11 @@ public final class SAFSerializationNFA
     @Override
     public InputModelData<Integer, NFA<Integer, Integer>> readModel(InputStream is)
             throws IOException, FormatException {
-        try (InputStream stream = IOUtil.asUncompressedBufferedNonClosingInputStream(is)) {
-            SAFInput in = new SAFInput(stream);
-            final CompactNFA<Integer> automaton = in.readNativeNFA();
+        try (InputStream uncompressed = IOUtil.asUncompressedBufferedNonClosingInputStream(is);
+             InputStream stream = IOUtil.asBufferedInputStream(uncompressed)) {
+            final CompactNFA<Integer> automaton = ChunkedSAFInput.isChunked(stream) ?
+                    new ChunkedSAFInput(stream).readNativeNFA() :
+                    new SAFInput(stream).readNativeNFA();
             return new InputModelData<>(automaton, automaton.getInputAlphabet());
         }
     }
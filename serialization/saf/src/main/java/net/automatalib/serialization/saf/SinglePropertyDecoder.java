@@ -16,7 +16,10 @@
 package net.automatalib.serialization.saf;
 
 import java.io.DataInput;
+import java.io.IOException;
 
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 @FunctionalInterface
@@ -26,5 +29,40 @@ public interface SinglePropertyDecoder<P> {
         return in -> null;
     }
 
-    P readProperty(DataInput in);
+    /**
+     * Returns a decoder that reads strings in modified UTF-8 encoding (see {@link DataInput#readUTF()}).
+     *
+     * @return the decoder
+     *
+     * @see SinglePropertyEncoder#stringEncoder()
+     */
+    static SinglePropertyDecoder<String> stringDecoder() {
+        return DataInput::readUTF;
+    }
+
+    /**
+     * Returns a decoder that reads words by reading their length and subsequently each of their symbols with the given
+     * symbol decoder.
+     *
+     * @param symbolDecoder
+     *         the decoder for the individual symbols
+     * @param <P>
+     *         symbol type
+     *
+     * @return the decoder
+     *
+     * @see SinglePropertyEncoder#wordEncoder(SinglePropertyEncoder)
+     */
+    static <P> SinglePropertyDecoder<Word<P>> wordDecoder(SinglePropertyDecoder<? extends P> symbolDecoder) {
+        return in -> {
+            final int length = in.readInt();
+            final WordBuilder<P> result = new WordBuilder<>(length);
+            for (int i = 0; i < length; i++) {
+                result.append(symbolDecoder.readProperty(in));
+            }
+            return result.toWord();
+        };
+    }
+
+    P readProperty(DataInput in) throws IOException;
 }
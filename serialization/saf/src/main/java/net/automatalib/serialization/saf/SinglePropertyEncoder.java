@@ -16,6 +16,9 @@
 package net.automatalib.serialization.saf;
 
 import java.io.DataOutput;
+import java.io.IOException;
+
+import net.automatalib.word.Word;
 
 @FunctionalInterface
 public interface SinglePropertyEncoder<P> {
@@ -24,5 +27,38 @@ public interface SinglePropertyEncoder<P> {
         return (out, property) -> {};
     }
 
-    void writeProperty(DataOutput out, P property);
+    /**
+     * Returns an encoder that writes strings in modified UTF-8 encoding (see {@link DataOutput#writeUTF(String)}).
+     *
+     * @return the encoder
+     *
+     * @see SinglePropertyDecoder#stringDecoder()
+     */
+    static SinglePropertyEncoder<String> stringEncoder() {
+        return DataOutput::writeUTF;
+    }
+
+    /**
+     * Returns an encoder that writes words by writing their length and subsequently each of their symbols with the
+     * given symbol encoder.
+     *
+     * @param symbolEncoder
+     *         the encoder for the individual symbols
+     * @param <P>
+     *         symbol type
+     *
+     * @return the encoder
+     *
+     * @see SinglePropertyDecoder#wordDecoder(SinglePropertyDecoder)
+     */
+    static <P> SinglePropertyEncoder<Word<P>> wordEncoder(SinglePropertyEncoder<? super P> symbolEncoder) {
+        return (out, word) -> {
+            out.writeInt(word.length());
+            for (P sym : word) {
+                symbolEncoder.writeProperty(out, sym);
+            }
+        };
+    }
+
+    void writeProperty(DataOutput out, P property) throws IOException;
 }
@@ -0,0 +1,191 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.automaton.transducer.impl.CompactSST;
+import net.automatalib.exception.FormatException;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.fsa.NFAs;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ChunkedSAFSerializationTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 4);
+    private static final List<String> OUTPUTS = Arrays.asList("a", "b", "c");
+    private static final int AUTOMATON_SIZE = 100;
+    private static final int STATES_PER_CHUNK = 7;
+
+    @DataProvider
+    public static Object[][] configurations() {
+        return new Object[][] {{SAFCompression.NONE, 1},
+                               {SAFCompression.NONE, 4},
+                               {SAFCompression.DEFLATE, 1},
+                               {SAFCompression.DEFLATE, 4}};
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testDFA(SAFCompression compression, int parallelism) throws IOException, FormatException {
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(new Random(0), AUTOMATON_SIZE, ALPHABET, false);
+        dfa.removeAllTransitions(0, 0);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, compression, STATES_PER_CHUNK).writeDFA(dfa, ALPHABET);
+
+        final CompactDFA<Integer> result =
+                new ChunkedSAFInput(new ByteArrayInputStream(baos.toByteArray()), parallelism).readNativeDFA();
+
+        Assert.assertEquals(result.size(), dfa.size());
+        Assert.assertTrue(Automata.testEquivalence(dfa, result, ALPHABET));
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testNFA(SAFCompression compression, int parallelism) throws IOException, FormatException {
+        final Random random = new Random(0);
+        final CompactNFA<Integer> nfa = new CompactNFA<>(ALPHABET, AUTOMATON_SIZE);
+
+        for (int i = 0; i < AUTOMATON_SIZE; i++) {
+            nfa.addState(random.nextBoolean());
+            nfa.setInitial(i, random.nextInt(10) == 0);
+        }
+
+        for (int i = 0; i < AUTOMATON_SIZE * 10; i++) {
+            nfa.addTransition(random.nextInt(AUTOMATON_SIZE),
+                              random.nextInt(ALPHABET.size()),
+                              random.nextInt(AUTOMATON_SIZE));
+        }
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, compression, STATES_PER_CHUNK).writeNFA(nfa, ALPHABET);
+
+        final CompactNFA<Integer> result =
+                new ChunkedSAFInput(new ByteArrayInputStream(baos.toByteArray()), parallelism).readNativeNFA();
+
+        Assert.assertEquals(result.getInitialStates(), nfa.getInitialStates());
+        for (int s = 0; s < AUTOMATON_SIZE; s++) {
+            Assert.assertEquals(result.isAccepting(s), nfa.isAccepting(s));
+            for (int i = 0; i < ALPHABET.size(); i++) {
+                Assert.assertEquals(result.getTransitions(s, i), nfa.getTransitions(s, i));
+            }
+        }
+        Assert.assertTrue(Automata.testEquivalence(NFAs.determinize(nfa, ALPHABET),
+                                                   NFAs.determinize(result, ALPHABET),
+                                                   ALPHABET));
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testMealy(SAFCompression compression, int parallelism) throws IOException, FormatException {
+        final CompactMealy<Integer, String> mealy =
+                RandomAutomata.randomMealy(new Random(0), AUTOMATON_SIZE, ALPHABET, OUTPUTS, false);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, compression, STATES_PER_CHUNK).writeMealy(mealy,
+                                                                             ALPHABET,
+                                                                             SinglePropertyEncoder.stringEncoder());
+
+        final CompactMealy<Integer, String> result =
+                new ChunkedSAFInput(new ByteArrayInputStream(baos.toByteArray()),
+                                    parallelism).readNativeMealy(SinglePropertyDecoder.stringDecoder());
+
+        Assert.assertTrue(Automata.testEquivalence(mealy, result, ALPHABET));
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testMoore(SAFCompression compression, int parallelism) throws IOException, FormatException {
+        final CompactMoore<Integer, String> moore =
+                RandomAutomata.randomMoore(new Random(0), AUTOMATON_SIZE, ALPHABET, OUTPUTS, false);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, compression, STATES_PER_CHUNK).writeMoore(moore,
+                                                                             ALPHABET,
+                                                                             SinglePropertyEncoder.stringEncoder());
+
+        final CompactMoore<Integer, String> result =
+                new ChunkedSAFInput(new ByteArrayInputStream(baos.toByteArray()),
+                                    parallelism).readNativeMoore(SinglePropertyDecoder.stringDecoder());
+
+        Assert.assertTrue(Automata.testEquivalence(moore, result, ALPHABET));
+    }
+
+    @Test(dataProvider = "configurations")
+    public void testSST(SAFCompression compression, int parallelism) throws IOException, FormatException {
+        final List<Word<String>> words =
+                Arrays.asList(Word.epsilon(), Word.fromLetter("a"), Word.fromSymbols("b", "c"));
+        final CompactSST<Integer, String> sst = RandomAutomata.randomDeterministic(new Random(0),
+                                                                                   AUTOMATON_SIZE,
+                                                                                   ALPHABET,
+                                                                                   words,
+                                                                                   words,
+                                                                                   new CompactSST<>(ALPHABET),
+                                                                                   false);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, compression, STATES_PER_CHUNK).writeSST(sst,
+                                                                           ALPHABET,
+                                                                           SinglePropertyEncoder.stringEncoder());
+
+        final CompactSST<Integer, String> result =
+                new ChunkedSAFInput(new ByteArrayInputStream(baos.toByteArray()),
+                                    parallelism).readNativeSST(SinglePropertyDecoder.stringDecoder());
+
+        Assert.assertTrue(Automata.testEquivalence(sst, result, ALPHABET));
+    }
+
+    @Test
+    public void testSerializationProvider() throws IOException, FormatException {
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(new Random(0), AUTOMATON_SIZE, ALPHABET);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos).writeDFA(dfa, ALPHABET);
+
+        final DFA<Integer, Integer> result =
+                SAFSerializationDFA.getInstance().readModel(new ByteArrayInputStream(baos.toByteArray())).model;
+
+        Assert.assertTrue(Automata.testEquivalence(dfa, result, ALPHABET));
+    }
+
+    @Test
+    public void testChecksum() throws IOException {
+        final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(new Random(0), AUTOMATON_SIZE, ALPHABET, false);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ChunkedSAFOutput(baos, SAFCompression.NONE, STATES_PER_CHUNK).writeDFA(dfa, ALPHABET);
+
+        final byte[] data = baos.toByteArray();
+        // flip a bit in the last chunk
+        data[data.length - 1] ^= 1;
+
+        Assert.assertThrows(FormatException.class,
+                            () -> new ChunkedSAFInput(new ByteArrayInputStream(data), 4).readNativeDFA());
+    }
+}
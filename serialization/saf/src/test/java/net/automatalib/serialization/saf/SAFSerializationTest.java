@@ -19,6 +19,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
@@ -94,6 +97,53 @@ public class SAFSerializationTest {
                                                    ALPHABET));
     }
 
+    @Test
+    public void testMappedDFA() throws IOException, FormatException {
+        final CompactDFA<Integer> largeDFA = RandomAutomata.randomDFA(new Random(0), 100, ALPHABET);
+        // make the automaton partial
+        largeDFA.removeAllTransitions(0, 0);
+
+        final Path file = Files.createTempFile("dfa", ".saf");
+
+        try {
+            try (OutputStream os = Files.newOutputStream(file)) {
+                SAFSerializationDFA.getInstance().writeModel(os, largeDFA, ALPHABET);
+            }
+
+            try (SAFMappedDFA mapped = SAFMappedDFA.open(file)) {
+                Assert.assertEquals(mapped.size(), largeDFA.size());
+                Assert.assertEquals(mapped.getInputAlphabet(), ALPHABET);
+                Assert.assertNull(mapped.getTransition(0, 0));
+
+                for (int s = 0; s < largeDFA.size(); s++) {
+                    Assert.assertEquals(mapped.isAccepting(s), largeDFA.isAccepting(s));
+                    for (int i = 0; i < ALPHABET.size(); i++) {
+                        Assert.assertEquals(mapped.getSuccessor(s, i), largeDFA.getSuccessor(s, i));
+                    }
+                }
+
+                Assert.assertTrue(Automata.testEquivalence(largeDFA, mapped, ALPHABET));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMappedDFAWithNFAFile() throws IOException {
+        final Path file = Files.createTempFile("nfa", ".saf");
+
+        try {
+            try (OutputStream os = Files.newOutputStream(file)) {
+                SAFSerializationNFA.getInstance().writeModel(os, this.nfa, ALPHABET);
+            }
+
+            Assert.assertThrows(FormatException.class, () -> SAFMappedDFA.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @Test
     public void doNotCloseInputOutputStreamDFATest() throws IOException, FormatException {
 
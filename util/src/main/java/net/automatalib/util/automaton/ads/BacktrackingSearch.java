@@ -15,18 +15,18 @@
  */
 package net.automatalib.util.automaton.ads;
 
-import java.util.BitSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.concept.StateIDs;
@@ -38,7 +38,7 @@ import net.automatalib.graph.ads.ADSNode;
 import net.automatalib.graph.ads.impl.ADSLeafNode;
 import net.automatalib.graph.ads.impl.ADSSymbolNode;
 import net.automatalib.word.Word;
-import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A class containing methods for computing adaptive distinguishing sequences (for arbitrary sets of states) by means of
@@ -99,29 +99,29 @@ public final class BacktrackingSearch {
         final long maximumSplittingWordLength = ADSUtil.computeMaximumSplittingWordLength(automaton.size(),
                                                                                           node.getPartition().size(),
                                                                                           originalPartitionSize);
-        final Queue<Word<I>> splittingWordCandidates = new LinkedList<>();
         final StateIDs<S> stateIds = automaton.stateIDs();
-        final Set<BitSet> cache = new HashSet<>();
+        final Queue<Candidate<I>> splittingWordCandidates = new ArrayDeque<>();
+        final Set<StateSet> cache = new HashSet<>();
+
+        // the initial states of the partition, the images of each candidate are stored in the same order
+        final List<S> initialStates = new ArrayList<>(node.getPartition());
+        final int[] initialIds = new int[initialStates.size()];
+        for (int j = 0; j < initialIds.length; j++) {
+            initialIds[j] = stateIds.getStateId(initialStates.get(j));
+        }
+
+        splittingWordCandidates.add(new Candidate<>(Word.epsilon(), initialIds));
 
-        splittingWordCandidates.add(Word.epsilon());
+        Candidate<I> candidate;
 
         candidateLoop:
-        while (!splittingWordCandidates.isEmpty()) {
-
-            @SuppressWarnings("nullness") // false positive https://github.com/typetools/checker-framework/issues/399
-            final @NonNull Word<I> prefix = splittingWordCandidates.poll();
-            @SuppressWarnings("nullness") // the initial prefix (epsilon) guarantees non-nullness.
-            final Map<S, S> currentToInitialMapping = node.getPartition()
-                                                          .stream()
-                                                          .collect(Collectors.toMap(x -> automaton.getSuccessor(x,
-                                                                                                                prefix),
-                                                                                    Function.identity()));
-            final BitSet currentSetAsBitSet = new BitSet();
-            for (S s : currentToInitialMapping.keySet()) {
-                currentSetAsBitSet.set(stateIds.getStateId(s));
-            }
+        while ((candidate = splittingWordCandidates.poll()) != null) {
+
+            final Word<I> prefix = candidate.prefix;
+            final int[] currentIds = candidate.stateIds;
+            final StateSet currentSet = new StateSet(currentIds);
 
-            if (cache.contains(currentSetAsBitSet)) {
+            if (cache.contains(currentSet)) {
                 continue candidateLoop;
             }
 
@@ -129,9 +129,10 @@ public final class BacktrackingSearch {
             for (I i : input) {
                 // compute successors
                 final Map<O, SplitTree<S, I, O>> successors = new HashMap<>();
+                final int[] nextIds = new int[currentIds.length];
 
-                for (Map.Entry<S, S> entry : currentToInitialMapping.entrySet()) {
-                    final S current = entry.getKey();
+                for (int j = 0; j < currentIds.length; j++) {
+                    final S current = stateIds.getState(currentIds[j]);
                     final T trans = automaton.getTransition(current, i);
 
                     if (trans == null) {
@@ -153,7 +154,8 @@ public final class BacktrackingSearch {
                     if (!child.getPartition().add(nextState)) {
                         continue oneSymbolFuture;
                     }
-                    child.getMapping().put(nextState, node.getMapping().get(entry.getValue()));
+                    child.getMapping().put(nextState, node.getMapping().get(initialStates.get(j)));
+                    nextIds[j] = stateIds.getStateId(nextState);
                 }
 
                 //splitting word
@@ -163,13 +165,9 @@ public final class BacktrackingSearch {
                     for (Map.Entry<O, SplitTree<S, I, O>> entry : successors.entrySet()) {
 
                         final SplitTree<S, I, O> currentNode = entry.getValue();
+                        final StateSet currentNodeSet = new StateSet(currentNode.getPartition(), stateIds);
 
-                        final BitSet currentNodeAsBitSet = new BitSet();
-                        for (S s : currentNode.getPartition()) {
-                            currentNodeAsBitSet.set(stateIds.getStateId(s));
-                        }
-
-                        if (cache.contains(currentNodeAsBitSet)) {
+                        if (cache.contains(currentNodeSet)) {
                             continue oneSymbolFuture;
                         }
 
@@ -181,7 +179,7 @@ public final class BacktrackingSearch {
                         }
 
                         if (!succ.isPresent()) {
-                            cache.add(currentNodeAsBitSet);
+                            cache.add(currentNodeSet);
                             continue oneSymbolFuture;
                         }
 
@@ -190,7 +188,7 @@ public final class BacktrackingSearch {
 
                     // create ADS (if we haven't continued until here)
                     final Pair<ADSNode<S, I, O>, ADSNode<S, I, O>> ads =
-                            ADSUtil.buildFromTrace(automaton, prefix.append(i), node.getPartition().iterator().next());
+                            ADSUtil.buildFromTrace(automaton, prefix.append(i), initialStates.get(0));
                     final ADSNode<S, I, O> head = ads.getFirst();
                     final ADSNode<S, I, O> tail = ads.getSecond();
 
@@ -201,11 +199,11 @@ public final class BacktrackingSearch {
 
                     return Optional.of(head);
                 } else if (prefix.length() < maximumSplittingWordLength) { // no splitting word
-                    splittingWordCandidates.add(prefix.append(i));
+                    splittingWordCandidates.add(new Candidate<>(prefix.append(i), nextIds));
                 }
             }
 
-            cache.add(currentSetAsBitSet);
+            cache.add(currentSet);
         }
 
         return Optional.empty();
@@ -491,4 +489,65 @@ public final class BacktrackingSearch {
 
         private int costs;
     }
+
+    /**
+     * A candidate splitting word together with the (ids of the) states that are reached by it. The reached states are
+     * stored in the order of the initial states, so that extending a candidate by a single symbol only requires a
+     * single transition per state.
+     */
+    private static final class Candidate<I> {
+
+        private final Word<I> prefix;
+        private final int[] stateIds;
+
+        Candidate(Word<I> prefix, int[] stateIds) {
+            this.prefix = prefix;
+            this.stateIds = stateIds;
+        }
+    }
+
+    /**
+     * An immutable set of state ids, represented as a sorted array with a cached hash code.
+     */
+    private static final class StateSet {
+
+        private final int[] ids;
+        private final int hash;
+
+        StateSet(int[] ids) {
+            this.ids = ids.clone();
+            Arrays.sort(this.ids);
+            this.hash = Arrays.hashCode(this.ids);
+        }
+
+        <S> StateSet(Set<S> states, StateIDs<S> stateIds) {
+            this.ids = new int[states.size()];
+
+            int idx = 0;
+            for (S s : states) {
+                this.ids[idx++] = stateIds.getStateId(s);
+            }
+
+            Arrays.sort(this.ids);
+            this.hash = Arrays.hashCode(this.ids);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StateSet)) {
+                return false;
+            }
+
+            final StateSet that = (StateSet) o;
+            return hash == that.hash && Arrays.equals(ids, that.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -15,13 +15,20 @@
  */
 package net.automatalib.util.automaton.ads;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,6 +45,7 @@ import net.automatalib.util.graph.Path;
 import net.automatalib.util.graph.ShortestPaths;
 import net.automatalib.util.graph.traversal.GraphTraversal;
 import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Algorithm of Lee and Yannakakis for computing adaptive distinguishing sequences (of length at most n^2) in O(n^2)
@@ -69,8 +77,47 @@ public final class LeeYannakakis {
      * indistinguishable states.
      */
     public static <S, I, O> LYResult<S, I, O> compute(MealyMachine<S, I, ?, O> automaton, Alphabet<I> input) {
+        return compute(automaton, input, null);
+    }
 
-        final SplitTreeResult<S, I, O> str = computeSplitTree(automaton, input);
+    /**
+     * Computes an ADS using the algorithm of Lee and Yannakakis, where the leaves of each refinement round of the
+     * splitting tree are classified and refined concurrently by a {@link ForkJoinPool}. Since the refinements are
+     * applied in a fixed order, the result is identical to that of {@link #compute(MealyMachine, Alphabet)},
+     * regardless of the number of threads used.
+     *
+     * @param automaton
+     *         The automaton for which an ADS should be computed
+     * @param input
+     *         the input alphabet of the automaton
+     * @param parallelism
+     *         the number of threads to use
+     * @param <S>
+     *         (hypothesis) state type
+     * @param <I>
+     *         input alphabet type
+     * @param <O>
+     *         output alphabet type
+     *
+     * @return A {@link LYResult} containing an adaptive distinguishing sequence (if existent) and a possible set of
+     * indistinguishable states.
+     */
+    public static <S, I, O> LYResult<S, I, O> computeParallel(MealyMachine<S, I, ?, O> automaton,
+                                                              Alphabet<I> input,
+                                                              int parallelism) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return compute(automaton, input, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <S, I, O> LYResult<S, I, O> compute(MealyMachine<S, I, ?, O> automaton,
+                                                       Alphabet<I> input,
+                                                       @Nullable ForkJoinPool pool) {
+
+        final SplitTreeResult<S, I, O> str = computeSplitTree(automaton, input, pool);
 
         if (str.isPresent()) {
             final Set<S> states = new HashSet<>(automaton.getStates());
@@ -81,10 +128,12 @@ public final class LeeYannakakis {
     }
 
     private static <S, I, O> SplitTreeResult<S, I, O> computeSplitTree(MealyMachine<S, I, ?, O> automaton,
-                                                                       Alphabet<I> input) {
+                                                                       Alphabet<I> input,
+                                                                       @Nullable ForkJoinPool pool) {
 
         final SplitTree<S, I, O> st = new SplitTree<>(new HashSet<>(automaton.getStates()));
-        final Set<SplitTree<S, I, O>> leaves = new HashSet<>(HashUtil.capacity(automaton.size()));
+        // use an insertion-ordered set so that the order of refinements (and therefore the ADS) is deterministic
+        final Set<SplitTree<S, I, O>> leaves = new LinkedHashSet<>(HashUtil.capacity(automaton.size()));
         leaves.add(st);
 
         while (leaves.stream().anyMatch(LeeYannakakis::needsRefinement)) {
@@ -93,14 +142,14 @@ public final class LeeYannakakis {
                                              .mapToInt(x -> x.getPartition().size())
                                              .max()
                                              .orElseThrow(IllegalStateException::new);
-            final Set<SplitTree<S, I, O>> r =
-                    leaves.stream().filter(x -> x.getPartition().size() == maxCardinality).collect(Collectors.toSet());
+            final List<SplitTree<S, I, O>> r =
+                    leaves.stream().filter(x -> x.getPartition().size() == maxCardinality).collect(Collectors.toList());
 
-            final Map<Validity, Set<Pair<Word<I>, SplitTree<S, I, O>>>> validitySetMap =
-                    computeValidities(automaton, input, r, leaves);
+            final Map<Validity, List<Pair<Word<I>, SplitTree<S, I, O>>>> validitySetMap =
+                    computeValidities(automaton, input, r, leaves, pool);
 
             if (!validitySetMap.get(Validity.INVALID).isEmpty()) {
-                final Set<Pair<Word<I>, SplitTree<S, I, O>>> set = validitySetMap.get(Validity.INVALID);
+                final List<Pair<Word<I>, SplitTree<S, I, O>>> set = validitySetMap.get(Validity.INVALID);
 
                 final Set<S> indistinguishableStates = new HashSet<>();
 
@@ -111,105 +160,98 @@ public final class LeeYannakakis {
                 return new SplitTreeResult<>(indistinguishableStates);
             }
 
-            // a-valid partitions
-            for (Pair<Word<I>, SplitTree<S, I, O>> aPartition : validitySetMap.get(Validity.A_VALID)) {
+            // The refinements of each validity class are independent of each other and may be computed concurrently.
+            // However, b-valid refinements depend on the a-valid ones and c-valid refinements depend on the a- and
+            // b-valid ones, so the classes are applied one after another.
+            for (Refinement<S, I, O> ref : map(validitySetMap.get(Validity.A_VALID),
+                                               p -> refineAValid(automaton, p.getFirst(), p.getSecond()),
+                                               pool)) {
+                ref.apply(leaves);
+            }
+
+            for (Refinement<S, I, O> ref : map(validitySetMap.get(Validity.B_VALID),
+                                               p -> refineByLowestSubsetNode(automaton,
+                                                                             st,
+                                                                             p.getFirst(),
+                                                                             p.getSecond()),
+                                               pool)) {
+                ref.apply(leaves);
+            }
+
+            for (Refinement<S, I, O> ref : map(validitySetMap.get(Validity.C_VALID),
+                                               p -> refineByLowestSubsetNode(automaton,
+                                                                             st,
+                                                                             p.getFirst(),
+                                                                             p.getSecond()),
+                                               pool)) {
+                ref.apply(leaves);
+            }
+        }
+
+        return new SplitTreeResult<>(st);
+    }
 
-                assert aPartition.getFirst().size() == 1 : "a-valid inputs should always contain exactly 1 symbol";
+    private static <S, I, O> Refinement<S, I, O> refineAValid(MealyMachine<S, I, ?, O> automaton,
+                                                              Word<I> aValidWord,
+                                                              SplitTree<S, I, O> nodeToRefine) {
 
-                final I aValidInput = aPartition.getFirst().firstSymbol();
-                final SplitTree<S, I, O> nodeToRefine = aPartition.getSecond();
-                final Map<O, Set<S>> successorMap = nodeToRefine.getPartition()
-                                                                .stream()
-                                                                .collect(Collectors.groupingBy(s -> automaton.getOutput(
-                                                                        s,
-                                                                        aValidInput), Collectors.toSet()));
+        assert aValidWord.size() == 1 : "a-valid inputs should always contain exactly 1 symbol";
 
-                nodeToRefine.setSequence(Word.fromSymbols(aValidInput));
-                leaves.remove(nodeToRefine);
+        final I aValidInput = aValidWord.firstSymbol();
+        final Map<O, Set<S>> successorMap = nodeToRefine.getPartition()
+                                                        .stream()
+                                                        .collect(Collectors.groupingBy(s -> automaton.getOutput(s,
+                                                                                                                aValidInput),
+                                                                                       Collectors.toSet()));
+        final Map<S, S> mapping = new HashMap<>(HashUtil.capacity(nodeToRefine.getPartition().size()));
 
-                for (Map.Entry<O, Set<S>> entry : successorMap.entrySet()) {
-                    final SplitTree<S, I, O> child = new SplitTree<>(entry.getValue());
-                    nodeToRefine.getSuccessors().put(entry.getKey(), child);
-                    leaves.add(child);
-                }
-                for (S s : nodeToRefine.getPartition()) {
-                    nodeToRefine.getMapping().put(s, automaton.getSuccessor(s, aValidInput));
-                }
-            }
+        for (S s : nodeToRefine.getPartition()) {
+            mapping.put(s, automaton.getSuccessor(s, aValidInput));
+        }
 
-            // b-valid partitions
-            for (Pair<Word<I>, SplitTree<S, I, O>> bPartition : validitySetMap.get(Validity.B_VALID)) {
+        return new Refinement<>(nodeToRefine, Word.fromSymbols(aValidInput), successorMap, mapping);
+    }
 
-                assert bPartition.getFirst().size() == 1 : "b-valid inputs should always contain exactly 1 symbol";
+    /*
+     * Computes the refinement for b-valid (validInput is a single symbol) and c-valid (validInput is a word leading
+     * to an a- or b-valid partition) nodes.
+     */
+    private static <S, I, O> Refinement<S, I, O> refineByLowestSubsetNode(MealyMachine<S, I, ?, O> automaton,
+                                                                          SplitTree<S, I, O> st,
+                                                                          Word<I> validInput,
+                                                                          SplitTree<S, I, O> nodeToRefine) {
 
-                final I bValidInput = bPartition.getFirst().firstSymbol();
-                final SplitTree<S, I, O> nodeToRefine = bPartition.getSecond();
-                final Map<S, S> successorsToNodes = nodeToRefine.getPartition()
-                                                                .stream()
-                                                                .collect(Collectors.toMap(x -> automaton.getSuccessor(x,
-                                                                                                                      bValidInput),
-                                                                                          Function.identity()));
-                final SplitTree<S, I, O> v =
-                        st.findLowestSubsetNode(successorsToNodes.keySet()).orElseThrow(IllegalStateException::new);
+        assert validInput.size() >= 1 : "valid inputs should contain at least 1 symbol";
 
-                nodeToRefine.setSequence(v.getSequence().prepend(bValidInput));
-                leaves.remove(nodeToRefine);
+        final Map<S, S> successorsToNodes = nodeToRefine.getPartition()
+                                                        .stream()
+                                                        .collect(Collectors.toMap(x -> automaton.getSuccessor(x,
+                                                                                                              validInput),
+                                                                                  Function.identity()));
+        final SplitTree<S, I, O> v =
+                st.findLowestSubsetNode(successorsToNodes.keySet()).orElseThrow(IllegalStateException::new);
 
-                for (Map.Entry<O, SplitTree<S, I, O>> entry : v.getSuccessors().entrySet()) {
+        final Map<O, Set<S>> children = new LinkedHashMap<>();
 
-                    final Set<S> wSet = entry.getValue().getPartition();
-                    final Set<S> intersection = new HashSet<>(successorsToNodes.keySet());
-                    intersection.retainAll(wSet);
+        for (Map.Entry<O, SplitTree<S, I, O>> entry : v.getSuccessors().entrySet()) {
 
-                    if (!intersection.isEmpty()) {
-                        final Set<S> indistinguishableNodes =
-                                intersection.stream().map(successorsToNodes::get).collect(Collectors.toSet());
-                        final SplitTree<S, I, O> newChild = new SplitTree<>(indistinguishableNodes);
-                        nodeToRefine.getSuccessors().put(entry.getKey(), newChild);
-                        leaves.add(newChild);
-                    }
-                }
-                for (S s : nodeToRefine.getPartition()) {
-                    nodeToRefine.getMapping().put(s, v.getMapping().get(automaton.getSuccessor(s, bValidInput)));
-                }
-            }
+            final Set<S> wSet = entry.getValue().getPartition();
+            final Set<S> intersection = new HashSet<>(successorsToNodes.keySet());
+            intersection.retainAll(wSet);
 
-            // c-valid partitions
-            for (Pair<Word<I>, SplitTree<S, I, O>> cPartition : validitySetMap.get(Validity.C_VALID)) {
-                final Word<I> cValidInput = cPartition.getFirst();
-                final SplitTree<S, I, O> nodeToRefine = cPartition.getSecond();
-                final Map<S, S> successorsToNodes = nodeToRefine.getPartition()
-                                                                .stream()
-                                                                .collect(Collectors.toMap(x -> automaton.getSuccessor(x,
-                                                                                                                      cValidInput),
-                                                                                          Function.identity()));
-                final SplitTree<S, I, O> c =
-                        st.findLowestSubsetNode(successorsToNodes.keySet()).orElseThrow(IllegalStateException::new);
-
-                nodeToRefine.setSequence(cValidInput.concat(c.getSequence()));
-                leaves.remove(nodeToRefine);
-
-                for (Map.Entry<O, SplitTree<S, I, O>> entry : c.getSuccessors().entrySet()) {
-
-                    final Set<S> wSet = entry.getValue().getPartition();
-                    final Set<S> intersection = new HashSet<>(successorsToNodes.keySet());
-                    intersection.retainAll(wSet);
-
-                    if (!intersection.isEmpty()) {
-                        final Set<S> indistinguishableNodes =
-                                intersection.stream().map(successorsToNodes::get).collect(Collectors.toSet());
-                        final SplitTree<S, I, O> newChild = new SplitTree<>(indistinguishableNodes);
-                        nodeToRefine.getSuccessors().put(entry.getKey(), newChild);
-                        leaves.add(newChild);
-                    }
-                }
-                for (S s : nodeToRefine.getPartition()) {
-                    nodeToRefine.getMapping().put(s, c.getMapping().get(automaton.getSuccessor(s, cValidInput)));
-                }
+            if (!intersection.isEmpty()) {
+                final Set<S> indistinguishableNodes =
+                        intersection.stream().map(successorsToNodes::get).collect(Collectors.toSet());
+                children.put(entry.getKey(), indistinguishableNodes);
             }
         }
 
-        return new SplitTreeResult<>(st);
+        final Map<S, S> mapping = new HashMap<>(HashUtil.capacity(nodeToRefine.getPartition().size()));
+        for (S s : nodeToRefine.getPartition()) {
+            mapping.put(s, v.getMapping().get(automaton.getSuccessor(s, validInput)));
+        }
+
+        return new Refinement<>(nodeToRefine, validInput.concat(v.getSequence()), children, mapping);
     }
 
     private static <S, I, O> ADSNode<S, I, O> extractADS(MealyMachine<S, I, ?, O> automaton,
@@ -281,12 +323,13 @@ public final class LeeYannakakis {
         return true;
     }
 
-    private static <S, I, O> Map<Validity, Set<Pair<Word<I>, SplitTree<S, I, O>>>> computeValidities(MealyMachine<S, I, ?, O> automaton,
-                                                                                                     Alphabet<I> inputs,
-                                                                                                     Set<SplitTree<S, I, O>> r,
-                                                                                                     Set<SplitTree<S, I, O>> pi) {
+    private static <S, I, O> Map<Validity, List<Pair<Word<I>, SplitTree<S, I, O>>>> computeValidities(MealyMachine<S, I, ?, O> automaton,
+                                                                                                      Alphabet<I> inputs,
+                                                                                                      List<SplitTree<S, I, O>> r,
+                                                                                                      Set<SplitTree<S, I, O>> pi,
+                                                                                                      @Nullable ForkJoinPool pool) {
 
-        final Map<Validity, Set<Pair<Word<I>, SplitTree<S, I, O>>>> result = new EnumMap<>(Validity.class);
+        final Map<Validity, List<Pair<Word<I>, SplitTree<S, I, O>>>> result = new EnumMap<>(Validity.class);
         final Map<S, Integer> stateToPartitionMap = new HashMap<>();
         final Map<SplitTree<S, I, O>, Integer> nodeToPartitionMap = new HashMap<>(HashUtil.capacity(pi.size()));
 
@@ -300,10 +343,10 @@ public final class LeeYannakakis {
         }
 
         for (Validity v : Validity.values()) {
-            result.put(v, new HashSet<>());
+            result.put(v, new ArrayList<>());
         }
 
-        final Set<SplitTree<S, I, O>> pendingCs = new HashSet<>();
+        final List<SplitTree<S, I, O>> pendingCs = new ArrayList<>();
         final Map<Integer, Validity> partitionToClassificationMap = new HashMap<>();
 
         final CompactSimpleGraph<I> implicationGraph = new CompactSimpleGraph<>(nodeToPartitionMap.size());
@@ -312,110 +355,240 @@ public final class LeeYannakakis {
             implicationGraph.addIntNode();
         }
 
-        partitionLoop:
-        for (SplitTree<S, I, O> b : r) {
+        final List<Classification<I>> classifications =
+                map(r, b -> classify(automaton, inputs, stateToPartitionMap, b), pool);
+
+        for (int idx = 0; idx < r.size(); idx++) {
+            final SplitTree<S, I, O> b = r.get(idx);
+            final Classification<I> classification = classifications.get(idx);
+            final Integer partition = nodeToPartitionMap.get(b);
+
+            switch (classification.validity) {
+                case A_VALID:
+                case B_VALID:
+                    result.get(classification.validity).add(Pair.of(Word.fromSymbols(classification.input), b));
+                    partitionToClassificationMap.put(partition, classification.validity);
+                    break;
+                case C_VALID:
+                    // we defer evaluation to later point in time, because we need to check if the target partitions
+                    // are a- or b-valid
+                    for (Pair<Integer, I> edge : classification.implications) {
+                        implicationGraph.connect(partition, edge.getFirst(), edge.getSecond());
+                    }
+                    pendingCs.add(b);
+                    break;
+                default:
+                    //if we haven't continued the loop up until here, there is no valid input
+                    result.get(Validity.INVALID).add(Pair.of(null, b));
+            }
+        }
 
-            // general validity
-            final Map<I, Boolean> validInputMap = new HashMap<>(HashUtil.capacity(inputs.size()));
-            for (I i : inputs) {
-                validInputMap.put(i, isValidInput(automaton, i, b.getPartition()));
+        //check remaining potential Cs
+        final List<@Nullable Word<I>> cWords = map(pendingCs,
+                                                   c -> findCValidWord(implicationGraph,
+                                                                       partitionToClassificationMap,
+                                                                       nodeToPartitionMap.get(c)),
+                                                   pool);
+
+        for (int idx = 0; idx < pendingCs.size(); idx++) {
+            final Word<I> word = cWords.get(idx);
+            final SplitTree<S, I, O> pendingC = pendingCs.get(idx);
+
+            if (word == null) {
+                result.get(Validity.INVALID).add(Pair.of(null, pendingC));
+            } else {
+                result.get(Validity.C_VALID).add(Pair.of(word, pendingC));
             }
+        }
 
-            // a valid
-            for (I i : inputs) {
+        return result;
+    }
 
-                if (!validInputMap.get(i)) {
-                    continue;
-                }
+    private static <S, I, O> Classification<I> classify(MealyMachine<S, I, ?, O> automaton,
+                                                        Alphabet<I> inputs,
+                                                        Map<S, Integer> stateToPartitionMap,
+                                                        SplitTree<S, I, O> b) {
 
-                final Set<O> outputs =
-                        b.getPartition().stream().map(s -> automaton.getOutput(s, i)).collect(Collectors.toSet());
+        // general validity
+        final Map<I, Boolean> validInputMap = new HashMap<>(HashUtil.capacity(inputs.size()));
+        for (I i : inputs) {
+            validInputMap.put(i, isValidInput(automaton, i, b.getPartition()));
+        }
 
-                if (outputs.size() > 1) {
-                    result.get(Validity.A_VALID).add(Pair.of(Word.fromSymbols(i), b));
-                    partitionToClassificationMap.put(stateToPartitionMap.get(b.getPartition().iterator().next()),
-                                                     Validity.A_VALID);
-                    continue partitionLoop;
-                }
+        // a valid
+        for (I i : inputs) {
+
+            if (!validInputMap.get(i)) {
+                continue;
             }
 
-            // b valid
-            for (I i : inputs) {
+            final Set<O> outputs =
+                    b.getPartition().stream().map(s -> automaton.getOutput(s, i)).collect(Collectors.toSet());
 
-                if (!validInputMap.get(i)) {
-                    continue;
-                }
+            if (outputs.size() > 1) {
+                return new Classification<>(Validity.A_VALID, i, Collections.emptyList());
+            }
+        }
 
-                final Set<Integer> successors = b.getPartition()
-                                                 .stream()
-                                                 .map(s -> stateToPartitionMap.get(automaton.getSuccessor(s, i)))
-                                                 .collect(Collectors.toSet());
+        // b valid
+        for (I i : inputs) {
 
-                if (successors.size() > 1) {
-                    result.get(Validity.B_VALID).add(Pair.of(Word.fromSymbols(i), b));
-                    partitionToClassificationMap.put(stateToPartitionMap.get(b.getPartition().iterator().next()),
-                                                     Validity.B_VALID);
-                    continue partitionLoop;
-                }
+            if (!validInputMap.get(i)) {
+                continue;
             }
 
-            // c valid
-            // we defer evaluation to later point in time, because we need to check if the target partitions are a- or b-valid
-            for (I i : inputs) {
+            final Set<Integer> successors = b.getPartition()
+                                             .stream()
+                                             .map(s -> stateToPartitionMap.get(automaton.getSuccessor(s, i)))
+                                             .collect(Collectors.toSet());
 
-                if (!validInputMap.get(i)) {
-                    continue;
-                }
+            if (successors.size() > 1) {
+                return new Classification<>(Validity.B_VALID, i, Collections.emptyList());
+            }
+        }
 
-                final S nodeInPartition = b.getPartition().iterator().next();
-                final S successor = automaton.getSuccessor(nodeInPartition, i);
+        // c valid (potentially)
+        final List<Pair<Integer, I>> implications = new ArrayList<>();
+        for (I i : inputs) {
 
-                final Integer partition = stateToPartitionMap.get(nodeInPartition);
-                final Integer successorPartition = stateToPartitionMap.get(successor);
+            if (!validInputMap.get(i)) {
+                continue;
+            }
 
-                if (!partition.equals(successorPartition)) {
-                    implicationGraph.connect(partition, successorPartition, i);
-                    pendingCs.add(b);
-                }
+            final S nodeInPartition = b.getPartition().iterator().next();
+            final S successor = automaton.getSuccessor(nodeInPartition, i);
+
+            final Integer partition = stateToPartitionMap.get(nodeInPartition);
+            final Integer successorPartition = stateToPartitionMap.get(successor);
+
+            if (!partition.equals(successorPartition)) {
+                implications.add(Pair.of(successorPartition, i));
             }
+        }
 
-            if (pendingCs.contains(b)) {
-                continue partitionLoop;
+        if (!implications.isEmpty()) {
+            return new Classification<>(Validity.C_VALID, null, implications);
+        }
+
+        return new Classification<>(Validity.INVALID, null, Collections.emptyList());
+    }
+
+    private static <I> @Nullable Word<I> findCValidWord(CompactSimpleGraph<I> implicationGraph,
+                                                        Map<Integer, Validity> partitionToClassificationMap,
+                                                        Integer pendingPartition) {
+
+        final Iterator<Integer> iter =
+                GraphTraversal.breadthFirstIterator(implicationGraph, Collections.singleton(pendingPartition));
+
+        while (iter.hasNext()) {
+
+            final Integer successor = iter.next();
+            final Validity successorValidity = partitionToClassificationMap.get(successor);
+            if (successorValidity == Validity.A_VALID || successorValidity == Validity.B_VALID) {
+                final Path<Integer, CompactEdge<I>> path = ShortestPaths.shortestPath(implicationGraph,
+                                                                                      pendingPartition,
+                                                                                      implicationGraph.size(),
+                                                                                      successor);
+                assert path != null; // by construction should never be null
+                return path.stream().map(CompactEdge::getProperty).collect(Word.collector());
             }
+        }
 
-            //if we haven't continued the loop up until here, there is no valid input
-            result.get(Validity.INVALID).add(Pair.of(null, b));
+        return null;
+    }
+
+    /*
+     * Applies the given function to all items, either sequentially (if no pool is given) or concurrently. The results
+     * are returned in the order of the items.
+     */
+    private static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> function,
+                                      @Nullable ForkJoinPool pool) {
+        final int size = items.size();
+
+        if (pool == null || size <= 1) {
+            final List<R> result = new ArrayList<>(size);
+            for (T item : items) {
+                result.add(function.apply(item));
+            }
+            return result;
         }
 
-        //check remaining potential Cs
-        pendingCLoop:
-        for (SplitTree<S, I, O> pendingC : pendingCs) {
-
-            final Integer pendingPartition = nodeToPartitionMap.get(pendingC);
-            final Iterator<Integer> iter =
-                    GraphTraversal.breadthFirstIterator(implicationGraph, Collections.singleton(pendingPartition));
-
-            while (iter.hasNext()) {
-
-                final Integer successor = iter.next();
-                final Validity successorValidity = partitionToClassificationMap.get(successor);
-                if (successorValidity == Validity.A_VALID || successorValidity == Validity.B_VALID) {
-                    final Path<Integer, CompactEdge<I>> path = ShortestPaths.shortestPath(implicationGraph,
-                                                                                          pendingPartition,
-                                                                                          implicationGraph.size(),
-                                                                                          successor);
-                    assert path != null; // by construction should never be null
-                    final Word<I> word = path.stream().map(CompactEdge::getProperty).collect(Word.collector());
-
-                    result.get(Validity.C_VALID).add(Pair.of(word, pendingC));
-                    continue pendingCLoop;
-                }
+        @SuppressWarnings("unchecked")
+        final R[] result = (R[]) new Object[size];
+        pool.invoke(new MapTask<>(items, function, result, 0, size));
+        return Arrays.asList(result);
+    }
+
+    private static final class Refinement<S, I, O> {
+
+        private final SplitTree<S, I, O> node;
+        private final Word<I> sequence;
+        private final Map<O, Set<S>> children;
+        private final Map<S, S> mapping;
+
+        Refinement(SplitTree<S, I, O> node, Word<I> sequence, Map<O, Set<S>> children, Map<S, S> mapping) {
+            this.node = node;
+            this.sequence = sequence;
+            this.children = children;
+            this.mapping = mapping;
+        }
+
+        void apply(Set<SplitTree<S, I, O>> leaves) {
+            node.setSequence(sequence);
+            leaves.remove(node);
+
+            for (Map.Entry<O, Set<S>> entry : children.entrySet()) {
+                final SplitTree<S, I, O> child = new SplitTree<>(entry.getValue());
+                node.getSuccessors().put(entry.getKey(), child);
+                leaves.add(child);
             }
 
-            result.get(Validity.INVALID).add(Pair.of(null, pendingC));
+            node.getMapping().putAll(mapping);
+        }
+    }
+
+    private static final class Classification<I> {
+
+        private final Validity validity;
+        private final @Nullable I input;
+        private final List<Pair<Integer, I>> implications;
+
+        Classification(Validity validity, @Nullable I input, List<Pair<Integer, I>> implications) {
+            this.validity = validity;
+            this.input = input;
+            this.implications = implications;
         }
+    }
 
-        return result;
+    private static final class MapTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final Function<? super T, ? extends R> function;
+        private final R[] result;
+        private final int low;
+        private final int high;
+
+        MapTask(List<T> items, Function<? super T, ? extends R> function, R[] result, int low, int high) {
+            this.items = items;
+            this.function = function;
+            this.result = result;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            // the items (nodes of the splitting tree) are coarse-grained, so split down to single items
+            if (high - low > 1) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new MapTask<>(items, function, result, low, mid),
+                          new MapTask<>(items, function, result, mid, high));
+            } else {
+                result[low] = function.apply(items.get(low));
+            }
+        }
     }
 
     private enum Validity {
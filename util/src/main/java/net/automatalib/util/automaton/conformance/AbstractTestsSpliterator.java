@@ -0,0 +1,270 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.conformance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Abstract base class for {@link Spliterator}s over test suites of the form <i>prefixes * middle parts * suffixes</i>,
+ * where the middle parts are all words over the given inputs up to a certain length and the suffixes may depend on the
+ * respective prefix and middle part.
+ * <p>
+ * The test suite is organized in groups of tests that share the same prefix and middle part. Groups are identified by
+ * consecutive (long) indices (with the middle part varying fastest) and are never divided upon splitting. Hence,
+ * splitting partitions the test suite by prefixes or, if only few prefixes remain, by middle parts.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+abstract class AbstractTestsSpliterator<I> implements Spliterator<Word<I>> {
+
+    private final List<I> inputs;
+    private final long[] offsets;
+    private final long numMiddleParts;
+    private final long suffixesPerGroup;
+    private final boolean exact;
+    private final boolean ordered;
+
+    private long group;
+    private long fence;
+
+    // the current group, whose suffixes have been consumed up to suffixIdx
+    private Word<I> prefix = Word.epsilon();
+    private Word<I> middle = Word.epsilon();
+    private List<Word<I>> suffixes = Collections.emptyList();
+    private int suffixIdx;
+
+    /**
+     * Constructor.
+     *
+     * @param inputs
+     *         the input symbols from which the middle parts are constructed
+     * @param maxDepth
+     *         the maximum length of the middle parts
+     * @param numPrefixes
+     *         the number of (distinct indices of) prefixes
+     * @param suffixesPerGroup
+     *         the (estimated) number of suffixes for each group
+     * @param exact
+     *         whether {@code suffixesPerGroup} is the exact number of suffixes for each group
+     * @param ordered
+     *         whether the spliterator should report an encounter order
+     */
+    AbstractTestsSpliterator(Collection<? extends I> inputs,
+                             int maxDepth,
+                             int numPrefixes,
+                             long suffixesPerGroup,
+                             boolean exact,
+                             boolean ordered) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("The maximum depth must not be negative");
+        }
+
+        this.inputs = new ArrayList<>(inputs);
+        this.offsets = new long[maxDepth + 2];
+
+        long numTuples = 1;
+        for (int i = 0; i <= maxDepth; i++) {
+            offsets[i + 1] = offsets[i] + numTuples;
+            numTuples *= this.inputs.size();
+        }
+
+        this.numMiddleParts = offsets[maxDepth + 1];
+        this.suffixesPerGroup = suffixesPerGroup;
+        this.exact = exact;
+        this.ordered = ordered;
+        this.group = 0;
+        this.fence = numPrefixes * numMiddleParts;
+    }
+
+    /**
+     * Copy-constructor for splits, which share all immutable data with the given spliterator.
+     *
+     * @param other
+     *         the spliterator to split from
+     * @param origin
+     *         the (inclusive) index of the first group of the split
+     * @param fence
+     *         the (exclusive) index of the last group of the split
+     */
+    AbstractTestsSpliterator(AbstractTestsSpliterator<I> other, long origin, long fence) {
+        this.inputs = other.inputs;
+        this.offsets = other.offsets;
+        this.numMiddleParts = other.numMiddleParts;
+        this.suffixesPerGroup = other.suffixesPerGroup;
+        this.exact = other.exact;
+        this.ordered = other.ordered;
+        this.group = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Creates a new spliterator that covers the groups in the range {@code [origin, fence)}.
+     *
+     * @param origin
+     *         the (inclusive) index of the first group of the split
+     * @param fence
+     *         the (exclusive) index of the last group of the split
+     *
+     * @return the new spliterator
+     */
+    protected abstract AbstractTestsSpliterator<I> split(long origin, long fence);
+
+    /**
+     * Returns the prefix with the given index.
+     *
+     * @param prefixIdx
+     *         the index of the prefix
+     *
+     * @return the prefix
+     */
+    protected abstract Word<I> getPrefix(int prefixIdx);
+
+    /**
+     * Returns the suffixes that should be appended to the given prefix and middle part.
+     *
+     * @param prefixIdx
+     *         the index of the prefix
+     * @param prefix
+     *         the prefix
+     * @param middle
+     *         the middle part
+     *
+     * @return the suffixes
+     */
+    protected abstract List<Word<I>> getSuffixes(int prefixIdx, Word<I> prefix, Word<I> middle);
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Word<I>> action) {
+        while (suffixIdx >= suffixes.size()) {
+            if (group >= fence) {
+                return false;
+            }
+            loadGroup(group++);
+        }
+
+        action.accept(combine(prefix, middle, suffixes.get(suffixIdx++)));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Word<I>> action) {
+        for (int i = suffixIdx; i < suffixes.size(); i++) {
+            action.accept(combine(prefix, middle, suffixes.get(i)));
+        }
+        suffixIdx = suffixes.size();
+
+        while (group < fence) {
+            loadGroup(group++);
+            for (Word<I> suffix : suffixes) {
+                action.accept(combine(prefix, middle, suffix));
+            }
+            suffixIdx = suffixes.size();
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<Word<I>> trySplit() {
+        final long lo = group;
+        final long mid = (lo + fence) >>> 1;
+
+        if (mid <= lo) {
+            return null;
+        }
+
+        final AbstractTestsSpliterator<I> result = split(lo, mid);
+
+        // the returned spliterator has to cover a prefix of the encounter order, so hand over the current group as well
+        result.prefix = this.prefix;
+        result.middle = this.middle;
+        result.suffixes = this.suffixes;
+        result.suffixIdx = this.suffixIdx;
+
+        this.prefix = Word.epsilon();
+        this.middle = Word.epsilon();
+        this.suffixes = Collections.emptyList();
+        this.suffixIdx = 0;
+        this.group = mid;
+
+        return result;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (fence - group) * suffixesPerGroup + suffixes.size() - suffixIdx;
+    }
+
+    @Override
+    public int characteristics() {
+        int result = NONNULL | IMMUTABLE;
+
+        if (exact) {
+            result |= SIZED | SUBSIZED;
+        }
+        if (ordered) {
+            result |= ORDERED;
+        }
+
+        return result;
+    }
+
+    private void loadGroup(long groupIdx) {
+        final int prefixIdx = (int) (groupIdx / numMiddleParts);
+        final Word<I> p = getPrefix(prefixIdx);
+        final Word<I> m = getMiddlePart(groupIdx % numMiddleParts);
+
+        this.prefix = p;
+        this.middle = m;
+        this.suffixes = getSuffixes(prefixIdx, p, m);
+        this.suffixIdx = 0;
+    }
+
+    /*
+     * Decodes the middle part with the given index. The order of middle parts coincides with the one of
+     * IterableUtil#allTuples, i.e., shorter tuples come first and the first symbol varies fastest.
+     */
+    private Word<I> getMiddlePart(long middleIdx) {
+        int length = 0;
+        while (offsets[length + 1] <= middleIdx) {
+            length++;
+        }
+
+        final WordBuilder<I> wb = new WordBuilder<>(length);
+        final int numInputs = inputs.size();
+        long remainder = middleIdx - offsets[length];
+
+        for (int i = 0; i < length; i++) {
+            wb.append(inputs.get((int) (remainder % numInputs)));
+            remainder /= numInputs;
+        }
+
+        return wb.toWord();
+    }
+
+    private static <I> Word<I> combine(Word<I> prefix, Word<I> middle, Word<I> suffix) {
+        final WordBuilder<I> wb = new WordBuilder<>(prefix.size() + middle.size() + suffix.size());
+        return wb.append(prefix).append(middle).append(suffix).toWord();
+    }
+}
@@ -0,0 +1,132 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.conformance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.word.Word;
+
+/**
+ * A {@link Spliterator} that returns the test words generated by the W method. Contrary to the
+ * {@link WMethodTestsIterator}, this spliterator can be split (by prefixes or middle parts) which allows for generating
+ * (and consuming) the test words in parallel, e.g., via {@link java.util.stream.StreamSupport#stream(Spliterator,
+ * boolean) parallel streams}.
+ * <p>
+ * If constructed in ordered mode, the spliterator reports an encounter order which coincides with the order of the
+ * {@link WMethodTestsIterator}. In particular, ordered terminal operations (such as collecting the test words in a list)
+ * yield the same results, regardless of how the test suite has been split.
+ * <p>
+ * See "Testing software design modeled by finite-state machines" by Tsun S. Chow.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class WMethodTestsSpliterator<I> extends AbstractTestsSpliterator<I> {
+
+    private final List<Word<I>> prefixes;
+    private final List<Word<I>> suffixes;
+
+    /**
+     * Convenience-constructor for
+     * {@link #WMethodTestsSpliterator(UniversalDeterministicAutomaton, Collection, int, boolean)} that selects
+     * {@code 0} as {@code maxDepth} and constructs an ordered spliterator.
+     *
+     * @param automaton
+     *         the automaton for which the testing sequences should be generated
+     * @param inputs
+     *         the input symbols that should be considered for test sequence generation
+     */
+    public WMethodTestsSpliterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                   Collection<? extends I> inputs) {
+        this(automaton, inputs, 0, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param automaton
+     *         the automaton for which the testing sequences should be generated
+     * @param inputs
+     *         the input symbols that should be considered for test sequence generation
+     * @param maxDepth
+     *         the maximum number of symbols that are appended to the transition-cover part of the test sequences
+     * @param ordered
+     *         whether the spliterator should report an (deterministic) encounter order
+     */
+    public WMethodTestsSpliterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                   Collection<? extends I> inputs,
+                                   int maxDepth,
+                                   boolean ordered) {
+        this(computePrefixes(automaton, inputs), computeSuffixes(automaton, inputs), inputs, maxDepth, ordered);
+    }
+
+    private WMethodTestsSpliterator(List<Word<I>> prefixes,
+                                    List<Word<I>> suffixes,
+                                    Collection<? extends I> inputs,
+                                    int maxDepth,
+                                    boolean ordered) {
+        super(inputs, maxDepth, prefixes.size(), suffixes.size(), true, ordered);
+        this.prefixes = prefixes;
+        this.suffixes = suffixes;
+    }
+
+    private WMethodTestsSpliterator(WMethodTestsSpliterator<I> other, long origin, long fence) {
+        super(other, origin, fence);
+        this.prefixes = other.prefixes;
+        this.suffixes = other.suffixes;
+    }
+
+    private static <I> List<Word<I>> computePrefixes(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                                     Collection<? extends I> inputs) {
+        final List<Word<I>> result = new ArrayList<>();
+        result.add(Word.epsilon());
+        Covers.transitionCoverIterator(automaton, inputs).forEachRemaining(result::add);
+        return result;
+    }
+
+    private static <I> List<Word<I>> computeSuffixes(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                                     Collection<? extends I> inputs) {
+        final List<Word<I>> result =
+                IteratorUtil.list(CharacterizingSets.characterizingSetIterator(automaton, inputs));
+
+        // Special case: List of characterizing suffixes may be empty,
+        // but in this case we still need to iterate over the prefixes!
+        return result.isEmpty() ? Collections.singletonList(Word.epsilon()) : result;
+    }
+
+    @Override
+    protected AbstractTestsSpliterator<I> split(long origin, long fence) {
+        return new WMethodTestsSpliterator<>(this, origin, fence);
+    }
+
+    @Override
+    protected Word<I> getPrefix(int prefixIdx) {
+        return prefixes.get(prefixIdx);
+    }
+
+    @Override
+    protected List<Word<I>> getSuffixes(int prefixIdx, Word<I> prefix, Word<I> middle) {
+        return suffixes;
+    }
+}
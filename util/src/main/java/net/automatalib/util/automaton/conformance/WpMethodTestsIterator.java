@@ -28,9 +28,9 @@ import net.automatalib.common.util.collection.AbstractThreeLevelIterator;
 import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.common.util.mapping.MutableMapping;
-import net.automatalib.util.automaton.Automata;
 import net.automatalib.util.automaton.cover.Covers;
 import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.util.automaton.equivalence.SplittingTree;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -75,13 +75,20 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
     public WpMethodTestsIterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
                                  Collection<? extends I> inputs,
                                  int maxDepth) {
+        this.wpIterator = createIterator(automaton, inputs, maxDepth);
+    }
+
+    private static <S, I> Iterator<Word<I>> createIterator(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
+                                                           Collection<? extends I> inputs,
+                                                           int maxDepth) {
 
         final Set<Word<I>> stateCover = new HashSet<>(HashUtil.capacity(automaton.size()));
         final Set<Word<I>> transitionCover = new HashSet<>(HashUtil.capacity(automaton.size() * inputs.size()));
 
         Covers.cover(automaton, inputs, stateCover, transitionCover);
 
-        Iterator<Word<I>> characterizingIter = CharacterizingSets.characterizingSetIterator(automaton, inputs);
+        final SplittingTree<S, I> splittingTree = CharacterizingSets.splittingTree(automaton, inputs);
+        Iterator<Word<I>> characterizingIter = splittingTree.getCharacterizingSet().iterator();
 
         // Special case: List of characterizing suffixes may be empty,
         // but in this case we still need to iterate over the prefixes!
@@ -97,13 +104,13 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
         // Phase 2: transitions (not in state cover) * middle part * local suffixes
         transitionCover.removeAll(stateCover);
         final Iterator<Word<I>> secondIterator = new SecondPhaseIterator<>(automaton,
-                                                                           inputs,
+                                                                           splittingTree,
                                                                            transitionCover,
                                                                            IterableUtil.allTuples(inputs,
                                                                                                   0,
                                                                                                   maxDepth));
 
-        wpIterator = IteratorUtil.concat(firstIterator, secondIterator);
+        return IteratorUtil.concat(firstIterator, secondIterator);
     }
 
     @Override
@@ -149,19 +156,19 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
             extends AbstractThreeLevelIterator<Word<I>, List<I>, Word<I>, Word<I>> {
 
         private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton;
-        private final Collection<? extends I> inputs;
+        private final SplittingTree<S, I> splittingTree;
 
         private final MutableMapping<S, @Nullable List<Word<I>>> localSuffixSets;
         private final Iterable<List<I>> middleParts;
 
         SecondPhaseIterator(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
-                            Collection<? extends I> inputs,
+                            SplittingTree<S, I> splittingTree,
                             Iterable<Word<I>> prefixes,
                             Iterable<List<I>> middleParts) {
             super(prefixes.iterator());
 
             this.automaton = automaton;
-            this.inputs = inputs;
+            this.splittingTree = splittingTree;
             this.localSuffixSets = automaton.createStaticStateMapping();
             this.middleParts = middleParts;
         }
@@ -182,7 +189,7 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
             @Nullable List<Word<I>> localSuffixes = localSuffixSets.get(state);
 
             if (localSuffixes == null) {
-                localSuffixes = Automata.stateCharacterizingSet(automaton, inputs, state);
+                localSuffixes = splittingTree.getStateCharacterizingSet(state);
                 if (localSuffixes.isEmpty()) {
                     localSuffixes = Collections.singletonList(Word.epsilon());
                 }
@@ -0,0 +1,203 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.conformance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.util.automaton.equivalence.SplittingTree;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A {@link Spliterator} that returns the test words generated by the partial W method. Contrary to the
+ * {@link WpMethodTestsIterator}, this spliterator can be split (by prefixes or middle parts) which allows for
+ * generating (and consuming) the test words in parallel, e.g., via
+ * {@link java.util.stream.StreamSupport#stream(Spliterator, boolean) parallel streams}. The (state-)local
+ * characterizing sets of the second phase are computed lazily and shared between all splits.
+ * <p>
+ * If constructed in ordered mode, the spliterator reports a deterministic encounter order: first, all tests of the
+ * state cover (in the order of {@link Covers#cover(net.automatalib.automaton.DeterministicAutomaton, Collection,
+ * Collection, Collection)}), middle parts, and global suffixes, then all tests of the remaining transition cover,
+ * middle parts, and local suffixes. In particular, ordered terminal operations (such as collecting the test words in a
+ * list) yield the same results, regardless of how the test suite has been split. Note that this order may differ from
+ * the one of the {@link WpMethodTestsIterator}.
+ * <p>
+ * See "Test selection based on finite state models" by S. Fujiwara et al.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class WpMethodTestsSpliterator<I> extends AbstractTestsSpliterator<I> {
+
+    private final List<Word<I>> stateCover;
+    private final List<Word<I>> transitionCover;
+    private final List<Word<I>> globalSuffixes;
+    private final LocalSuffixes<?, I> localSuffixes;
+
+    /**
+     * Convenience-constructor for
+     * {@link #WpMethodTestsSpliterator(UniversalDeterministicAutomaton, Collection, int, boolean)} that selects
+     * {@code 0} as {@code maxDepth} and constructs an ordered spliterator.
+     *
+     * @param automaton
+     *         the automaton for which the testing sequences should be generated
+     * @param inputs
+     *         the input symbols that should be considered for test sequence generation
+     */
+    public WpMethodTestsSpliterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                    Collection<? extends I> inputs) {
+        this(automaton, inputs, 0, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param automaton
+     *         the automaton for which the testing sequences should be generated
+     * @param inputs
+     *         the input symbols that should be considered for test sequence generation
+     * @param maxDepth
+     *         the maximum number of symbols that are appended to the transition-cover part of the test sequences
+     * @param ordered
+     *         whether the spliterator should report an (deterministic) encounter order
+     */
+    public WpMethodTestsSpliterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                    Collection<? extends I> inputs,
+                                    int maxDepth,
+                                    boolean ordered) {
+        this(new TestCovers<>(automaton, inputs), new LocalSuffixes<>(automaton, inputs), inputs, maxDepth, ordered);
+    }
+
+    private WpMethodTestsSpliterator(TestCovers<I> covers,
+                                     LocalSuffixes<?, I> localSuffixes,
+                                     Collection<? extends I> inputs,
+                                     int maxDepth,
+                                     boolean ordered) {
+        this(covers.stateCover,
+             covers.transitionCover,
+             localSuffixes.getGlobalSuffixes(),
+             localSuffixes,
+             inputs,
+             maxDepth,
+             ordered);
+    }
+
+    private WpMethodTestsSpliterator(List<Word<I>> stateCover,
+                                     List<Word<I>> transitionCover,
+                                     List<Word<I>> globalSuffixes,
+                                     LocalSuffixes<?, I> localSuffixes,
+                                     Collection<? extends I> inputs,
+                                     int maxDepth,
+                                     boolean ordered) {
+        super(inputs,
+              maxDepth,
+              stateCover.size() + transitionCover.size(),
+              globalSuffixes.size(),
+              transitionCover.isEmpty(),
+              ordered);
+        this.stateCover = stateCover;
+        this.transitionCover = transitionCover;
+        this.globalSuffixes = globalSuffixes;
+        this.localSuffixes = localSuffixes;
+    }
+
+    private WpMethodTestsSpliterator(WpMethodTestsSpliterator<I> other, long origin, long fence) {
+        super(other, origin, fence);
+        this.stateCover = other.stateCover;
+        this.transitionCover = other.transitionCover;
+        this.globalSuffixes = other.globalSuffixes;
+        this.localSuffixes = other.localSuffixes;
+    }
+
+    @Override
+    protected AbstractTestsSpliterator<I> split(long origin, long fence) {
+        return new WpMethodTestsSpliterator<>(this, origin, fence);
+    }
+
+    @Override
+    protected Word<I> getPrefix(int prefixIdx) {
+        final int numStates = stateCover.size();
+        return prefixIdx < numStates ? stateCover.get(prefixIdx) : transitionCover.get(prefixIdx - numStates);
+    }
+
+    @Override
+    protected List<Word<I>> getSuffixes(int prefixIdx, Word<I> prefix, Word<I> middle) {
+        return prefixIdx < stateCover.size() ? globalSuffixes : localSuffixes.get(prefix, middle);
+    }
+
+    /**
+     * The (disjoint) state cover and transition cover of an automaton.
+     */
+    private static final class TestCovers<I> {
+
+        private final List<Word<I>> stateCover;
+        private final List<Word<I>> transitionCover;
+
+        TestCovers(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton, Collection<? extends I> inputs) {
+            this.stateCover = new ArrayList<>();
+            this.transitionCover = new ArrayList<>();
+
+            Covers.cover(automaton, inputs, stateCover, transitionCover);
+            transitionCover.removeAll(new HashSet<>(stateCover));
+        }
+    }
+
+    private static final class LocalSuffixes<S, I> {
+
+        private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton;
+        private final SplittingTree<S, I> splittingTree;
+        private final Map<S, List<Word<I>>> cache;
+
+        LocalSuffixes(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton, Collection<? extends I> inputs) {
+            this.automaton = automaton;
+            this.splittingTree = CharacterizingSets.splittingTree(automaton, inputs);
+            this.cache = new ConcurrentHashMap<>();
+        }
+
+        List<Word<I>> getGlobalSuffixes() {
+            // Special case: List of characterizing suffixes may be empty,
+            // but in this case we still need to iterate over the prefixes!
+            return nonEmpty(splittingTree.getCharacterizingSet());
+        }
+
+        List<Word<I>> get(Word<I> prefix, Word<I> middle) {
+            @SuppressWarnings("nullness") // input sequences have been computed on defined transitions
+            final @NonNull S tmp = automaton.getState(prefix);
+            @SuppressWarnings("nullness") // input sequences have been computed on defined transitions
+            final @NonNull S state = automaton.getSuccessor(tmp, middle);
+
+            return cache.computeIfAbsent(state, this::computeSuffixes);
+        }
+
+        private List<Word<I>> computeSuffixes(S state) {
+            return nonEmpty(splittingTree.getStateCharacterizingSet(state));
+        }
+
+        private static <I> List<Word<I>> nonEmpty(List<Word<I>> suffixes) {
+            return suffixes.isEmpty() ? Collections.singletonList(Word.epsilon()) : suffixes;
+        }
+    }
+}
@@ -15,116 +15,197 @@
  */
 package net.automatalib.util.automaton.equivalence;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.List;
 import java.util.Set;
 
 import net.automatalib.automaton.Automaton;
-import net.automatalib.common.util.HashUtil;
+import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.common.util.Pair;
-
+import net.automatalib.util.partitionrefinement.Block;
+import net.automatalib.util.partitionrefinement.PaigeTarjan;
+
+/**
+ * Utility methods for computing the (strong) bisimulation relation between the states of two (potentially
+ * nondeterministic) automata. State and transition properties are not considered.
+ * <p>
+ * The relation is computed via partition refinement (see {@link PaigeTarjan}) on the disjoint union of both automata,
+ * starting from the trivial partition and refining it until it is stable w.r.t. the transition relation of every input
+ * symbol.
+ */
 public final class Bisimulation {
 
     private Bisimulation() {
         // prevent instantiation
     }
 
+    /**
+     * Computes the (maximal) bisimulation relation between the states of the two given automata and returns it as an
+     * explicit set of state pairs.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <I>
+     *         input symbol type
+     * @param <AT>
+     *         transition type of the first automaton
+     * @param <A>
+     *         type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <BT>
+     *         transition type of the second automaton
+     * @param <B>
+     *         type of the second automaton
+     *
+     * @return the set of all pairs of bisimilar states
+     *
+     * @see #bisimulationRelation(Automaton, Automaton, Collection)
+     */
     public static <AS, I, AT, A extends Automaton<AS, I, AT>, BS, BT, B extends Automaton<BS, I, BT>> Set<Pair<AS, BS>> bisimulationEquivalenceRelation(
             A a,
             B b,
             Collection<I> inputs) {
+        return bisimulationRelation(a, b, inputs).toSet();
+    }
 
-        Set<Pair<AS, BS>> bisim = new HashSet<>(HashUtil.capacity(a.size() * b.size()));
-        Set<Pair<AS, BS>> change = new HashSet<>(HashUtil.capacity(a.size() * b.size()));
+    /**
+     * Computes the (maximal) bisimulation relation between the states of the two given automata. Contrary to {@link
+     * #bisimulationEquivalenceRelation(Automaton, Automaton, Collection)}, the returned relation is represented by a
+     * partition of the states and thus answers membership queries without materializing all related pairs.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <I>
+     *         input symbol type
+     * @param <AT>
+     *         transition type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <BT>
+     *         transition type of the second automaton
+     *
+     * @return the bisimulation relation
+     */
+    public static <AS, I, AT, BS, BT> BisimulationRelation<AS, BS> bisimulationRelation(Automaton<AS, I, AT> a,
+                                                                                        Automaton<BS, I, BT> b,
+                                                                                        Collection<I> inputs) {
+
+        final StateIDs<AS> aIds = a.stateIDs();
+        final StateIDs<BS> bIds = b.stateIDs();
+        final List<I> inputList = new ArrayList<>(inputs);
+
+        final int numStatesA = a.size();
+        final int numStatesB = b.size();
+        final int numStates = numStatesA + numStatesB;
+        final int numInputs = inputList.size();
+
+        final int posDataLow = numStates;
+        final int predOfsDataLow = posDataLow + numStates;
+        final int numPredOfsData = numInputs * numStates + 1;
+
+        // first pass: count the number of predecessors for each (input, successor) pair
+        final int[] predCounts = new int[numPredOfsData];
+        int numTransitions = 0;
+
+        for (AS s : a.getStates()) {
+            for (int i = 0; i < numInputs; i++) {
+                final int predOfsBase = i * numStates;
+                for (AT t : a.getTransitions(s, inputList.get(i))) {
+                    predCounts[predOfsBase + aIds.getStateId(a.getSuccessor(t))]++;
+                    numTransitions++;
+                }
+            }
+        }
+        for (BS s : b.getStates()) {
+            for (int i = 0; i < numInputs; i++) {
+                final int predOfsBase = i * numStates + numStatesA;
+                for (BT t : b.getTransitions(s, inputList.get(i))) {
+                    predCounts[predOfsBase + bIds.getStateId(b.getSuccessor(t))]++;
+                    numTransitions++;
+                }
+            }
+        }
 
-        boolean empty;
+        final int predDataLow = predOfsDataLow + numPredOfsData;
+        final int[] data = new int[predDataLow + numTransitions];
 
-        for (AS p : a.getStates()) {
-            for (BS q : b.getStates()) {
+        final PaigeTarjan pt = new PaigeTarjan();
+        final Block init = pt.createBlock();
+        init.low = 0;
+        init.high = numStates;
 
-                empty = true;
-                for (I sym : inputs) {
-                    empty &= a.getTransitions(p, sym).isEmpty() && b.getTransitions(q, sym).isEmpty();
-                    if (!a.getTransitions(p, sym).isEmpty() && !b.getTransitions(q, sym).isEmpty()) {
-                        change.add(Pair.of(p, q));
-                        break;
-                    }
-                }
+        final Block[] blockForState = new Block[numStates];
+        for (int i = 0; i < numStates; i++) {
+            data[i] = i;
+            data[posDataLow + i] = i;
+            blockForState[i] = init;
+        }
 
-                if (empty) {
-                    change.add(Pair.of(p, q));
+        // compute the (end) offsets of the predecessor ranges
+        int predOfs = predDataLow;
+        for (int i = 0; i < numPredOfsData; i++) {
+            predOfs += predCounts[i];
+            data[predOfsDataLow + i] = predOfs;
+        }
+
+        // second pass: fill the predecessor ranges back to front
+        for (AS s : a.getStates()) {
+            final int id = aIds.getStateId(s);
+            for (int i = 0; i < numInputs; i++) {
+                final int predOfsBase = predOfsDataLow + i * numStates;
+                for (AT t : a.getTransitions(s, inputList.get(i))) {
+                    data[--data[predOfsBase + aIds.getStateId(a.getSuccessor(t))]] = id;
                 }
             }
         }
-
-        Set<Pair<AS, BS>> swap;
-        boolean forall, exists;
-        while (!bisim.equals(change)) {
-            swap = change;
-            change = bisim;
-            bisim = swap;
-            change.clear();
-
-            for (Pair<AS, BS> p : bisim) {
-
-                forall = true;
-                for (I sym : inputs) {
-                    for (AT t : a.getTransitions(p.getFirst(), sym)) {
-
-                        exists = false;
-                        for (BT f : b.getTransitions(p.getSecond(), sym)) {
-                            for (Pair<AS, BS> s : bisim) {
-                                if (Objects.equals(a.getSuccessor(t), s.getFirst()) &&
-                                    Objects.equals(b.getSuccessor(f), s.getSecond())) {
-                                    exists = true;
-                                    break;
-                                }
-                            }
-                            if (exists) {
-                                break;
-                            }
-                        }
-                        if (!exists) {
-                            forall = false;
-                            break;
-                        }
-                    }
+        for (BS s : b.getStates()) {
+            final int id = numStatesA + bIds.getStateId(s);
+            for (int i = 0; i < numInputs; i++) {
+                final int predOfsBase = predOfsDataLow + i * numStates + numStatesA;
+                for (BT t : b.getTransitions(s, inputList.get(i))) {
+                    data[--data[predOfsBase + bIds.getStateId(b.getSuccessor(t))]] = id;
                 }
+            }
+        }
 
-                if (!forall) {
-                    continue;
-                }
+        pt.setBlockData(data);
+        pt.setPosData(data, posDataLow);
+        pt.setPredOfsData(data, predOfsDataLow);
+        pt.setPredData(data);
+        pt.setBlockForState(blockForState);
+        pt.setSize(numStates, numInputs);
+
+        if (numStates > 0) {
+            pt.initWorklist(true);
+            pt.computeCoarsestStablePartition(true);
+        } else {
+            pt.removeEmptyBlocks();
+        }
 
-                for (I sym : inputs) {
-                    for (BT f : b.getTransitions(p.getSecond(), sym)) {
-
-                        exists = false;
-                        for (AT t : a.getTransitions(p.getFirst(), sym)) {
-                            for (Pair<AS, BS> s : bisim) {
-                                if (Objects.equals(b.getSuccessor(f), s.getSecond()) &&
-                                    Objects.equals(a.getSuccessor(t), s.getFirst())) {
-                                    exists = true;
-                                    break;
-                                }
-                            }
-                            if (exists) {
-                                break;
-                            }
-                        }
-                        if (!exists) {
-                            forall = false;
-                            break;
-                        }
-                    }
-                }
+        final int[] aBlocks = new int[numStatesA];
+        final int[] bBlocks = new int[numStatesB];
 
-                if (forall) {
-                    change.add(p);
-                }
-            }
+        for (int i = 0; i < numStatesA; i++) {
+            aBlocks[i] = pt.getBlockForState(i).id;
+        }
+        for (int i = 0; i < numStatesB; i++) {
+            bBlocks[i] = pt.getBlockForState(numStatesA + i).id;
         }
 
-        return change;
+        return new BisimulationRelation<>(a, b, aBlocks, bBlocks, pt.getNumBlocks());
     }
 }
@@ -0,0 +1,144 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.Pair;
+
+/**
+ * The (maximal) bisimulation relation between the states of two automata, as computed by {@link
+ * Bisimulation#bisimulationRelation(Automaton, Automaton, java.util.Collection)}.
+ * <p>
+ * The relation is represented by a partition of the disjoint union of the states of both automata, where two states
+ * are bisimilar iff they belong to the same block. Hence, membership queries can be answered in constant time without
+ * having to materialize the (potentially quadratic) set of all related pairs.
+ *
+ * @param <AS>
+ *         state type of the first automaton
+ * @param <BS>
+ *         state type of the second automaton
+ */
+public final class BisimulationRelation<AS, BS> {
+
+    private final Automaton<AS, ?, ?> a;
+    private final Automaton<BS, ?, ?> b;
+    private final StateIDs<AS> aIds;
+    private final StateIDs<BS> bIds;
+    private final int[] aBlocks;
+    private final int[] bBlocks;
+    private final int numBlocks;
+
+    BisimulationRelation(Automaton<AS, ?, ?> a,
+                         Automaton<BS, ?, ?> b,
+                         int[] aBlocks,
+                         int[] bBlocks,
+                         int numBlocks) {
+        this.a = a;
+        this.b = b;
+        this.aIds = a.stateIDs();
+        this.bIds = b.stateIDs();
+        this.aBlocks = aBlocks;
+        this.bBlocks = bBlocks;
+        this.numBlocks = numBlocks;
+    }
+
+    /**
+     * Checks whether the given states are bisimilar.
+     *
+     * @param aState
+     *         the state of the first automaton
+     * @param bState
+     *         the state of the second automaton
+     *
+     * @return {@code true} if the states are bisimilar, {@code false} otherwise
+     */
+    public boolean isBisimilar(AS aState, BS bState) {
+        return getBlockIdOfFirst(aState) == getBlockIdOfSecond(bState);
+    }
+
+    /**
+     * Returns the id of the block (of the bisimulation partition) that contains the given state of the first
+     * automaton.
+     *
+     * @param aState
+     *         the state of the first automaton
+     *
+     * @return the id of the block, in the range {@code [0, getNumBlocks() - 1]}
+     */
+    public int getBlockIdOfFirst(AS aState) {
+        return aBlocks[aIds.getStateId(aState)];
+    }
+
+    /**
+     * Returns the id of the block (of the bisimulation partition) that contains the given state of the second
+     * automaton.
+     *
+     * @param bState
+     *         the state of the second automaton
+     *
+     * @return the id of the block, in the range {@code [0, getNumBlocks() - 1]}
+     */
+    public int getBlockIdOfSecond(BS bState) {
+        return bBlocks[bIds.getStateId(bState)];
+    }
+
+    /**
+     * Returns the number of blocks of the bisimulation partition (of the disjoint union of both automata).
+     *
+     * @return the number of blocks
+     */
+    public int getNumBlocks() {
+        return numBlocks;
+    }
+
+    /**
+     * Materializes this relation as an explicit set of state pairs. Note that the size of the returned set may be
+     * quadratic in the number of states.
+     *
+     * @return the set of all bisimilar state pairs
+     */
+    public Set<Pair<AS, BS>> toSet() {
+        final List<List<BS>> bStatesByBlock = new ArrayList<>(numBlocks);
+        for (int i = 0; i < numBlocks; i++) {
+            bStatesByBlock.add(new ArrayList<>());
+        }
+
+        int numPairs = 0;
+        for (BS s : b.getStates()) {
+            bStatesByBlock.get(getBlockIdOfSecond(s)).add(s);
+        }
+        for (AS s : a.getStates()) {
+            numPairs += bStatesByBlock.get(getBlockIdOfFirst(s)).size();
+        }
+
+        final Set<Pair<AS, BS>> result = new HashSet<>(HashUtil.capacity(numPairs));
+
+        for (AS s : a.getStates()) {
+            for (BS t : bStatesByBlock.get(getBlockIdOfFirst(s))) {
+                result.add(Pair.of(s, t));
+            }
+        }
+
+        return result;
+    }
+}
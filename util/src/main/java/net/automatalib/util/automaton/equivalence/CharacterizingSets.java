@@ -23,7 +23,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Queue;
 
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
@@ -52,8 +51,30 @@ public final class CharacterizingSets {
 
     private CharacterizingSets() {}
 
+    /**
+     * Computes a {@link SplittingTree splitting tree} for the given automaton, which allows for querying separating
+     * words for any two states as well as characterizing sets for the automaton or single states.
+     *
+     * @param automaton
+     *         the automaton for which to compute the splitting tree
+     * @param inputs
+     *         the input alphabets to consider
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the splitting tree
+     */
+    public static <S, I> SplittingTree<S, I> splittingTree(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
+                                                           Collection<? extends I> inputs) {
+        return new SplittingTree<>(automaton, inputs);
+    }
+
     /**
      * Computes a characterizing set for the given automaton.
+     * <p>
+     * This is a convenience method acting as a shortcut to {@link SplittingTree#getCharacterizingSet()}.
      *
      * @param automaton
      *         the automaton for which to determine the characterizing set.
@@ -67,11 +88,15 @@ public final class CharacterizingSets {
     public static <I> void findCharacterizingSet(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
                                                  Collection<? extends I> inputs,
                                                  Collection<? super Word<I>> result) {
-        findIncrementalCharacterizingSet(automaton, inputs, Collections.emptyList(), result);
+        result.addAll(splittingTree(automaton, inputs).getCharacterizingSet());
     }
 
     /**
      * Computes a characterizing set for a specified state in the given automaton.
+     * <p>
+     * This is a convenience method acting as a shortcut to {@link SplittingTree#getStateCharacterizingSet(Object)}.
+     * If characterizing sets for multiple states are required, consider computing the {@link
+     * #splittingTree(UniversalDeterministicAutomaton, Collection) splitting tree} only once.
      *
      * @param automaton
      *         the automaton containing the state
@@ -90,62 +115,12 @@ public final class CharacterizingSets {
                                                     Collection<? extends I> inputs,
                                                     S state,
                                                     Collection<? super Word<I>> result) {
-
-        Object prop = automaton.getStateProperty(state);
-
-        List<S> currentBlock = new ArrayList<>();
-
-        boolean multipleStateProps = false;
-
-        for (S s : automaton) {
-            if (Objects.equals(s, state)) {
-                continue;
-            }
-
-            Object sProp = automaton.getStateProperty(s);
-            if (!Objects.equals(sProp, prop)) {
-                multipleStateProps = true;
-            } else {
-                currentBlock.add(s);
-            }
-        }
-
-        if (multipleStateProps) {
-            result.add(Word.epsilon());
-        }
-
-        while (!currentBlock.isEmpty()) {
-            Iterator<S> it = currentBlock.iterator();
-
-            Word<I> suffix = null;
-            while (it.hasNext() && suffix == null) {
-                S s = it.next();
-                suffix = Automata.findSeparatingWord(automaton, state, s, inputs);
-            }
-
-            if (suffix == null) {
-                return;
-            }
-
-            result.add(suffix);
-
-            List<?> trace = buildTrace(automaton, state, suffix);
-
-            List<S> nextBlock = new ArrayList<>();
-            while (it.hasNext()) {
-                S s = it.next();
-                if (checkTrace(automaton, s, suffix, trace)) {
-                    nextBlock.add(s);
-                }
-            }
-
-            currentBlock = nextBlock;
-        }
+        result.addAll(splittingTree(automaton, inputs).getStateCharacterizingSet(state));
     }
 
     public static <I> Iterator<Word<I>> characterizingSetIterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
                                                                   Collection<? extends I> inputs) {
-        return new IncrementalCharacterizingSetIterator<>(automaton, inputs, Collections.emptyList());
+        return splittingTree(automaton, inputs).getCharacterizingSet().iterator();
     }
 
     private static <S, I, T, SP, TP> List<?> buildTrace(UniversalDeterministicAutomaton<S, I, T, SP, TP> automaton,
@@ -182,40 +157,6 @@ public final class CharacterizingSets {
         return trace;
     }
 
-    private static <S, I, T, SP, TP, P> boolean checkTrace(UniversalDeterministicAutomaton<S, I, T, SP, TP> automaton,
-                                                           S state,
-                                                           Word<I> suffix,
-                                                           List<P> trace) {
-
-        Iterator<P> it = trace.iterator();
-        S curr = state;
-
-        for (I sym : suffix) {
-            T trans = automaton.getTransition(curr, sym);
-
-            if (!it.hasNext()) {
-                return trans == null;
-            } else if (trans == null) {
-                return false;
-            }
-
-            TP transitionProperty = automaton.getTransitionProperty(trans);
-
-            if (!Objects.equals(transitionProperty, it.next())) {
-                return false;
-            }
-
-            curr = automaton.getSuccessor(trans);
-            SP stateProperty = automaton.getStateProperty(curr);
-
-            if (!Objects.equals(stateProperty, it.next())) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
     public static <S, I> boolean findIncrementalCharacterizingSet(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
                                                                   Collection<? extends I> inputs,
                                                                   Collection<? extends Word<I>> oldSuffixes,
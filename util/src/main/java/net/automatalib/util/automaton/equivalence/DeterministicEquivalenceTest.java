@@ -17,13 +17,12 @@ package net.automatalib.util.automaton.equivalence;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.LongPredecessorTable;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -41,7 +40,7 @@ public final class DeterministicEquivalenceTest {
             UniversalDeterministicAutomaton<S2, I, T2, SP2, TP2> other,
             Collection<? extends I> inputs) {
         int refSize = reference.size();
-        int totalStates = refSize * other.size();
+        long totalStates = (long) refSize * other.size();
 
         if (totalStates > MAP_THRESHOLD) {
             return findSeparatingWordLarge(reference, other, inputs);
@@ -71,7 +70,7 @@ public final class DeterministicEquivalenceTest {
         int lastId = otherStateIds.getStateId(otherInit) * refSize + refStateIds.getStateId(refInit);
 
         @SuppressWarnings("unchecked")
-        Pred<I>[] preds = new Pred[totalStates];
+        Pred<I>[] preds = new Pred[(int) totalStates];
         preds[lastId] = new Pred<>();
 
         int currDepth = 0;
@@ -175,17 +174,17 @@ public final class DeterministicEquivalenceTest {
         Queue<StatePair<S, S2>> bfsQueue = new ArrayDeque<>();
         bfsQueue.add(new StatePair<>(refInit, otherInit));
 
-        int refSize = reference.size();
+        // use long-based ids so that the encoding of product states does not overflow for large automata
+        long refSize = reference.size();
 
         StateIDs<S> refStateIds = reference.stateIDs();
         StateIDs<S2> otherStateIds = other.stateIDs();
 
         StatePair<S, S2> currPair;
-        int lastId = otherStateIds.getStateId(otherInit) * refSize + refStateIds.getStateId(refInit);
+        long lastId = otherStateIds.getStateId(otherInit) * refSize + refStateIds.getStateId(refInit);
 
-        //TIntObjectMap<Pred<I>> preds = new TIntObjectHashMap<>();
-        Map<Integer, Pred<I>> preds = new HashMap<>(); // TODO: replace by primitive specialization
-        preds.put(lastId, new Pred<>());
+        LongPredecessorTable<I> preds = new LongPredecessorTable<>();
+        preds.putIfAbsent(lastId, LongPredecessorTable.NO_PREDECESSOR, null);
 
         int currDepth = 0;
         int inCurrDepth = 1;
@@ -198,7 +197,7 @@ public final class DeterministicEquivalenceTest {
             S refState = currPair.ref;
             S2 otherState = currPair.other;
 
-            int currId = otherStateIds.getStateId(otherState) * refSize + refStateIds.getStateId(refState);
+            long currId = otherStateIds.getStateId(otherState) * refSize + refStateIds.getStateId(refState);
             lastId = currId;
 
             for (I in : inputs) {
@@ -223,9 +222,9 @@ public final class DeterministicEquivalenceTest {
                 S refSucc = reference.getSuccessor(refTrans);
                 S2 otherSucc = other.getSuccessor(otherTrans);
 
-                int succId = otherStateIds.getStateId(otherSucc) * refSize + refStateIds.getStateId(refSucc);
+                long succId = otherStateIds.getStateId(otherSucc) * refSize + refStateIds.getStateId(refSucc);
 
-                if (preds.get(succId) == null) {
+                if (!preds.containsKey(succId)) {
                     refStateProp = reference.getStateProperty(refSucc);
                     otherStateProp = other.getStateProperty(otherSucc);
 
@@ -233,7 +232,7 @@ public final class DeterministicEquivalenceTest {
                         break bfs;
                     }
 
-                    preds.put(succId, new Pred<>(currId, in));
+                    preds.putIfAbsent(succId, currId, in);
                     bfsQueue.add(new StatePair<>(refSucc, otherSucc));
                     inNextDepth++;
                 }
@@ -258,12 +257,13 @@ public final class DeterministicEquivalenceTest {
         int index = currDepth;
         sep.setSymbol(index--, lastSym);
 
-        Pred<I> pred = preds.get(lastId);
-        assert pred != null;
-        while (pred.id >= 0) {
-            sep.setSymbol(index--, pred.symbol);
-            pred = preds.get(pred.id);
-            assert pred != null;
+        long currId = lastId;
+        long predId;
+        while ((predId = preds.getPredecessor(currId)) != LongPredecessorTable.NO_PREDECESSOR) {
+            @SuppressWarnings("nullness") // only the initial pair (which has no predecessor) stores a null symbol
+            I sym = preds.getValue(currId);
+            sep.setSymbol(index--, sym);
+            currId = predId;
         }
 
         return sep.toWord();
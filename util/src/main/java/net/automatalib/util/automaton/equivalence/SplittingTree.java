@@ -0,0 +1,451 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A splitting tree for the states of a deterministic automaton, as computed by
+ * {@link CharacterizingSets#splittingTree(UniversalDeterministicAutomaton, Collection)}.
+ * <p>
+ * Each node of the tree represents a set of states and each inner node is annotated with a separating word (witness)
+ * that exposes a difference (differing state or transition properties, or a transition undefined in only one of the
+ * paths) between any two states of different children. The leaves of the tree form the partition of the states into
+ * equivalence classes. Hence, the witness of the lowest common ancestor of two states separates them, which allows for
+ * answering separator queries without any further exploration of the automaton.
+ * <p>
+ * The tree is refined breadth-first and, for each split, the input symbol yielding the shortest witness is chosen.
+ * Thus, witnesses are short but not necessarily minimal.
+ *
+ * @param <S>
+ *         state type
+ * @param <I>
+ *         input symbol type
+ */
+public final class SplittingTree<S, I> {
+
+    private static final Object UNDEFINED = new Object();
+
+    private final StateIDs<S> stateIds;
+    private final List<? extends I> inputs;
+    private final int numStates;
+
+    // the (inverse) successor function, undefined transitions are encoded as -1
+    private final int[] successors;
+    private final int[] predOffsets;
+    private final int[] predecessors;
+
+    // the states, arranged such that each node of the tree covers a contiguous range
+    private final int[] states;
+    private final int[] positions;
+    private final Node<I>[] leaves;
+
+    private final Node<I> root;
+    private final List<Node<I>> innerNodes;
+
+    @SuppressWarnings("unchecked")
+    <T, SP, TP> SplittingTree(UniversalDeterministicAutomaton<S, I, T, SP, TP> automaton,
+                              Collection<? extends I> inputs) {
+        this.stateIds = automaton.stateIDs();
+        this.inputs = CollectionUtil.randomAccessList(inputs);
+        this.numStates = automaton.size();
+
+        final int numInputs = this.inputs.size();
+
+        this.successors = new int[numStates * numInputs];
+        this.predOffsets = new int[numStates + 1];
+
+        final Object[] stateProperties = new Object[numStates];
+        final Object[] transitionProperties = new Object[numStates * numInputs];
+
+        for (S s : automaton) {
+            final int id = stateIds.getStateId(s);
+            stateProperties[id] = automaton.getStateProperty(s);
+
+            for (int i = 0; i < numInputs; i++) {
+                final int idx = i * numStates + id;
+                final T trans = automaton.getTransition(s, this.inputs.get(i));
+                if (trans == null) {
+                    successors[idx] = -1;
+                    transitionProperties[idx] = UNDEFINED;
+                } else {
+                    final int succ = stateIds.getStateId(automaton.getSuccessor(trans));
+                    successors[idx] = succ;
+                    transitionProperties[idx] = automaton.getTransitionProperty(trans);
+                    predOffsets[succ + 1]++;
+                }
+            }
+        }
+
+        for (int i = 0; i < numStates; i++) {
+            predOffsets[i + 1] += predOffsets[i];
+        }
+
+        this.predecessors = new int[predOffsets[numStates]];
+        final int[] fill = new int[numStates];
+        for (int idx = 0; idx < successors.length; idx++) {
+            final int succ = successors[idx];
+            if (succ >= 0) {
+                predecessors[predOffsets[succ] + fill[succ]++] = idx % numStates;
+            }
+        }
+
+        this.states = new int[numStates];
+        this.positions = new int[numStates];
+        for (int i = 0; i < numStates; i++) {
+            states[i] = i;
+            positions[i] = i;
+        }
+
+        this.root = new Node<>(null, 0, numStates);
+        this.leaves = new Node[numStates];
+        this.innerNodes = new ArrayList<>();
+        Arrays.fill(leaves, root);
+
+        refine(stateProperties, transitionProperties);
+    }
+
+    /**
+     * Returns a separating word for the two given states.
+     *
+     * @param s1
+     *         the first state
+     * @param s2
+     *         the second state
+     *
+     * @return a word exposing a difference between the two states, or {@code null} if the states are equivalent
+     */
+    public @Nullable Word<I> getSeparator(S s1, S s2) {
+        final int id1 = stateIds.getStateId(s1);
+        final int id2 = stateIds.getStateId(s2);
+
+        if (leaves[id1] == leaves[id2]) {
+            return null;
+        }
+
+        final int pos1 = positions[id1];
+        final int pos2 = positions[id2];
+
+        return getCommonAncestor(leaves[id1], Math.min(pos1, pos2), Math.max(pos1, pos2)).witness;
+    }
+
+    /**
+     * Checks whether the two given states are equivalent, i.e., whether there exists no word that separates them.
+     *
+     * @param s1
+     *         the first state
+     * @param s2
+     *         the second state
+     *
+     * @return {@code true} if the states are equivalent, {@code false} otherwise
+     */
+    public boolean isEquivalent(S s1, S s2) {
+        return leaves[stateIds.getStateId(s1)] == leaves[stateIds.getStateId(s2)];
+    }
+
+    /**
+     * Returns a characterizing set for the automaton, i.e., the (distinct) witnesses of all inner nodes of the tree.
+     *
+     * @return the characterizing set
+     */
+    public List<Word<I>> getCharacterizingSet() {
+        final Set<Word<I>> result = new LinkedHashSet<>();
+        for (Node<I> n : innerNodes) {
+            result.add(n.witness);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Returns a characterizing set for the given state, i.e., the (distinct) witnesses of all nodes on the path from
+     * the root of the tree to the leaf containing the state.
+     *
+     * @param state
+     *         the state for which to determine the characterizing set
+     *
+     * @return the characterizing set of the given state
+     */
+    public List<Word<I>> getStateCharacterizingSet(S state) {
+        final List<Word<I>> path = new ArrayList<>();
+        Node<I> n = leaves[stateIds.getStateId(state)].parent;
+
+        while (n != null) {
+            path.add(n.witness);
+            n = n.parent;
+        }
+
+        Collections.reverse(path);
+        return new ArrayList<>(new LinkedHashSet<>(path));
+    }
+
+    private void refine(Object[] stateProperties, Object[] transitionProperties) {
+        final Queue<Node<I>> queue = new ArrayDeque<>();
+
+        // Phase 1: split by state properties (witnessed by the empty word) and by transition properties (witnessed
+        // by single input symbols)
+        if (numStates > 0) {
+            queue.addAll(splitByProperty(root, stateProperties, 0, Word.epsilon()));
+        }
+
+        final List<Node<I>> blocks = new ArrayList<>();
+        Node<I> block;
+        while ((block = queue.poll()) != null) {
+            if (block.size() <= 1) {
+                continue;
+            }
+
+            boolean split = false;
+            for (int i = 0; i < inputs.size(); i++) {
+                final List<Node<I>> children = splitByProperty(block,
+                                                               transitionProperties,
+                                                               i * numStates,
+                                                               Word.<I>fromLetter(inputs.get(i)));
+                if (children.size() > 1) {
+                    queue.addAll(children);
+                    split = true;
+                    break;
+                }
+            }
+
+            if (!split) {
+                blocks.add(block);
+            }
+        }
+
+        // Phase 2: split by the blocks of successors (witnessed by an input symbol followed by the witness of the
+        // lowest common ancestor of the successor blocks)
+        for (Node<I> b : blocks) {
+            b.queued = true;
+            queue.add(b);
+        }
+
+        while ((block = queue.poll()) != null) {
+            block.queued = false;
+
+            if (block.isInner() || block.size() <= 1) {
+                continue;
+            }
+
+            final List<Node<I>> children = splitBySuccessors(block);
+
+            for (Node<I> child : children) {
+                for (int i = child.lo; i < child.hi; i++) {
+                    final int state = states[i];
+                    for (int j = predOffsets[state]; j < predOffsets[state + 1]; j++) {
+                        final Node<I> predBlock = leaves[predecessors[j]];
+                        if (!predBlock.queued && predBlock.size() > 1) {
+                            predBlock.queued = true;
+                            queue.add(predBlock);
+                        }
+                    }
+                }
+                if (!child.queued && child.size() > 1) {
+                    child.queued = true;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    private List<Node<I>> splitByProperty(Node<I> block, Object[] properties, int offset, Word<I> witness) {
+        final Map<@Nullable Object, Integer> classes = new HashMap<>();
+        final int[] keys = new int[block.size()];
+
+        for (int i = block.lo; i < block.hi; i++) {
+            final Object prop = properties[offset + states[i]];
+            Integer key = classes.get(prop);
+            if (key == null) {
+                key = classes.size();
+                classes.put(prop, key);
+            }
+            keys[i - block.lo] = key;
+        }
+
+        return split(block, keys, classes.size(), witness);
+    }
+
+    private List<Node<I>> splitBySuccessors(Node<I> block) {
+        @Nullable Node<I> bestAncestor = null;
+        int bestInput = -1;
+
+        for (int i = 0; i < inputs.size(); i++) {
+            final int offset = i * numStates;
+            final int firstSucc = successors[offset + states[block.lo]];
+
+            // after phase 1, all states of a block agree on the definedness of their transitions
+            if (firstSucc < 0) {
+                continue;
+            }
+
+            final Node<I> firstLeaf = leaves[firstSucc];
+            boolean homogeneous = true;
+            int min = positions[firstSucc];
+            int max = min;
+
+            for (int j = block.lo + 1; j < block.hi; j++) {
+                final int succ = successors[offset + states[j]];
+                homogeneous &= leaves[succ] == firstLeaf;
+                min = Math.min(min, positions[succ]);
+                max = Math.max(max, positions[succ]);
+            }
+
+            if (!homogeneous) {
+                final Node<I> ancestor = getCommonAncestor(firstLeaf, min, max);
+                if (bestAncestor == null || ancestor.witness.length() < bestAncestor.witness.length()) {
+                    bestAncestor = ancestor;
+                    bestInput = i;
+                }
+            }
+        }
+
+        if (bestAncestor == null) {
+            return Collections.emptyList();
+        }
+
+        final Node<I>[] children = bestAncestor.children;
+        final int offset = bestInput * numStates;
+        final int[] keys = new int[block.size()];
+
+        for (int j = block.lo; j < block.hi; j++) {
+            keys[j - block.lo] = findChild(children, positions[successors[offset + states[j]]]);
+        }
+
+        // keys are child indices, so normalize them to consecutive integers in order of occurrence
+        final int[] normalized = new int[children.length];
+        Arrays.fill(normalized, -1);
+        int numKeys = 0;
+        for (int j = 0; j < keys.length; j++) {
+            final int key = keys[j];
+            if (normalized[key] < 0) {
+                normalized[key] = numKeys++;
+            }
+            keys[j] = normalized[key];
+        }
+
+        return split(block, keys, numKeys, bestAncestor.witness.prepend(inputs.get(bestInput)));
+    }
+
+    private List<Node<I>> split(Node<I> block, int[] keys, int numKeys, Word<I> witness) {
+        if (numKeys <= 1) {
+            return Collections.singletonList(block);
+        }
+
+        final int[] offsets = new int[numKeys + 1];
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int i = 0; i < numKeys; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        final Node<I>[] children = new Node[numKeys];
+        for (int i = 0; i < numKeys; i++) {
+            children[i] = new Node<>(block, block.lo + offsets[i], block.lo + offsets[i + 1]);
+        }
+
+        final int[] sorted = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final int state = states[block.lo + i];
+            sorted[offsets[keys[i]]++] = state;
+            leaves[state] = children[keys[i]];
+        }
+
+        for (int i = 0; i < sorted.length; i++) {
+            final int state = sorted[i];
+            final int pos = block.lo + i;
+            states[pos] = state;
+            positions[state] = pos;
+        }
+
+        block.children = children;
+        block.witness = witness;
+        innerNodes.add(block);
+
+        return Arrays.asList(children);
+    }
+
+    @SuppressWarnings("nullness") // the root covers all positions
+    private Node<I> getCommonAncestor(Node<I> node, int min, int max) {
+        Node<I> n = node;
+        while (n.lo > min || n.hi <= max) {
+            n = n.parent;
+        }
+        return n;
+    }
+
+    private static <I> int findChild(Node<I>[] children, int pos) {
+        int low = 0;
+        int high = children.length - 1;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (children[mid].lo <= pos) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static final class Node<I> {
+
+        final @Nullable Node<I> parent;
+        final int lo;
+        final int hi;
+
+        // the children and the witness are only meaningful for inner nodes
+        Node<I>[] children;
+        Word<I> witness;
+        boolean queued;
+
+        @SuppressWarnings("unchecked")
+        Node(@Nullable Node<I> parent, int lo, int hi) {
+            this.parent = parent;
+            this.lo = lo;
+            this.hi = hi;
+            this.children = new Node[0];
+            this.witness = Word.epsilon();
+        }
+
+        int size() {
+            return hi - lo;
+        }
+
+        boolean isInner() {
+            return children.length > 0;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A specialized subset construction for {@link CompactNFA}s.
+ * <p>
+ * Contrary to the generic implementation in {@link NFAs}, this implementation directly accesses the successor {@link
+ * BitSet}s of the NFA (see {@link CompactNFA#addSuccessorsTo(int, int, BitSet)}), re-uses a single scratch {@link
+ * BitSet} for computing successor subsets, and interns subsets in a hash table that caches the hash codes of its
+ * entries. As a result, objects are only allocated for subsets that are newly discovered, rather than for every
+ * (subset, symbol) pair.
+ * <p>
+ * Subsets are explored in breadth-first order and the states of the resulting DFA are numbered in the order of their
+ * discovery.
+ */
+final class CompactNFADeterminizer {
+
+    private CompactNFADeterminizer() {
+        // prevent instantiation
+    }
+
+    static <I> CompactDFA<I> determinize(CompactNFA<I> nfa, Alphabet<I> inputs, boolean partial) {
+
+        final int[] inputIndices = getInputIndices(nfa, inputs);
+        final BitSet accepting = getAcceptingStates(nfa);
+        final int numInputs = inputIndices.length;
+
+        final CompactDFA<I> out = new CompactDFA<>(inputs);
+        final SubsetTable subsets = new SubsetTable();
+        // a non-sticky BitSet, so that interned copies are trimmed to their actual size
+        final BitSet scratch = getInitialStates(nfa);
+
+        subsets.intern(scratch);
+        out.addIntInitialState(scratch.intersects(accepting));
+
+        for (int curr = 0; curr < subsets.size(); curr++) {
+            final BitSet subset = subsets.get(curr);
+
+            for (int i = 0; i < numInputs; i++) {
+                computeSuccessors(nfa, subset, inputIndices[i], scratch);
+
+                if (partial && scratch.isEmpty()) {
+                    continue;
+                }
+
+                int succ = subsets.intern(scratch);
+                if (succ < 0) {
+                    succ = -succ - 1;
+                    out.addIntState(scratch.intersects(accepting));
+                }
+                out.setTransition(curr, i, succ);
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Multi-threaded version of {@link #determinize(CompactNFA, Alphabet, boolean)}.
+     * <p>
+     * Subsets are explored level by level (in breadth-first order). The successor subsets of each level are computed
+     * in parallel by the given {@link ForkJoinPool} and are interned in a concurrent hash map. Afterward, the newly
+     * discovered subsets are numbered sequentially in the order of their first occurrence, which yields exactly the
+     * same DFA as the sequential version, regardless of the number of threads used.
+     */
+    static <I> CompactDFA<I> determinizeParallel(CompactNFA<I> nfa,
+                                                 Alphabet<I> inputs,
+                                                 boolean partial,
+                                                 ForkJoinPool pool) {
+
+        final int[] inputIndices = getInputIndices(nfa, inputs);
+        final BitSet accepting = getAcceptingStates(nfa);
+        final int numInputs = inputIndices.length;
+
+        final CompactDFA<I> out = new CompactDFA<>(inputs);
+        final Map<Subset, Subset> subsets = new ConcurrentHashMap<>();
+
+        final Subset init = new Subset(getInitialStates(nfa), accepting);
+        init.id = out.addIntInitialState(init.accepting);
+        subsets.put(init, init);
+
+        Subset[] frontier = {init};
+
+        while (frontier.length > 0) {
+            final @Nullable Subset[] successors = new Subset[frontier.length * numInputs];
+
+            pool.invoke(new ExpandTask(nfa,
+                                       inputIndices,
+                                       accepting,
+                                       partial,
+                                       subsets,
+                                       frontier,
+                                       successors,
+                                       0,
+                                       frontier.length));
+
+            final List<Subset> newFrontier = new ArrayList<>();
+
+            for (int f = 0; f < frontier.length; f++) {
+                final int curr = frontier[f].id;
+                for (int i = 0; i < numInputs; i++) {
+                    final Subset succ = successors[f * numInputs + i];
+                    if (succ == null) {
+                        continue;
+                    }
+                    if (succ.id < 0) {
+                        succ.id = out.addIntState(succ.accepting);
+                        newFrontier.add(succ);
+                    }
+                    out.setTransition(curr, i, succ.id);
+                }
+            }
+
+            frontier = newFrontier.toArray(new Subset[0]);
+        }
+
+        return out;
+    }
+
+    private static <I> int[] getInputIndices(CompactNFA<I> nfa, Alphabet<I> inputs) {
+        final Alphabet<I> nfaAlphabet = nfa.getInputAlphabet();
+        final int[] inputIndices = new int[inputs.size()];
+
+        for (int i = 0; i < inputIndices.length; i++) {
+            final I sym = inputs.getSymbol(i);
+            inputIndices[i] = nfaAlphabet.containsSymbol(sym) ? nfaAlphabet.getSymbolIndex(sym) : -1;
+        }
+
+        return inputIndices;
+    }
+
+    private static BitSet getAcceptingStates(CompactNFA<?> nfa) {
+        final BitSet accepting = new BitSet();
+        for (int i = 0; i < nfa.size(); i++) {
+            if (nfa.isAccepting(i)) {
+                accepting.set(i);
+            }
+        }
+        return accepting;
+    }
+
+    private static BitSet getInitialStates(CompactNFA<?> nfa) {
+        final BitSet initial = new BitSet();
+        for (Integer init : nfa.getInitialStates()) {
+            initial.set(init);
+        }
+        return initial;
+    }
+
+    private static void computeSuccessors(CompactNFA<?> nfa, BitSet subset, int inputIdx, BitSet target) {
+        target.clear();
+        if (inputIdx >= 0) {
+            for (int s = subset.nextSetBit(0); s >= 0; s = subset.nextSetBit(s + 1)) {
+                nfa.addSuccessorsTo(s, inputIdx, target);
+            }
+        }
+    }
+
+    /**
+     * A subset of NFA states with a cached hash code, used as a key in the concurrent intern table.
+     */
+    private static final class Subset {
+
+        private final BitSet states;
+        private final int hash;
+        private final boolean accepting;
+        // assigned during the sequential numbering phase, -1 if not yet numbered
+        private int id;
+
+        Subset(BitSet states, BitSet acceptingStates) {
+            this.states = states;
+            this.hash = states.hashCode();
+            this.accepting = states.intersects(acceptingStates);
+            this.id = -1;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Subset)) {
+                return false;
+            }
+            final Subset that = (Subset) o;
+            return hash == that.hash && states.equals(that.states);
+        }
+    }
+
+    /**
+     * Computes the successor subsets of a range of the current frontier, recursively splitting the range so that idle
+     * worker threads can steal parts of it.
+     */
+    private static final class ExpandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 32;
+
+        private final CompactNFA<?> nfa;
+        private final int[] inputIndices;
+        private final BitSet accepting;
+        private final boolean partial;
+        private final Map<Subset, Subset> subsets;
+        private final Subset[] frontier;
+        private final @Nullable Subset[] successors;
+        private final int low;
+        private final int high;
+
+        ExpandTask(CompactNFA<?> nfa,
+                   int[] inputIndices,
+                   BitSet accepting,
+                   boolean partial,
+                   Map<Subset, Subset> subsets,
+                   Subset[] frontier,
+                   @Nullable Subset[] successors,
+                   int low,
+                   int high) {
+            this.nfa = nfa;
+            this.inputIndices = inputIndices;
+            this.accepting = accepting;
+            this.partial = partial;
+            this.subsets = subsets;
+            this.frontier = frontier;
+            this.successors = successors;
+            this.low = low;
+            this.high = high;
+        }
+
+        private ExpandTask subTask(int low, int high) {
+            return new ExpandTask(nfa, inputIndices, accepting, partial, subsets, frontier, successors, low, high);
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > THRESHOLD) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(subTask(low, mid), subTask(mid, high));
+                return;
+            }
+
+            final int numInputs = inputIndices.length;
+            final BitSet scratch = new BitSet();
+
+            for (int f = low; f < high; f++) {
+                final BitSet subset = frontier[f].states;
+
+                for (int i = 0; i < numInputs; i++) {
+                    computeSuccessors(nfa, subset, inputIndices[i], scratch);
+
+                    if (partial && scratch.isEmpty()) {
+                        continue;
+                    }
+
+                    final Subset probe = new Subset(scratch, accepting);
+                    Subset succ = subsets.get(probe);
+                    if (succ == null) {
+                        final Subset key = new Subset((BitSet) scratch.clone(), accepting);
+                        final Subset existing = subsets.putIfAbsent(key, key);
+                        succ = existing == null ? key : existing;
+                    }
+                    successors[f * numInputs + i] = succ;
+                }
+            }
+        }
+    }
+
+    /**
+     * An open-addressing hash table that assigns contiguous ids to (copies of) the subsets inserted into it.
+     */
+    private static final class SubsetTable {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private BitSet[] subsets;
+        private int[] hashes;
+        // ids of the stored subsets (+1), 0 denotes an empty slot
+        private int[] buckets;
+        private int size;
+
+        SubsetTable() {
+            this.subsets = new BitSet[INITIAL_CAPACITY];
+            this.hashes = new int[INITIAL_CAPACITY];
+            this.buckets = new int[INITIAL_CAPACITY * 2];
+        }
+
+        int size() {
+            return size;
+        }
+
+        BitSet get(int id) {
+            return subsets[id];
+        }
+
+        /**
+         * Looks up the given subset and inserts a copy of it, if it is not contained yet.
+         *
+         * @param subset
+         *         the subset to look up
+         *
+         * @return the id of the subset, if it was already contained, or {@code -id - 1} if it has been newly inserted
+         */
+        int intern(BitSet subset) {
+            final int hash = spread(subset.hashCode());
+            final int mask = buckets.length - 1;
+
+            int pos = hash & mask;
+            int entry;
+            while ((entry = buckets[pos]) != 0) {
+                final int id = entry - 1;
+                if (hashes[id] == hash && subsets[id].equals(subset)) {
+                    return id;
+                }
+                pos = (pos + 1) & mask;
+            }
+
+            final int id = size++;
+            if (id == subsets.length) {
+                final BitSet[] newSubsets = new BitSet[id * 2];
+                final int[] newHashes = new int[id * 2];
+                System.arraycopy(subsets, 0, newSubsets, 0, id);
+                System.arraycopy(hashes, 0, newHashes, 0, id);
+                subsets = newSubsets;
+                hashes = newHashes;
+            }
+
+            subsets[id] = (BitSet) subset.clone();
+            hashes[id] = hash;
+            buckets[pos] = id + 1;
+
+            // keep the load factor at or below 0.5
+            if (2 * size > buckets.length) {
+                rehash();
+            }
+
+            return -id - 1;
+        }
+
+        private void rehash() {
+            final int[] newBuckets = new int[buckets.length * 2];
+            final int mask = newBuckets.length - 1;
+
+            for (int id = 0; id < size; id++) {
+                int pos = hashes[id] & mask;
+                while (newBuckets[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                newBuckets[pos] = id + 1;
+            }
+
+            buckets = newBuckets;
+        }
+
+        private static int spread(int hash) {
+            final int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
@@ -34,6 +35,7 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.ts.acceptor.AcceptorTS;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import net.automatalib.util.ts.acceptor.Acceptors;
 import net.automatalib.util.ts.copy.TSCopy;
@@ -354,6 +356,10 @@ public final class NFAs {
 
     /**
      * Determinizes the given NFA, and returns the result as a new DFA.
+     * <p>
+     * If the given NFA is a {@link CompactNFA}, a specialized subset construction is used that operates directly on the
+     * internal representation of the NFA and only allocates memory for newly discovered subsets. Furthermore, complete
+     * DFAs are minimized via {@link HopcroftMinimization}.
      *
      * @param nfa
      *         the original NFA
@@ -372,11 +378,86 @@ public final class NFAs {
                                                 Alphabet<I> inputAlphabet,
                                                 boolean partial,
                                                 boolean minimize) {
+        if (nfa instanceof CompactNFA) {
+            final CompactDFA<I> result =
+                    CompactNFADeterminizer.determinize((CompactNFA<I>) nfa, inputAlphabet, partial);
+            return minimizeDeterminized(result, inputAlphabet, partial, minimize);
+        }
+
         CompactDFA<I> result = new CompactDFA<>(inputAlphabet);
         determinize(nfa, inputAlphabet, result, partial, minimize);
         return result;
     }
 
+    /**
+     * Determinizes the given NFA using multiple threads, and returns the result as a new complete DFA.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param parallelism
+     *         the number of threads to use
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the determinized NFA
+     *
+     * @see #determinizeParallel(CompactNFA, Alphabet, boolean, boolean, int)
+     */
+    public static <I> CompactDFA<I> determinizeParallel(CompactNFA<I> nfa, int parallelism) {
+        return determinizeParallel(nfa, nfa.getInputAlphabet(), false, true, parallelism);
+    }
+
+    /**
+     * Determinizes the given NFA using multiple threads, and returns the result as a new DFA.
+     * <p>
+     * The subsets of each breadth-first level are expanded in parallel by a work-stealing {@link ForkJoinPool} and
+     * interned in a concurrent table. The states of the resulting DFA are numbered canonically (in the order of their
+     * breadth-first discovery), so that the result is identical to that of {@link #determinize(NFA, Alphabet, boolean,
+     * boolean)}, regardless of the number of threads used.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param partial
+     *         allows the new DFA to be partial
+     * @param minimize
+     *         whether to minimize the DFA
+     * @param parallelism
+     *         the number of threads to use
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the determinized NFA
+     */
+    public static <I> CompactDFA<I> determinizeParallel(CompactNFA<I> nfa,
+                                                        Alphabet<I> inputAlphabet,
+                                                        boolean partial,
+                                                        boolean minimize,
+                                                        int parallelism) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final CompactDFA<I> result =
+                    CompactNFADeterminizer.determinizeParallel(nfa, inputAlphabet, partial, pool);
+            return minimizeDeterminized(result, inputAlphabet, partial, minimize);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <I> CompactDFA<I> minimizeDeterminized(CompactDFA<I> dfa,
+                                                          Alphabet<I> inputAlphabet,
+                                                          boolean partial,
+                                                          boolean minimize) {
+        if (!minimize) {
+            return dfa;
+        } else if (partial) {
+            return Automata.invasiveMinimize(dfa, inputAlphabet);
+        } else {
+            return HopcroftMinimization.minimizeDFA(dfa, inputAlphabet);
+        }
+    }
+
     /**
      * Determinizes the given NFA, and stores the result in a given mutable DFA.
      *
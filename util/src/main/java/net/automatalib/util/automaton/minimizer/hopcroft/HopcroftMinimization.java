@@ -32,6 +32,7 @@ import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
 import net.automatalib.util.partitionrefinement.PaigeTarjan;
 import net.automatalib.util.partitionrefinement.PaigeTarjanExtractors;
 import net.automatalib.util.partitionrefinement.PaigeTarjanInitializers;
+import net.automatalib.util.partitionrefinement.RefinementOptions;
 
 /**
  * Versions of Hopcroft's minimization algorithm for deterministic finite automata.
@@ -152,7 +153,27 @@ public final class HopcroftMinimization {
                                                                 Alphabet<I> alphabet,
                                                                 PruningMode pruningMode,
                                                                 AutomatonCreator<A, I> creator) {
-        return minimizeUniversal(dfa, alphabet, creator, AutomatonInitialPartitioning.BY_STATE_PROPERTY, pruningMode);
+
+        final PaigeTarjan pt = new PaigeTarjan();
+        final FullIntAbstraction<?, Boolean, Void> abs = dfa.fullIntAbstraction(alphabet);
+
+        // DFAs only distinguish accepting and rejecting states, which allows for a (memory-)cheaper initialization
+        PaigeTarjanInitializers.initCompleteDeterministic(pt,
+                                                          abs,
+                                                          s -> abs.getStateProperty(s) ? 1 : 0,
+                                                          2,
+                                                          pruningMode == PruningMode.PRUNE_BEFORE);
+
+        pt.initWorklist(false);
+        pt.computeCoarsestStablePartition();
+
+        return PaigeTarjanExtractors.toDeterministic(pt,
+                                                     creator,
+                                                     alphabet,
+                                                     abs,
+                                                     abs::getStateProperty,
+                                                     abs::getTransitionProperty,
+                                                     pruningMode == PruningMode.PRUNE_AFTER);
     }
 
     /**
@@ -303,14 +324,53 @@ public final class HopcroftMinimization {
             AutomatonCreator<A, I> creator,
             AutomatonInitialPartitioning ap,
             PruningMode pruningMode) {
+        return minimizeUniversal(automaton, alphabet, creator, ap, pruningMode, RefinementOptions.SEQUENTIAL);
+    }
+
+    /**
+     * Minimizes the given automaton depending on the given partitioning function.
+     *
+     * @param automaton
+     *         the automaton to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the resulting Mealy machine)
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param ap
+     *         the initial partitioning function, determining how states will be distinguished
+     * @param pruningMode
+     *         the pruning mode
+     * @param options
+     *         the options controlling how the partition is refined (e.g., in parallel)
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the minimized automaton, initially constructed from the given {@code creator}.
+     *
+     * @see AutomatonInitialPartitioning
+     */
+    public static <I, T, SP, TP, A extends MutableDeterministic<?, I, ?, SP, TP>> A minimizeUniversal(
+            UniversalDeterministicAutomaton<?, I, T, SP, TP> automaton,
+            Alphabet<I> alphabet,
+            AutomatonCreator<A, I> creator,
+            AutomatonInitialPartitioning ap,
+            PruningMode pruningMode,
+            RefinementOptions options) {
 
         final PaigeTarjan pt = new PaigeTarjan();
         final FullIntAbstraction<T, SP, TP> abs = automaton.fullIntAbstraction(alphabet);
 
         PaigeTarjanInitializers.initCompleteDeterministic(pt, abs, ap, pruningMode == PruningMode.PRUNE_BEFORE);
 
-        pt.initWorklist(false);
-        pt.computeCoarsestStablePartition();
+        options.computeCoarsestStablePartition(pt);
 
         @SuppressWarnings("nullness") // getTransitionProperty will only be called for defined transitions
         final A result = PaigeTarjanExtractors.toDeterministic(pt,
@@ -0,0 +1,356 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer.hopcroft;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.MutableDeterministic;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import net.automatalib.util.partitionrefinement.PaigeTarjan;
+import net.automatalib.util.partitionrefinement.PaigeTarjanExtractors;
+import net.automatalib.util.partitionrefinement.PaigeTarjanInitializers;
+
+/**
+ * A stateful version of {@link HopcroftMinimization} for (complete) automata that grow over time, e.g., the hypotheses
+ * of an active learning process.
+ * <p>
+ * The minimizer keeps the partition of the previous invocation of {@link #minimize(AutomatonCreator)} as well as the
+ * predecessor relation of the automaton. Besides new states and new input symbols (which are detected automatically),
+ * all changes to (the transitions or properties of) existing states have to be announced via
+ * {@link #stateChanged(Object)}. When minimizing, only the states that may reach a changed state (the <i>affected</i>
+ * states) have to be re-classified: any two unaffected states are equivalent if and only if they have been equivalent
+ * before. Therefore, each class of unaffected states is collapsed to a single representative, and the partition
+ * refinement only runs on the affected states and these representatives. If no state has changed, the previous
+ * partition is re-used as-is.
+ * <p>
+ * Note that the affected states are computed via a backwards-search from the changed states. For strongly connected
+ * automata, this may still include all states, in which case the costs of an invocation are comparable to those of
+ * {@link HopcroftMinimization}.
+ *
+ * @param <S>
+ *         state type
+ * @param <I>
+ *         input symbol type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
+public class IncrementalHopcroftMinimizer<S, I, SP, TP> {
+
+    private final UniversalDeterministicAutomaton<S, I, ?, SP, TP> automaton;
+    private final Alphabet<I> alphabet;
+    private final AutomatonInitialPartitioning ap;
+
+    private final BitSet changed;
+
+    // snapshot of the transition function, indexed by state * numInputs + input
+    private int[] successors;
+    // per state, the (possibly repeated) sources of its incoming transitions
+    private int[][] predecessors;
+    private int[] numPredecessors;
+    private int numStates;
+    private int numInputs;
+
+    // the partition of the last invocation, indexed by original state ids
+    private int[] blockForState;
+    private int numBlocks;
+
+    // mapping between the original states and the states of the (reduced) refinement problem
+    private int[] reducedForState;
+    private int[] stateForReduced;
+    private int numReduced;
+    private PaigeTarjan pt;
+
+    /**
+     * Constructor.
+     *
+     * @param automaton
+     *         the automaton to minimize. All subsequent changes to the automaton have to be announced to this
+     *         minimizer (see {@link #stateChanged(Object)})
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the minimized automata). If symbols are added to
+     *         the alphabet, all states of the automaton are considered as changed
+     * @param ap
+     *         the initial partitioning function, determining how states will be distinguished
+     */
+    public IncrementalHopcroftMinimizer(UniversalDeterministicAutomaton<S, I, ?, SP, TP> automaton,
+                                        Alphabet<I> alphabet,
+                                        AutomatonInitialPartitioning ap) {
+        this.automaton = automaton;
+        this.alphabet = alphabet;
+        this.ap = ap;
+        this.changed = new BitSet();
+
+        this.successors = new int[0];
+        this.predecessors = new int[0][];
+        this.numPredecessors = new int[0];
+        this.blockForState = new int[0];
+        this.reducedForState = new int[0];
+        this.stateForReduced = new int[0];
+        this.pt = new PaigeTarjan();
+    }
+
+    /**
+     * Announces that the outgoing transitions (i.e., their successors or properties) or the property of the given state
+     * have changed since the last invocation of {@link #minimize(AutomatonCreator)}.
+     *
+     * @param state
+     *         the changed state
+     */
+    public void stateChanged(S state) {
+        changed.set(automaton.stateIDs().getStateId(state));
+    }
+
+    /**
+     * Computes the minimized version of the current automaton, pruning unreachable states. The partition computed by
+     * this invocation is used to speed up subsequent invocations.
+     *
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param <A>
+     *         automaton type
+     *
+     * @return the minimized automaton, initially constructed from the given {@code creator}
+     *
+     * @throws IllegalArgumentException
+     *         if the automaton is partial
+     */
+    public <A extends MutableDeterministic<?, I, ?, SP, TP>> A minimize(AutomatonCreator<A, I> creator) {
+        final FullIntAbstraction<?, SP, TP> abs = automaton.fullIntAbstraction(alphabet);
+
+        if (updateStructure(abs)) {
+            refine(abs);
+        }
+
+        final ReducedAbstraction reduced = new ReducedAbstraction(abs);
+
+        @SuppressWarnings("nullness") // getTransitionProperty will only be called for defined transitions
+        final A result = PaigeTarjanExtractors.toDeterministic(pt,
+                                                               creator,
+                                                               alphabet,
+                                                               reduced,
+                                                               r -> abs.getStateProperty(stateForReduced[r]),
+                                                               (r, i) -> abs.getTransitionProperty(stateForReduced[r],
+                                                                                                   i),
+                                                               true);
+
+        return result;
+    }
+
+    /**
+     * Synchronizes the snapshot of the transition function and the predecessor relation with the current automaton.
+     *
+     * @return {@code true} if the partition needs to be refined, {@code false} otherwise
+     */
+    private boolean updateStructure(FullIntAbstraction<?, SP, TP> abs) {
+        final int size = abs.size();
+        final int inputs = abs.numInputs();
+
+        if (inputs != numInputs || size < numStates) {
+            // new symbols affect every state, so start from scratch
+            reset(size, inputs);
+        } else if (size > numStates) {
+            grow(size);
+        }
+
+        if (changed.isEmpty()) {
+            return false;
+        }
+
+        for (int s = changed.nextSetBit(0); s >= 0; s = changed.nextSetBit(s + 1)) {
+            int idx = s * numInputs;
+            for (int i = 0; i < numInputs; i++, idx++) {
+                final int succ = abs.getSuccessor(s, i);
+                if (succ < 0) {
+                    throw new IllegalArgumentException("Automaton must not be partial");
+                }
+                final int oldSucc = successors[idx];
+                if (oldSucc != succ) {
+                    if (oldSucc >= 0) {
+                        removePredecessor(oldSucc, s);
+                    }
+                    addPredecessor(succ, s);
+                    successors[idx] = succ;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void reset(int size, int inputs) {
+        this.numStates = size;
+        this.numInputs = inputs;
+        this.successors = new int[size * inputs];
+        this.predecessors = new int[size][];
+        this.numPredecessors = new int[size];
+        this.blockForState = new int[size];
+
+        Arrays.fill(successors, -1);
+        changed.set(0, size);
+    }
+
+    private void grow(int size) {
+        this.successors = Arrays.copyOf(successors, size * numInputs);
+        this.predecessors = Arrays.copyOf(predecessors, size);
+        this.numPredecessors = Arrays.copyOf(numPredecessors, size);
+        this.blockForState = Arrays.copyOf(blockForState, size);
+
+        Arrays.fill(successors, numStates * numInputs, size * numInputs, -1);
+        changed.set(numStates, size);
+        this.numStates = size;
+    }
+
+    private void addPredecessor(int state, int pred) {
+        int[] preds = predecessors[state];
+        final int num = numPredecessors[state];
+
+        if (preds == null) {
+            preds = new int[Math.max(numInputs, 1)];
+            predecessors[state] = preds;
+        } else if (num == preds.length) {
+            preds = Arrays.copyOf(preds, num * 2);
+            predecessors[state] = preds;
+        }
+
+        preds[num] = pred;
+        numPredecessors[state] = num + 1;
+    }
+
+    private void removePredecessor(int state, int pred) {
+        final int[] preds = predecessors[state];
+        final int last = numPredecessors[state] - 1;
+
+        for (int i = last; i >= 0; i--) {
+            if (preds[i] == pred) {
+                preds[i] = preds[last];
+                numPredecessors[state] = last;
+                return;
+            }
+        }
+
+        throw new AssertionError("Inconsistent predecessor data");
+    }
+
+    private void refine(FullIntAbstraction<?, SP, TP> abs) {
+
+        // compute all states that may reach a changed state
+        final BitSet affected = (BitSet) changed.clone();
+        final int[] queue = new int[numStates];
+        int head = 0;
+        int tail = 0;
+
+        for (int s = affected.nextSetBit(0); s >= 0; s = affected.nextSetBit(s + 1)) {
+            queue[tail++] = s;
+        }
+
+        while (head < tail) {
+            final int curr = queue[head++];
+            final int[] preds = predecessors[curr];
+            final int num = numPredecessors[curr];
+            for (int i = 0; i < num; i++) {
+                final int pred = preds[i];
+                if (!affected.get(pred)) {
+                    affected.set(pred);
+                    queue[tail++] = pred;
+                }
+            }
+        }
+
+        // collapse each class of unaffected states to its first member
+        final int[] reducedForBlock = new int[numBlocks];
+        Arrays.fill(reducedForBlock, -1);
+
+        this.reducedForState = new int[numStates];
+        this.stateForReduced = new int[numStates];
+        this.numReduced = 0;
+
+        for (int s = 0; s < numStates; s++) {
+            if (affected.get(s)) {
+                reducedForState[s] = numReduced;
+                stateForReduced[numReduced++] = s;
+            } else {
+                final int block = blockForState[s];
+                int reduced = reducedForBlock[block];
+                if (reduced < 0) {
+                    reduced = numReduced;
+                    reducedForBlock[block] = reduced;
+                    stateForReduced[numReduced++] = s;
+                }
+                reducedForState[s] = reduced;
+            }
+        }
+
+        final IntFunction<?> classifier = ap.initialClassifier(abs);
+
+        this.pt = new PaigeTarjan();
+        PaigeTarjanInitializers.initCompleteDeterministic(pt,
+                                                          new ReducedAbstraction(abs),
+                                                          r -> classifier.apply(stateForReduced[r]),
+                                                          false);
+        pt.initWorklist(false);
+        pt.computeCoarsestStablePartition();
+
+        for (int s = 0; s < numStates; s++) {
+            blockForState[s] = pt.getBlockForState(reducedForState[s]).id;
+        }
+        this.numBlocks = pt.getNumBlocks();
+
+        changed.clear();
+    }
+
+    /**
+     * The automaton in which each class of unaffected states is represented by a single state.
+     */
+    private final class ReducedAbstraction implements SimpleDeterministicAutomaton.FullIntAbstraction {
+
+        private final FullIntAbstraction<?, SP, TP> abs;
+
+        ReducedAbstraction(FullIntAbstraction<?, SP, TP> abs) {
+            this.abs = abs;
+        }
+
+        @Override
+        public int getSuccessor(int state, int input) {
+            final int succ = abs.getSuccessor(stateForReduced[state], input);
+            return succ < 0 ? succ : reducedForState[succ];
+        }
+
+        @Override
+        public int numInputs() {
+            return numInputs;
+        }
+
+        @Override
+        public int getIntInitialState() {
+            final int init = abs.getIntInitialState();
+            return init < 0 ? init : reducedForState[init];
+        }
+
+        @Override
+        public int size() {
+            return numReduced;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
 import net.automatalib.util.partitionrefinement.PaigeTarjan;
 import net.automatalib.util.partitionrefinement.PaigeTarjanExtractors;
 import net.automatalib.util.partitionrefinement.PaigeTarjanInitializers;
+import net.automatalib.util.partitionrefinement.RefinementOptions;
 import net.automatalib.util.partitionrefinement.StateSignature;
 
 /**
@@ -108,7 +109,24 @@ public final class PaigeTarjanMinimization {
     public static <A extends MutableDFA<?, I>, I> A minimizeDFA(DFA<?, I> dfa,
                                                                 Alphabet<I> alphabet,
                                                                 AutomatonCreator<A, I> creator) {
-        return minimizeUniversal(dfa, alphabet, creator, AutomatonInitialPartitioning.BY_STATE_PROPERTY, Boolean.FALSE);
+
+        final PaigeTarjan pt = new PaigeTarjan();
+        final FullIntAbstraction<?, Boolean, Void> abs = dfa.fullIntAbstraction(alphabet);
+
+        // DFAs only distinguish accepting and rejecting states, which allows for a (memory-)cheaper initialization.
+        // The sink is rejecting.
+        PaigeTarjanInitializers.initDeterministic(pt, abs, s -> abs.getStateProperty(s) ? 1 : 0, 2, 0);
+
+        pt.initWorklist(false);
+        pt.computeCoarsestStablePartition();
+
+        return PaigeTarjanExtractors.toDeterministic(pt,
+                                                     creator,
+                                                     alphabet,
+                                                     abs,
+                                                     abs::getStateProperty,
+                                                     abs::getTransitionProperty,
+                                                     true);
     }
 
     /**
@@ -215,14 +233,57 @@ public final class PaigeTarjanMinimization {
             AutomatonCreator<A, I> creator,
             AutomatonInitialPartitioning ap,
             Object sinkClassification) {
+        return minimizeUniversal(automaton, alphabet, creator, ap, sinkClassification, RefinementOptions.SEQUENTIAL);
+    }
+
+    /**
+     * Minimizes the given automaton depending on the given partitioning function. The {@code sinkClassification} is
+     * used to describe the signature of the sink state ("successor" of undefined transitions) and may introduce a new,
+     * on-the-fly equivalence class if it doesn't match a signature of any existing state. See the {@link
+     * StateSignature} class for creating signatures for existing states.
+     *
+     * @param automaton
+     *         the automaton to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the resulting Mealy machine)
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param ap
+     *         the initial partitioning function, determining how states will be distinguished
+     * @param sinkClassification
+     *         the classification used when an undefined transition is encountered
+     * @param options
+     *         the options controlling how the partition is refined (e.g., in parallel)
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the minimized automaton, initially constructed from the given {@code creator}.
+     *
+     * @see AutomatonInitialPartitioning
+     * @see StateSignature
+     */
+    public static <I, T, SP, TP, A extends MutableDeterministic<?, I, ?, SP, TP>> A minimizeUniversal(
+            UniversalDeterministicAutomaton<?, I, T, SP, TP> automaton,
+            Alphabet<I> alphabet,
+            AutomatonCreator<A, I> creator,
+            AutomatonInitialPartitioning ap,
+            Object sinkClassification,
+            RefinementOptions options) {
 
         final PaigeTarjan pt = new PaigeTarjan();
         final FullIntAbstraction<T, SP, TP> abs = automaton.fullIntAbstraction(alphabet);
 
         PaigeTarjanInitializers.initDeterministic(pt, abs, ap.initialClassifier(abs), sinkClassification);
 
-        pt.initWorklist(false);
-        pt.computeCoarsestStablePartition();
+        options.computeCoarsestStablePartition(pt);
 
         return PaigeTarjanExtractors.toDeterministic(pt,
                                                      creator,
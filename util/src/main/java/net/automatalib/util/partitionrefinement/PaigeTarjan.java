@@ -241,9 +241,30 @@ public class PaigeTarjan {
     }
 
     /**
-     * Refines the partition until it stabilizes.
+     * Refines the partition until it stabilizes. This method assumes that the predecessor data describes a complete
+     * deterministic transition function, i.e., every state has exactly one successor for every input symbol.
+     *
+     * @see #computeCoarsestStablePartition(boolean)
      */
     public void computeCoarsestStablePartition() {
+        computeCoarsestStablePartition(false);
+    }
+
+    /**
+     * Refines the partition until it stabilizes.
+     * <p>
+     * If {@code nondeterministic} is {@code false}, the predecessor data is assumed to describe a complete deterministic
+     * transition function. This allows to only re-consider the smaller half of a split block as a splitter (Hopcroft's
+     * trick). If {@code nondeterministic} is {@code true}, the predecessor data may describe an arbitrary transition
+     * relation, i.e., states may have zero or multiple successors for a single input symbol. In this case, both halves
+     * of a split block are re-considered as splitters (unless the block is still pending in the worklist), which yields
+     * the coarsest partition that is stable w.r.t. every input relation (i.e., a bisimulation). Note that in the
+     * nondeterministic case, the worklist should be initialized with all blocks (see {@link #initWorklist(boolean)}).
+     *
+     * @param nondeterministic
+     *         whether the predecessor data describes a (potentially) nondeterministic transition relation
+     */
+    public void computeCoarsestStablePartition(boolean nondeterministic) {
         Block curr;
         while ((curr = poll()) != null) {
             int blockRange = curr.high - curr.low;
@@ -263,7 +284,7 @@ public class PaigeTarjan {
                     }
                 }
                 predOfsBase += numStates;
-                processTouched();
+                processTouched(nondeterministic);
             }
         }
     }
@@ -317,13 +338,20 @@ public class PaigeTarjan {
         }
     }
 
-    private void processTouched() {
+    private boolean isInWorklist(Block b) {
+        return b.nextInWorklist != null || b == worklistTail;
+    }
+
+    private void processTouched(boolean nondeterministic) {
         Block b = touchedHead;
         while (b != null) {
             Block next = b.nextTouched;
             b.nextTouched = null;
             Block splt = split(b);
             if (splt != null) {
+                if (nondeterministic && !isInWorklist(b)) {
+                    addToWorklist(b);
+                }
                 addToWorklist(splt);
             }
             b = next;
@@ -353,6 +381,59 @@ public class PaigeTarjan {
         return splt;
     }
 
+    /**
+     * Replaces the current partition (i.e., the block list, the {@link #blockData}, the {@link #posData}, and the
+     * {@link #blockForState} mapping) by the given one. This allows to import the result of a different refinement
+     * algorithm (e.g., {@link SignatureRefinement}), so that the resulting partition can be processed via the
+     * {@link PaigeTarjanExtractors}. Block {@code i} will have the ID {@code i}.
+     * <p>
+     * Note that this method clears the worklist.
+     *
+     * @param blockIds
+     *         for each state, the ID of its block, or a negative value if the state should not be contained in any
+     *         block (e.g., because it is unreachable)
+     * @param numBlocks
+     *         the number of blocks, all of which need to be non-empty
+     */
+    public void setPartition(int[] blockIds, int numBlocks) {
+        final Block[] blocks = new Block[numBlocks];
+
+        this.blocklistHead = null;
+        this.worklistHead = null;
+        this.worklistTail = null;
+        this.touchedHead = null;
+        this.numBlocks = 0;
+
+        for (int i = numBlocks - 1; i >= 0; i--) {
+            final Block b = new Block(0, 0, i, blocklistHead);
+            blocklistHead = b;
+            blocks[i] = b;
+        }
+        this.numBlocks = numBlocks;
+
+        for (int i = 0; i < numStates; i++) {
+            final int id = blockIds[i];
+            if (id >= 0) {
+                blocks[id].high++;
+            }
+        }
+
+        canonizeBlocks();
+
+        for (int i = numStates - 1; i >= 0; i--) {
+            final int id = blockIds[i];
+            if (id >= 0) {
+                final Block b = blocks[id];
+                final int pos = --b.low;
+                blockData[pos] = i;
+                posData[posDataLow + i] = pos;
+                blockForState[i] = b;
+            } else {
+                blockForState[i] = null;
+            }
+        }
+    }
+
     /**
      * Creates a new block. The {@link Block#low} and {@link Block#high} fields will be initialized to {@code -1}.
      *
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
 
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
@@ -214,6 +215,204 @@ public final class PaigeTarjanInitializers {
         updatePTFields(pt, data, posDataLow, predOfsDataLow, blockForState, numStates, numInputs);
     }
 
+    /**
+     * Initializes the partition refinement data structure from a given abstracted deterministic automaton, partitioning
+     * states according to the given integer classification function.
+     * <p>
+     * Contrary to {@link #initCompleteDeterministic(PaigeTarjan, FullIntAbstraction, IntFunction, boolean)}, this
+     * method is tailored towards large automata: The initial classification function must return class indices in the
+     * range of {@code 0} (inclusive) to {@code numClasses} (exclusive), so that states can be assigned to their blocks
+     * without hashing or boxing any classification objects. Furthermore, the block, position and predecessor data is
+     * allocated in separate arrays (see {@link PaigeTarjan#setBlockData(int[])}, etc.) rather than a single one, which
+     * avoids a single huge allocation of contiguous memory.
+     *
+     * @param pt
+     *         the partition refinement data structure
+     * @param absAutomaton
+     *         the abstraction of the input automaton
+     * @param initialClassification
+     *         the function determining the (index of the) initial class of each state
+     * @param numClasses
+     *         the number of initial classes
+     * @param pruneUnreachable
+     *         whether to prune unreachable states during initialization
+     */
+    public static void initCompleteDeterministic(PaigeTarjan pt,
+                                                 SimpleDeterministicAutomaton.FullIntAbstraction absAutomaton,
+                                                 IntUnaryOperator initialClassification,
+                                                 int numClasses,
+                                                 boolean pruneUnreachable) {
+        initCompact(pt, absAutomaton, initialClassification, numClasses, -1, pruneUnreachable);
+    }
+
+    /**
+     * Initializes the partition refinement data structure from a given deterministic automaton, partitioning states
+     * according to the given integer classification function.
+     * <p>
+     * This method can be used for automata with partially defined transition functions. It is the low-memory
+     * counterpart of {@link #initDeterministic(PaigeTarjan, FullIntAbstraction, IntFunction, Object)}, see
+     * {@link #initCompleteDeterministic(PaigeTarjan, FullIntAbstraction, IntUnaryOperator, int, boolean)} for
+     * details.
+     *
+     * @param pt
+     *         the partition refinement data structure
+     * @param absAutomaton
+     *         the abstraction of the input automaton
+     * @param initialClassification
+     *         the function determining the (index of the) initial class of each state
+     * @param numClasses
+     *         the number of initial classes (including the class of the sink)
+     * @param sinkClassification
+     *         the (index of the) class of the sink
+     */
+    public static void initDeterministic(PaigeTarjan pt,
+                                         SimpleDeterministicAutomaton.FullIntAbstraction absAutomaton,
+                                         IntUnaryOperator initialClassification,
+                                         int numClasses,
+                                         int sinkClassification) {
+        if (sinkClassification < 0 || sinkClassification >= numClasses) {
+            throw new IllegalArgumentException("Invalid sink classification: " + sinkClassification);
+        }
+        initCompact(pt, absAutomaton, initialClassification, numClasses, sinkClassification, true);
+        pt.removeEmptyBlocks();
+    }
+
+    /*
+     * If sinkClassification is negative, the automaton must be complete. Otherwise, undefined transitions point to an
+     * artificial sink (with id numStates) and unreachable states are always pruned.
+     */
+    private static void initCompact(PaigeTarjan pt,
+                                    SimpleDeterministicAutomaton.FullIntAbstraction absAutomaton,
+                                    IntUnaryOperator initialClassification,
+                                    int numClasses,
+                                    int sinkClassification,
+                                    boolean pruneUnreachable) {
+
+        final boolean partial = sinkClassification >= 0;
+        final int numStates = absAutomaton.size();
+        final int numInputs = absAutomaton.numInputs();
+
+        final int sinkId = numStates;
+        final int numStatesWithSink = partial ? numStates + 1 : numStates;
+        final int numTransitions = numStatesWithSink * numInputs;
+
+        final Block[] blockForState = new Block[numStatesWithSink];
+        final Block[] blocks = new Block[numClasses];
+        final int[] predOfsData = new int[numTransitions + 1];
+
+        // first pass: classify (reachable) states and count predecessors
+        final int[] statesBuff;
+        int numReached;
+
+        if (pruneUnreachable) {
+            statesBuff = new int[numStatesWithSink];
+            final int init = absAutomaton.getIntInitialState();
+            blockForState[init] = getOrCreateBlock(blocks, initialClassification.applyAsInt(init), pt);
+            statesBuff[0] = init;
+            numReached = 1;
+
+            int statesPtr = 0;
+            while (statesPtr < numReached) {
+                final int curr = statesBuff[statesPtr++];
+                int predCountBase = 0;
+
+                for (int i = 0; i < numInputs; i++) {
+                    final int succ = getSuccessor(absAutomaton, curr, i, sinkId, partial);
+
+                    if (blockForState[succ] == null) {
+                        final int succClass =
+                                succ == sinkId && partial ? sinkClassification : initialClassification.applyAsInt(succ);
+                        blockForState[succ] = getOrCreateBlock(blocks, succClass, pt);
+                        statesBuff[numReached++] = succ;
+                    }
+                    predOfsData[predCountBase + succ]++;
+                    predCountBase += numStatesWithSink;
+                }
+            }
+        } else {
+            statesBuff = null;
+            numReached = numStatesWithSink;
+
+            for (int s = 0; s < numStatesWithSink; s++) {
+                blockForState[s] = getOrCreateBlock(blocks, initialClassification.applyAsInt(s), pt);
+                int predCountBase = 0;
+
+                for (int i = 0; i < numInputs; i++) {
+                    final int succ = getSuccessor(absAutomaton, s, i, sinkId, partial);
+                    predOfsData[predCountBase + succ]++;
+                    predCountBase += numStatesWithSink;
+                }
+            }
+        }
+
+        pt.canonizeBlocks();
+        prefixSum(predOfsData, 0, predOfsData.length);
+
+        // second pass: place states in their blocks and fill in the predecessors
+        final int[] blockData = new int[numStatesWithSink];
+        final int[] posData = new int[numStatesWithSink];
+        final int[] predData = new int[numTransitions];
+
+        for (int i = 0; i < numReached; i++) {
+            final int state = statesBuff == null ? i : statesBuff[i];
+            final Block b = blockForState[state];
+            final int pos = --b.low;
+            blockData[pos] = state;
+            posData[state] = pos;
+
+            int predOfsBase = 0;
+
+            for (int j = 0; j < numInputs; j++) {
+                final int succ = getSuccessor(absAutomaton, state, j, sinkId, partial);
+                predData[--predOfsData[predOfsBase + succ]] = state;
+                predOfsBase += numStatesWithSink;
+            }
+        }
+
+        pt.setBlockData(blockData);
+        pt.setPosData(posData, 0);
+        pt.setPredOfsData(predOfsData, 0);
+        pt.setPredData(predData);
+        pt.setBlockForState(blockForState);
+        pt.setSize(numStatesWithSink, numInputs);
+    }
+
+    private static int getSuccessor(SimpleDeterministicAutomaton.FullIntAbstraction absAutomaton,
+                                    int state,
+                                    int input,
+                                    int sinkId,
+                                    boolean partial) {
+        if (partial && state == sinkId) {
+            return sinkId;
+        }
+
+        final int succ = absAutomaton.getSuccessor(state, input);
+
+        if (succ < 0) {
+            if (!partial) {
+                throw new IllegalArgumentException("Automaton must not be partial");
+            }
+            return sinkId;
+        }
+
+        return succ;
+    }
+
+    private static Block getOrCreateBlock(@Nullable Block[] blocks, int classification, PaigeTarjan pt) {
+        if (classification < 0 || classification >= blocks.length) {
+            throw new IllegalArgumentException("Invalid classification: " + classification);
+        }
+
+        Block block = blocks[classification];
+        if (block == null) {
+            block = pt.createBlock();
+            block.high = 0;
+            blocks[classification] = block;
+        }
+        block.high++;
+        return block;
+    }
+
     public static void prefixSum(int[] array, int startInclusive, int endExclusive) {
         Arrays.parallelPrefix(array, startInclusive, endExclusive, Integer::sum);
     }
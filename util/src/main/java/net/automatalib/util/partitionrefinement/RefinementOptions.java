@@ -0,0 +1,75 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.partitionrefinement;
+
+/**
+ * Options that control how the coarsest stable partition of an initialized {@link PaigeTarjan} data structure is
+ * computed by the partition refinement based minimizers.
+ */
+public final class RefinementOptions {
+
+    /**
+     * The default options, which refine the partition sequentially via {@link PaigeTarjan}.
+     */
+    public static final RefinementOptions SEQUENTIAL = new RefinementOptions(1);
+
+    private final int parallelism;
+
+    private RefinementOptions(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns options which refine the partition via the parallel {@link SignatureRefinement} using the given number
+     * of threads. A parallelism of {@code 1} yields the {@link #SEQUENTIAL} options.
+     *
+     * @param parallelism
+     *         the number of threads to use
+     *
+     * @return the options for the given parallelism
+     */
+    public static RefinementOptions parallel(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        return parallelism == 1 ? SEQUENTIAL : new RefinementOptions(parallelism);
+    }
+
+    /**
+     * Returns the number of threads used for refining partitions.
+     *
+     * @return the number of threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Computes the coarsest stable partition of the given (initialized) partition refinement data structure, whose
+     * predecessor data describes a complete deterministic transition function.
+     *
+     * @param pt
+     *         the partition refinement data structure
+     */
+    public void computeCoarsestStablePartition(PaigeTarjan pt) {
+        if (parallelism == 1) {
+            pt.initWorklist(false);
+            pt.computeCoarsestStablePartition();
+        } else {
+            SignatureRefinement.computeCoarsestStablePartition(pt, parallelism);
+        }
+    }
+}
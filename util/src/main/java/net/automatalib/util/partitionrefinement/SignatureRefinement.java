@@ -0,0 +1,261 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.partitionrefinement;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A parallel, round-based partition refinement algorithm for deterministic transition functions.
+ * <p>
+ * In each round, every state is assigned the <i>signature</i> consisting of its current block and the blocks of its
+ * successors. States with equal signatures form the blocks of the next round. The signatures are computed and interned
+ * (in a lock-free hash table) concurrently by a {@link ForkJoinPool}, and the new blocks are numbered in the order of
+ * their smallest state, so that the result does not depend on the number of threads used. The refinement stops once a
+ * round does not split any block.
+ * <p>
+ * Each round takes {@code O(nk / p)} time (for {@code n} states, {@code k} inputs, and {@code p} threads), and the
+ * number of rounds is bounded by the length of the longest shortest separating word of two states. For automata whose
+ * states are separated only by very long words (e.g., long chains), the sequential {@link PaigeTarjan} algorithm may
+ * therefore be faster.
+ * <p>
+ * Like {@link PaigeTarjan}, this is a very low-level class that should be hidden behind a facade (see
+ * {@link RefinementOptions}).
+ */
+public final class SignatureRefinement {
+
+    private static final int THRESHOLD = 4096;
+    private static final int MAX_TABLE_CAPACITY = 1 << 30;
+
+    private SignatureRefinement() {}
+
+    /**
+     * Refines the partition of the given (initialized) partition refinement data structure until it stabilizes. The
+     * predecessor data of the data structure must describe a complete deterministic transition function (for all states
+     * contained in a block), as, e.g., established by the methods of {@link PaigeTarjanInitializers}. After this method
+     * returns, the data structure contains the coarsest stable partition.
+     *
+     * @param pt
+     *         the partition refinement data structure
+     * @param parallelism
+     *         the number of threads to use
+     */
+    public static void computeCoarsestStablePartition(PaigeTarjan pt, int parallelism) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            computeCoarsestStablePartition(pt, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Refines the partition of the given (initialized) partition refinement data structure until it stabilizes, using
+     * the given {@link ForkJoinPool}.
+     *
+     * @param pt
+     *         the partition refinement data structure
+     * @param pool
+     *         the pool to execute the concurrent tasks
+     *
+     * @see #computeCoarsestStablePartition(PaigeTarjan, int)
+     */
+    public static void computeCoarsestStablePartition(PaigeTarjan pt, ForkJoinPool pool) {
+        final int numStates = pt.numStates;
+        final int numInputs = pt.numInputs;
+
+        int[] blocks = new int[numStates];
+        int[] nextBlocks = new int[numStates];
+        final int[] successors = new int[numStates * numInputs];
+        final int[] representatives = new int[numStates];
+        final int[] idForRepresentative = new int[numStates];
+
+        for (int i = 0; i < numStates; i++) {
+            final Block b = pt.blockForState[i];
+            blocks[i] = b == null ? -1 : b.id;
+        }
+
+        // invert the predecessor data. Since the transition function is deterministic, all writes are disjoint
+        pool.invoke(new RangeTask(0, numStates, (low, high) -> collectSuccessors(pt, successors, low, high)));
+
+        int numBlocks = pt.getNumBlocks();
+        final AtomicIntegerArray table = new AtomicIntegerArray(tableCapacity(numStates));
+
+        while (true) {
+            final int[] currBlocks = blocks;
+
+            pool.invoke(new RangeTask(0, numStates, (low, high) -> {
+                for (int s = low; s < high; s++) {
+                    if (currBlocks[s] >= 0) {
+                        representatives[s] = intern(table, currBlocks, successors, numInputs, s);
+                    }
+                }
+            }));
+
+            // number the new blocks by their first state, so that the result is deterministic
+            Arrays.fill(idForRepresentative, -1);
+            int numNextBlocks = 0;
+            for (int s = 0; s < numStates; s++) {
+                if (blocks[s] < 0) {
+                    nextBlocks[s] = -1;
+                } else {
+                    final int rep = representatives[s];
+                    int id = idForRepresentative[rep];
+                    if (id < 0) {
+                        id = numNextBlocks++;
+                        idForRepresentative[rep] = id;
+                    }
+                    nextBlocks[s] = id;
+                }
+            }
+
+            final int[] tmp = blocks;
+            blocks = nextBlocks;
+            nextBlocks = tmp;
+
+            if (numNextBlocks == numBlocks) {
+                break;
+            }
+            numBlocks = numNextBlocks;
+
+            pool.invoke(new RangeTask(0, table.length(), (low, high) -> {
+                for (int i = low; i < high; i++) {
+                    table.set(i, 0);
+                }
+            }));
+        }
+
+        pt.setPartition(blocks, numBlocks);
+    }
+
+    /*
+     * Returns a power of two between 2n and 4n (for n states), clamped to the largest power of two that is a valid
+     * array size. Since the table contains at most one entry per state, probing terminates as long as the capacity
+     * exceeds the number of states.
+     */
+    private static int tableCapacity(int numStates) {
+        if (numStates >= MAX_TABLE_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Signature refinement supports at most " + (MAX_TABLE_CAPACITY - 1) + " states, but got " +
+                    numStates);
+        }
+        final long capacity = Long.highestOneBit(Math.max(numStates, 1)) << 2;
+        return (int) Math.min(capacity, MAX_TABLE_CAPACITY);
+    }
+
+    private static void collectSuccessors(PaigeTarjan pt, int[] successors, int low, int high) {
+        final int numStates = pt.numStates;
+        final int numInputs = pt.numInputs;
+        final int[] predOfsData = pt.predOfsData;
+        final int[] predData = pt.predData;
+
+        int predOfsBase = pt.predOfsDataLow;
+        for (int i = 0; i < numInputs; i++) {
+            for (int state = low; state < high; state++) {
+                final int predOfsIdx = predOfsBase + state;
+                final int predLow = predOfsData[predOfsIdx], predHigh = predOfsData[predOfsIdx + 1];
+                for (int k = predLow; k < predHigh; k++) {
+                    successors[predData[k] * numInputs + i] = state;
+                }
+            }
+            predOfsBase += numStates;
+        }
+    }
+
+    /*
+     * Returns the representative (i.e., the first state that has been interned) of the signature class of the given
+     * state.
+     */
+    private static int intern(AtomicIntegerArray table, int[] blocks, int[] successors, int numInputs, int state) {
+        final int mask = table.length() - 1;
+        int idx = hash(blocks, successors, numInputs, state) & mask;
+
+        while (true) {
+            final int entry = table.get(idx);
+            if (entry == 0) {
+                if (table.compareAndSet(idx, 0, state + 1)) {
+                    return state;
+                }
+                continue; // re-read the slot that has just been taken
+            }
+
+            final int other = entry - 1;
+            if (sameSignature(blocks, successors, numInputs, state, other)) {
+                return other;
+            }
+            idx = (idx + 1) & mask;
+        }
+    }
+
+    private static int hash(int[] blocks, int[] successors, int numInputs, int state) {
+        int h = blocks[state];
+        int succIdx = state * numInputs;
+        for (int i = 0; i < numInputs; i++) {
+            h = 31 * h + blocks[successors[succIdx++]];
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean sameSignature(int[] blocks, int[] successors, int numInputs, int s1, int s2) {
+        if (blocks[s1] != blocks[s2]) {
+            return false;
+        }
+
+        int idx1 = s1 * numInputs;
+        int idx2 = s2 * numInputs;
+        for (int i = 0; i < numInputs; i++) {
+            if (blocks[successors[idx1++]] != blocks[successors[idx2++]]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+
+        void apply(int low, int high);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int low;
+        private final int high;
+        private final RangeAction action;
+
+        RangeTask(int low, int high, RangeAction action) {
+            this.low = low;
+            this.high = high;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > THRESHOLD) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new RangeTask(low, mid, action), new RangeTask(mid, high, action));
+            } else {
+                action.apply(low, high);
+            }
+        }
+    }
+}
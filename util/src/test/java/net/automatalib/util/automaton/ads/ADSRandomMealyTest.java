@@ -17,15 +17,22 @@ package net.automatalib.util.automaton.ads;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.Pair;
+import net.automatalib.graph.ads.ADSNode;
 import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
@@ -98,4 +105,36 @@ public class ADSRandomMealyTest extends AbstractADSTest {
             super.verifyFailure(target, targetStates.subList(0, this.target.size() / 2));
         }
     }
+
+    @Test
+    public void testParallelLeeYannakakis() {
+
+        final Alphabet<Integer> alphabet = this.target.getInputAlphabet();
+        final LYResult<Integer, Integer, Character> sequential = LeeYannakakis.compute(this.target, alphabet);
+        final LYResult<Integer, Integer, Character> parallel = LeeYannakakis.computeParallel(this.target, alphabet, 4);
+
+        Assert.assertEquals(parallel.isPresent(), sequential.isPresent());
+        Assert.assertEquals(parallel.getIndistinguishableStates(), sequential.getIndistinguishableStates());
+
+        if (sequential.isPresent()) {
+            final ADSNode<Integer, Integer, Character> sequentialADS = sequential.get();
+            final ADSNode<Integer, Integer, Character> parallelADS = parallel.get();
+
+            Assert.assertNotNull(sequentialADS);
+            Assert.assertNotNull(parallelADS);
+
+            super.verifySuccess(this.target, new HashSet<>(this.target.getStates()), parallelADS);
+            Assert.assertEquals(collectTraces(parallelADS), collectTraces(sequentialADS));
+        }
+    }
+
+    private static Map<Integer, Pair<Word<Integer>, Word<Character>>> collectTraces(ADSNode<Integer, Integer, Character> ads) {
+        final Map<Integer, Pair<Word<Integer>, Word<Character>>> result = new HashMap<>();
+
+        for (ADSNode<Integer, Integer, Character> leaf : ADSUtil.collectLeaves(ads)) {
+            result.put(leaf.getHypothesisState(), ADSUtil.buildTraceForNode(leaf));
+        }
+
+        return result;
+    }
 }
@@ -17,9 +17,12 @@ package net.automatalib.util.automaton.conformance;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
@@ -96,7 +99,32 @@ public class WMethodTestsIteratorTest {
         this.verifyIterator(new WMethodTestsIterator<>(dfa, alphabet, lookahead), expectedWords);
     }
 
-    private void verifyIterator(WMethodTestsIterator<Integer> iter, Collection<Word<Integer>> expectedTests) {
+    @Test
+    public void testSpliterator() {
+        final int lookahead = 2;
+
+        final List<Word<Integer>> iteratorWords =
+                IteratorUtil.list(new WMethodTestsIterator<>(dfa, alphabet, lookahead));
+        final Spliterator<Word<Integer>> spliterator = new WMethodTestsSpliterator<>(dfa, alphabet, lookahead, true);
+
+        Assert.assertEquals(spliterator.getExactSizeIfKnown(), iteratorWords.size());
+
+        final List<Word<Integer>> sequentialWords = StreamSupport.stream(spliterator, false).collect(Collectors.toList());
+        final List<Word<Integer>> parallelWords =
+                StreamSupport.stream(new WMethodTestsSpliterator<>(dfa, alphabet, lookahead, true), true)
+                             .collect(Collectors.toList());
+        final List<Word<Integer>> unorderedWords =
+                StreamSupport.stream(new WMethodTestsSpliterator<>(dfa, alphabet, lookahead, false), true)
+                             .collect(Collectors.toList());
+
+        // the ordered mode coincides with the order of the iterator
+        Assert.assertEquals(sequentialWords, iteratorWords);
+        Assert.assertEquals(parallelWords, iteratorWords);
+
+        this.verifyIterator(unorderedWords.iterator(), iteratorWords);
+    }
+
+    private void verifyIterator(Iterator<Word<Integer>> iter, Collection<Word<Integer>> expectedTests) {
         final List<Word<Integer>> expectedWMethodWords = new ArrayList<>(expectedTests);
         final List<Word<Integer>> wMethodWords = IteratorUtil.list(iter);
 
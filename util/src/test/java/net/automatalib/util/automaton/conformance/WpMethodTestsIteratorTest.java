@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
@@ -92,6 +94,48 @@ public class WpMethodTestsIteratorTest {
         checkTestWords(iteratorWords, wpMethodWords);
     }
 
+    @Test
+    public void testSpliterator() {
+        final int depth = 2;
+
+        final List<Word<Integer>> iteratorWords = IteratorUtil.list(new WpMethodTestsIterator<>(dfa, alphabet, depth));
+        final List<Word<Integer>> sequentialWords =
+                StreamSupport.stream(new WpMethodTestsSpliterator<>(dfa, alphabet, depth, true), false)
+                             .collect(Collectors.toList());
+        final List<Word<Integer>> parallelWords =
+                StreamSupport.stream(new WpMethodTestsSpliterator<>(dfa, alphabet, depth, true), true)
+                             .collect(Collectors.toList());
+        final List<Word<Integer>> unorderedWords =
+                StreamSupport.stream(new WpMethodTestsSpliterator<>(dfa, alphabet, depth, false), true)
+                             .collect(Collectors.toList());
+
+        // the ordered mode is deterministic
+        Assert.assertEquals(parallelWords, sequentialWords);
+
+        checkTestWords(sequentialWords, iteratorWords);
+        checkTestWords(unorderedWords, iteratorWords);
+    }
+
+    @Test
+    public void testSpliteratorSplitAfterAdvance() {
+        final List<Word<Integer>> expected =
+                StreamSupport.stream(new WpMethodTestsSpliterator<>(dfa, alphabet, 1, true), false)
+                             .collect(Collectors.toList());
+
+        final List<Word<Integer>> actual = new ArrayList<>();
+        final Spliterator<Word<Integer>> spliterator = new WpMethodTestsSpliterator<>(dfa, alphabet, 1, true);
+
+        // partially consume the first group before splitting
+        Assert.assertTrue(spliterator.tryAdvance(actual::add));
+        final Spliterator<Word<Integer>> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+
+        prefix.forEachRemaining(actual::add);
+        spliterator.forEachRemaining(actual::add);
+
+        Assert.assertEquals(actual, expected);
+    }
+
     private <I extends Comparable<I>> void checkTestWords(List<Word<I>> actual, List<Word<I>> expected) {
         actual.sort(CmpUtil.lexComparator());
         expected.sort(CmpUtil.lexComparator());
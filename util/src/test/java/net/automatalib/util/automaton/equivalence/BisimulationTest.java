@@ -17,13 +17,16 @@ package net.automatalib.util.automaton.equivalence;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.common.util.Pair;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -76,6 +79,115 @@ public class BisimulationTest {
         Assert.assertFalse(equivalentStates.contains(Pair.of(as0, bs0)));
     }
 
+    @Test
+    public void bisimTestRelation() {
+
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'b');
+        final CompactNFA<String> a = new CompactNFA<>(alphabet);
+        final CompactNFA<String> b = new CompactNFA<>(alphabet);
+
+        // a: s0 -a-> {s1, s2}, s1 -b-> s1, s2 (deadlock)
+        final int as0 = a.addInitialState();
+        final int as1 = a.addState();
+        final int as2 = a.addState();
+        a.addTransition(as0, "a", as1);
+        a.addTransition(as0, "a", as2);
+        a.addTransition(as1, "b", as1);
+
+        // b: t0 -a-> t1, t1 -b-> t1, t2 (deadlock)
+        final int bs0 = b.addInitialState();
+        final int bs1 = b.addState();
+        final int bs2 = b.addState();
+        b.addTransition(bs0, "a", bs1);
+        b.addTransition(bs1, "b", bs1);
+
+        final BisimulationRelation<Integer, Integer> rel = Bisimulation.bisimulationRelation(a, b, alphabet);
+
+        Assert.assertFalse(rel.isBisimilar(as0, bs0));
+        Assert.assertTrue(rel.isBisimilar(as1, bs1));
+        Assert.assertTrue(rel.isBisimilar(as2, bs2));
+        Assert.assertFalse(rel.isBisimilar(as1, bs2));
+        Assert.assertEquals(rel.getNumBlocks(), 4);
+        Assert.assertEquals(rel.toSet(), naiveBisimulation(a, b, alphabet));
+    }
+
+    @Test
+    public void bisimTestRandom() {
+
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 50; i++) {
+            final CompactNFA<Character> a = TabakovVardiRandomAutomata.generateNFA(random, 8, 1.25f, 0.5f, alphabet);
+            final CompactNFA<Character> b = TabakovVardiRandomAutomata.generateNFA(random, 6, 1.25f, 0.5f, alphabet);
+
+            Assert.assertEquals(Bisimulation.bisimulationEquivalenceRelation(a, b, alphabet),
+                                naiveBisimulation(a, b, alphabet));
+        }
+    }
+
+    @Test
+    public void bisimTestEmpty() {
+
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final CompactNFA<Character> a = new CompactNFA<>(alphabet);
+        final CompactNFA<Character> b = new CompactNFA<>(alphabet);
+
+        final BisimulationRelation<Integer, Integer> rel = Bisimulation.bisimulationRelation(a, b, alphabet);
+        Assert.assertEquals(rel.getNumBlocks(), 0);
+        Assert.assertTrue(rel.toSet().isEmpty());
+    }
+
+    /**
+     * Reference implementation: the greatest fixpoint of the bisimulation conditions, starting from the full relation.
+     */
+    private static <I> Set<Pair<Integer, Integer>> naiveBisimulation(CompactNFA<I> a, CompactNFA<I> b, Collection<I> inputs) {
+        final Set<Pair<Integer, Integer>> rel = new HashSet<>();
+        for (Integer p : a.getStates()) {
+            for (Integer q : b.getStates()) {
+                rel.add(Pair.of(p, q));
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Pair<Integer, Integer> pair : new HashSet<>(rel)) {
+                if (!simulates(a, b, pair.getFirst(), pair.getSecond(), inputs, rel, false) ||
+                    !simulates(b, a, pair.getSecond(), pair.getFirst(), inputs, rel, true)) {
+                    rel.remove(pair);
+                    changed = true;
+                }
+            }
+        }
+
+        return rel;
+    }
+
+    private static <I> boolean simulates(CompactNFA<I> x,
+                                         CompactNFA<I> y,
+                                         Integer p,
+                                         Integer q,
+                                         Collection<I> inputs,
+                                         Set<Pair<Integer, Integer>> rel,
+                                         boolean swapped) {
+        for (I i : inputs) {
+            for (Integer ps : x.getSuccessors(p, i)) {
+                boolean found = false;
+                for (Integer qs : y.getSuccessors(q, i)) {
+                    if (rel.contains(swapped ? Pair.of(qs, ps) : Pair.of(ps, qs))) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private static <AS, I, AT, A extends Automaton<AS, I, AT>, BS, BT, B extends Automaton<BS, I, BT>> boolean testBisimulationEquivalence(
             A a,
             B b,
@@ -23,6 +23,7 @@ import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.concept.DetSuffixOutputAutomaton;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
@@ -155,6 +156,79 @@ public class CharacterizingSetsTest {
         checkCharacterizingSet(dfa, characterizingSet);
     }
 
+    @Test
+    public void splittingTreeTest() {
+        checkSplittingTree(DFA, INPUT_ALPHABET);
+        checkSplittingTree(MEALY, INPUT_ALPHABET);
+        checkSplittingTree(MOORE, INPUT_ALPHABET);
+
+        // non-minimal and partial automata
+        final CompactMealy<Integer, Character> partial = new CompactMealy<>(MEALY);
+        partial.removeAllTransitions(partial.getState(0), 0);
+        partial.removeAllTransitions(partial.getState(1), 1);
+        final Integer copy = partial.addState();
+        final Integer orig = partial.getState(2);
+        for (Integer i : INPUT_ALPHABET) {
+            partial.addTransition(copy, i, partial.getSuccessor(orig, i), partial.getOutput(orig, i));
+        }
+
+        checkSplittingTree(partial, INPUT_ALPHABET);
+    }
+
+    private <S, I> void checkSplittingTree(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
+                                           Alphabet<I> inputs) {
+        final SplittingTree<S, I> tree = CharacterizingSets.splittingTree(automaton, inputs);
+
+        for (S s1 : automaton) {
+            for (S s2 : automaton) {
+                final Word<I> separator = tree.getSeparator(s1, s2);
+                final Word<I> expected = Automata.findSeparatingWord(automaton, s1, s2, inputs);
+
+                if (expected == null) {
+                    Assert.assertNull(separator);
+                    Assert.assertTrue(tree.isEquivalent(s1, s2));
+                } else {
+                    Assert.assertNotNull(separator);
+                    Assert.assertFalse(tree.isEquivalent(s1, s2));
+                    Assert.assertTrue(isSeparating(automaton, s1, s2, separator));
+                    Assert.assertTrue(tree.getStateCharacterizingSet(s1).contains(separator));
+                    Assert.assertTrue(tree.getCharacterizingSet().contains(separator));
+                }
+            }
+        }
+    }
+
+    private static <S, I, T> boolean isSeparating(UniversalDeterministicAutomaton<S, I, T, ?, ?> automaton,
+                                                  S s1,
+                                                  S s2,
+                                                  Word<I> word) {
+        S curr1 = s1;
+        S curr2 = s2;
+
+        if (!Objects.equals(automaton.getStateProperty(curr1), automaton.getStateProperty(curr2))) {
+            return true;
+        }
+
+        for (I sym : word) {
+            final T t1 = automaton.getTransition(curr1, sym);
+            final T t2 = automaton.getTransition(curr2, sym);
+
+            if (t1 == null || t2 == null) {
+                return t1 != t2;
+            }
+
+            curr1 = automaton.getSuccessor(t1);
+            curr2 = automaton.getSuccessor(t2);
+
+            if (!Objects.equals(automaton.getTransitionProperty(t1), automaton.getTransitionProperty(t2)) ||
+                !Objects.equals(automaton.getStateProperty(curr1), automaton.getStateProperty(curr2))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private <S, I> void checkCharacterizingSet(DetSuffixOutputAutomaton<S, I, ?, ?> automaton,
                                                Collection<Word<I>> characterizingSet) {
         for (S s : automaton) {
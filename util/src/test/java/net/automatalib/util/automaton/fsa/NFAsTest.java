@@ -15,12 +15,15 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.Random;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import net.automatalib.word.Word;
 import org.testng.Assert;
@@ -138,6 +141,65 @@ public class NFAsTest {
         Assert.assertFalse(dfa.accepts(Word.fromSymbols(0, 1, 0, 1, 0)));
     }
 
+    @Test
+    public void testCompactDeterminize() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactNFA<Integer> nfa = TabakovVardiRandomAutomata.generateNFA(random, 15, 1.25f, 0.5f, alphabet);
+
+            for (boolean partial : new boolean[] {false, true}) {
+                // the generic subset construction
+                final CompactDFA<Integer> expected = new CompactDFA<>(alphabet);
+                NFAs.determinize(nfa, alphabet, expected, partial, false);
+
+                final CompactDFA<Integer> actual = NFAs.determinize(nfa, alphabet, partial, false);
+                Assert.assertEquals(actual.size(), expected.size());
+                Assert.assertTrue(Automata.testEquivalence(actual, expected, alphabet));
+
+                final CompactDFA<Integer> minimized = NFAs.determinize(nfa, alphabet, partial, true);
+                Assert.assertEquals(minimized.size(), Automata.invasiveMinimize(new CompactDFA<>(expected), alphabet).size());
+                Assert.assertTrue(Automata.testEquivalence(minimized, expected, alphabet));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelDeterminize() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactNFA<Integer> nfa = TabakovVardiRandomAutomata.generateNFA(random, 30, 1.5f, 0.5f, alphabet);
+
+            for (boolean partial : new boolean[] {false, true}) {
+                final CompactDFA<Integer> expected = NFAs.determinize(nfa, alphabet, partial, false);
+
+                for (int parallelism : new int[] {1, 2, 4}) {
+                    final CompactDFA<Integer> actual =
+                            NFAs.determinizeParallel(nfa, alphabet, partial, false, parallelism);
+                    assertIdentical(actual, expected, alphabet);
+                }
+            }
+
+            final CompactDFA<Integer> minimized = NFAs.determinizeParallel(nfa, 3);
+            Assert.assertTrue(Automata.testEquivalence(minimized, NFAs.determinize(nfa), alphabet));
+        }
+    }
+
+    private static <I> void assertIdentical(CompactDFA<I> actual, CompactDFA<I> expected, Alphabet<I> alphabet) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+
     private <I> void assertEquivalence(NFA<?, I> nfa1, NFA<?, I> nfa2, Alphabet<I> inputs) {
         Assert.assertTrue(Automata.testEquivalence(NFAs.determinize(nfa1, inputs),
                                                    NFAs.determinize(nfa2, inputs),
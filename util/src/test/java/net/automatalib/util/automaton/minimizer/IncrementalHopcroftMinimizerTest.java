@@ -0,0 +1,137 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization;
+import net.automatalib.util.automaton.minimizer.hopcroft.IncrementalHopcroftMinimizer;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IncrementalHopcroftMinimizerTest {
+
+    private static final int ROUNDS = 20;
+
+    @Test
+    public void testGrowingMealy() {
+        final Random random = new Random(42);
+        final Alphabet<String> alphabet = new GrowingMapAlphabet<>(Arrays.asList("a", "b"));
+        final CompactMealy<String, Character> mealy = new CompactMealy<>(alphabet);
+
+        // few outputs, so that there are many equivalent states
+        addRandomStates(random, mealy, 20);
+        mealy.setInitial(0, true);
+
+        final IncrementalHopcroftMinimizer<Integer, String, Void, Character> minimizer =
+                new IncrementalHopcroftMinimizer<>(mealy,
+                                                   alphabet,
+                                                   AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES);
+
+        checkMealy(minimizer, mealy, alphabet);
+        // no changes
+        checkMealy(minimizer, mealy, alphabet);
+
+        for (int r = 0; r < ROUNDS; r++) {
+            addRandomStates(random, mealy, 1 + random.nextInt(5));
+
+            for (int i = 0; i < 3; i++) {
+                final int state = random.nextInt(mealy.size());
+                mealy.setTransition(state,
+                                    random.nextInt(alphabet.size()),
+                                    random.nextInt(mealy.size()),
+                                    (char) ('x' + random.nextInt(2)));
+                minimizer.stateChanged(state);
+            }
+
+            if (r % 7 == 6) {
+                final int newIdx = alphabet.size();
+                mealy.addAlphabetSymbol("s" + newIdx);
+                for (int s = 0; s < mealy.size(); s++) {
+                    mealy.setTransition(s, newIdx, random.nextInt(mealy.size()), (char) ('x' + random.nextInt(2)));
+                }
+            }
+
+            checkMealy(minimizer, mealy, alphabet);
+        }
+    }
+
+    @Test
+    public void testGrowingDFA() {
+        final Random random = new Random(1337);
+        final Alphabet<String> alphabet = new GrowingMapAlphabet<>(Arrays.asList("a", "b", "c"));
+        final CompactDFA<String> dfa = new CompactDFA<>(alphabet);
+
+        for (int i = 0; i < 30; i++) {
+            dfa.addState(random.nextInt(4) == 0);
+        }
+        for (int s = 0; s < dfa.size(); s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                dfa.setTransition(s, i, random.nextInt(dfa.size()));
+            }
+        }
+        dfa.setInitial(0, true);
+
+        final IncrementalHopcroftMinimizer<Integer, String, Boolean, Void> minimizer =
+                new IncrementalHopcroftMinimizer<>(dfa, alphabet, AutomatonInitialPartitioning.BY_STATE_PROPERTY);
+
+        for (int r = 0; r < ROUNDS; r++) {
+            final int state = random.nextInt(dfa.size());
+            if (r % 2 == 0) {
+                dfa.setAccepting(state, !dfa.isAccepting(state));
+            } else {
+                dfa.setTransition(state, random.nextInt(alphabet.size()), random.nextInt(dfa.size()));
+            }
+            minimizer.stateChanged(state);
+
+            final CompactDFA<String> expected = HopcroftMinimization.minimizeDFA(dfa, alphabet);
+            final CompactDFA<String> actual = minimizer.minimize(new CompactDFA.Creator<>());
+
+            Assert.assertEquals(actual.size(), expected.size());
+            Assert.assertTrue(Automata.testEquivalence(actual, dfa, alphabet));
+        }
+    }
+
+    private static void addRandomStates(Random random, CompactMealy<String, Character> mealy, int num) {
+        final int oldSize = mealy.size();
+        for (int i = 0; i < num; i++) {
+            mealy.addState();
+        }
+        final int numInputs = mealy.getInputAlphabet().size();
+        for (int s = oldSize; s < mealy.size(); s++) {
+            for (int i = 0; i < numInputs; i++) {
+                mealy.setTransition(s, i, random.nextInt(mealy.size()), (char) ('x' + random.nextInt(2)));
+            }
+        }
+    }
+
+    private static void checkMealy(IncrementalHopcroftMinimizer<Integer, String, Void, Character> minimizer,
+                                   CompactMealy<String, Character> mealy,
+                                   Alphabet<String> alphabet) {
+        final CompactMealy<String, Character> expected = HopcroftMinimization.minimizeMealy(mealy, alphabet);
+        final CompactMealy<String, Character> actual = minimizer.minimize(new CompactMealy.Creator<>());
+
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertTrue(Automata.testEquivalence(actual, mealy, alphabet));
+    }
+}
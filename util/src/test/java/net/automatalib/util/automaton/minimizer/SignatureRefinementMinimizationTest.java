@@ -0,0 +1,97 @@
+/* Copyright (C) 2013-2024 TU Dortmund University
+ * This file is part of AutomataLib, http://www.automatalib.net/.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization;
+import net.automatalib.util.automaton.minimizer.hopcroft.HopcroftMinimization.PruningMode;
+import net.automatalib.util.automaton.minimizer.paigetarjan.PaigeTarjanMinimization;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import net.automatalib.util.partitionrefinement.RefinementOptions;
+import net.automatalib.util.partitionrefinement.StateSignature;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SignatureRefinementMinimizationTest extends AbstractMinimizationTest {
+
+    private static final RefinementOptions OPTIONS = RefinementOptions.parallel(4);
+
+    @Override
+    protected <I> DFA<?, I> minimizeDFA(MutableDFA<?, I> dfa, Alphabet<I> alphabet) {
+        return PaigeTarjanMinimization.minimizeUniversal(dfa,
+                                                         alphabet,
+                                                         new CompactDFA.Creator<>(),
+                                                         AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                                         Boolean.FALSE,
+                                                         OPTIONS);
+    }
+
+    @Override
+    protected <I, O> MealyMachine<?, I, ?, O> minimizeMealy(MutableMealyMachine<?, I, ?, O> mealy,
+                                                            Alphabet<I> alphabet) {
+        return PaigeTarjanMinimization.minimizeUniversal(mealy,
+                                                         alphabet,
+                                                         new CompactMealy.Creator<>(),
+                                                         AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                         StateSignature.byTransitionProperties(new Object[alphabet.size()]),
+                                                         OPTIONS);
+    }
+
+    @Override
+    protected boolean isPruned() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsPartial() {
+        return true;
+    }
+
+    @Test
+    public void testLargeRandomMealy() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> inputs = Alphabets.integers(0, 3);
+        final Alphabet<Character> outputs = Alphabets.characters('a', 'b');
+
+        // large enough to be split into several tasks, few outputs so that many states are equivalent
+        final CompactMealy<Integer, Character> mealy = RandomAutomata.randomMealy(random, 20_000, inputs, outputs);
+
+        for (PruningMode mode : PruningMode.values()) {
+            final CompactMealy<Integer, Character> expected = HopcroftMinimization.minimizeMealy(mealy, inputs, mode);
+            final CompactMealy<Integer, Character> actual =
+                    HopcroftMinimization.minimizeUniversal(mealy,
+                                                           inputs,
+                                                           new CompactMealy.Creator<>(),
+                                                           AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                           mode,
+                                                           OPTIONS);
+
+            Assert.assertEquals(actual.size(), expected.size());
+            Assert.assertTrue(Automata.testEquivalence(actual, expected, inputs));
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package net.automatalib.util.partitionrefinement;
 
+import java.util.Random;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
@@ -23,6 +25,7 @@ import net.automatalib.util.automaton.Automata;
 import net.automatalib.util.automaton.builder.AutomatonBuilders;
 import net.automatalib.util.automaton.equivalence.NearLinearEquivalenceTest;
 import net.automatalib.util.automaton.minimizer.paigetarjan.PaigeTarjanMinimization;
+import net.automatalib.util.automaton.random.RandomAutomata;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -160,4 +163,61 @@ public class PaigeTarjanTest {
         Assert.assertEquals(minimized.size(), expectedSize);
         Assert.assertEquals(Automata.testEquivalence(mealy, minimized, mealy.getInputAlphabet()), equivalent);
     }
+
+    @Test
+    public void testIntClassification() {
+        final Random random = new Random(42);
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final CompactDFA<Character> complete = RandomAutomata.randomDFA(random, 50, alphabet, false);
+        final CompactDFA<Character> partial = new CompactDFA<>(complete);
+
+        for (int i = 0; i < 20; i++) {
+            final Character symbol = alphabet.getSymbol(random.nextInt(alphabet.size()));
+            partial.removeAllTransitions(random.nextInt(partial.size()), symbol);
+        }
+
+        for (boolean prune : new boolean[] {false, true}) {
+            final PaigeTarjan expected = new PaigeTarjan();
+            PaigeTarjanInitializers.initCompleteDeterministic(expected, complete, complete::isAccepting, prune);
+
+            final PaigeTarjan actual = new PaigeTarjan();
+            PaigeTarjanInitializers.initCompleteDeterministic(actual,
+                                                              complete,
+                                                              s -> complete.isAccepting(s) ? 1 : 0,
+                                                              2,
+                                                              prune);
+
+            checkPartitions(expected, actual, complete.size());
+        }
+
+        final PaigeTarjan expected = new PaigeTarjan();
+        PaigeTarjanInitializers.initDeterministic(expected, partial, partial::isAccepting, Boolean.FALSE);
+
+        final PaigeTarjan actual = new PaigeTarjan();
+        PaigeTarjanInitializers.initDeterministic(actual, partial, s -> partial.isAccepting(s) ? 1 : 0, 2, 0);
+
+        checkPartitions(expected, actual, partial.size() + 1);
+    }
+
+    private static void checkPartitions(PaigeTarjan expected, PaigeTarjan actual, int numStates) {
+        expected.initWorklist(false);
+        expected.computeCoarsestStablePartition();
+        actual.initWorklist(false);
+        actual.computeCoarsestStablePartition();
+
+        Assert.assertEquals(actual.getNumBlocks(), expected.getNumBlocks());
+
+        for (int i = 0; i < numStates; i++) {
+            final Block e1 = expected.getBlockForState(i);
+            final Block a1 = actual.getBlockForState(i);
+            Assert.assertEquals(a1 == null, e1 == null);
+
+            for (int j = i + 1; j < numStates && e1 != null; j++) {
+                final Block e2 = expected.getBlockForState(j);
+                final Block a2 = actual.getBlockForState(j);
+                Assert.assertEquals(a2 == null, e2 == null);
+                Assert.assertEquals(a1 == a2, e1 == e2);
+            }
+        }
+    }
 }